@@ -10,13 +10,63 @@ repositories {
     mavenCentral()
 }
 
+/*
+ * The simulation core: model, collisions, effects, loops and deserialization.
+ * It must not depend on JavaFX, so that games can run headless.
+ */
+val core: SourceSet by sourceSets.creating
+
+/*
+ * Kernels using the incubating Vector API, loaded by the core only when the
+ * jdk.incubator.vector module is added to the runtime.
+ */
+val vector: SourceSet by sourceSets.creating {
+    compileClasspath += core.output + core.compileClasspath
+    runtimeClasspath += core.output + core.runtimeClasspath
+}
+
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
+/*
+ * JMH benchmarks measuring how collision handling scales on synthetic worlds.
+ * They are not part of the build: run them with ./gradlew jmh.
+ */
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += core.output + core.compileClasspath
+    runtimeClasspath += core.output + vector.output + core.runtimeClasspath
+}
+
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+    options.compilerArgs.addAll(vectorModule)
+}
+
+configurations.implementation {
+    extendsFrom(configurations[core.implementationConfigurationName])
+}
+
+configurations.compileOnly {
+    extendsFrom(configurations[core.compileOnlyConfigurationName])
+}
+
 application {
     mainClass.set("com.project.paradoxplatformer.App")
+    applicationDefaultJvmArgs = vectorModule
 }
 
 dependencies {
 
-    compileOnly("com.github.spotbugs:spotbugs-annotations:4.8.6")
+    "coreCompileOnly"("com.github.spotbugs:spotbugs-annotations:4.8.6")
+
+    val slf4jVersion = "2.0.16"
+    "coreImplementation"("org.slf4j:slf4j-api:$slf4jVersion")
+    "coreImplementation"("org.apache.commons:commons-lang3:3.0")
+    "coreImplementation"("com.fasterxml.jackson.core:jackson-databind:2.12.0")
+    "coreImplementation"("com.fasterxml.jackson.core:jackson-core:2.12.0")
+    "coreImplementation"("com.fasterxml.jackson.core:jackson-annotations:2.12.0")
+    "coreImplementation"("com.google.guava:guava:11.0.2")
+
+    implementation(core.output)
+    runtimeOnly(vector.output)
 
     val javaFxVersion = "21"
     val javaFxModules = listOf("base", "controls", "fxml", "swing", "graphics")
@@ -30,27 +80,53 @@ dependencies {
         }
     }
 
-    val slf4jVersion = "2.0.16"
-    implementation("org.slf4j:slf4j-api:$slf4jVersion")
     runtimeOnly("ch.qos.logback:logback-classic:1.5.11")
 
+    val jmhVersion = "1.37"
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+
     val jUnitVersion = "5.11.2"
     testImplementation("org.junit.jupiter:junit-jupiter-api:$jUnitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$jUnitVersion")
     
-    implementation("org.apache.commons:commons-lang3:3.0")
-    implementation("com.fasterxml.jackson.core:jackson-databind:2.12.0")
-    implementation("com.fasterxml.jackson.core:jackson-core:2.12.0")
-    implementation("com.fasterxml.jackson.core:jackson-annotations:2.12.0")
-    implementation("com.google.guava:guava:11.0.2")
     implementation("com.omertron:API-OMDB:1.5")
     implementation("org.jooq:jool:0.9.15")
 }
 
 tasks.test {
     useJUnitPlatform()
+    jvmArgs(vectorModule)
     testLogging {
         events(*org.gradle.api.tasks.testing.logging.TestLogEvent.values())
         showStandardStreams = true
     }
 }
+
+/*
+ * Runs the benchmarks, with the allocation rate reported by the GC profiler.
+ * JMH options can be passed with -PjmhArgs, e.g. -PjmhArgs="Detector -p count=1000".
+ */
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the collision benchmarks."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    jvmArgs(vectorModule)
+    args("-prof", "gc", "-rf", "json", "-rff", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.path)
+    doFirst { layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs() }
+    providers.gradleProperty("jmhArgs").orNull?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
+
+tasks.jar {
+    from(core.output)
+    from(vector.output)
+}
+
+tasks.register<Jar>("coreJar") {
+    description = "Assembles a jar of the headless simulation core."
+    group = BasePlugin.BUILD_GROUP
+    archiveClassifier.set("core")
+    from(core.output)
+    from(vector.output)
+}
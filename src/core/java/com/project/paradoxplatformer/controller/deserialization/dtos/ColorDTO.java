@@ -55,15 +55,6 @@ public final class ColorDTO {
         return this.alpha;
     }
 
-    /**
-     * Converts a {@link ColorDTO} to an javaFX color interface.
-     * Utiliy method, meaning the helps the client
-     * @return a JavaFX converted color
-     */
-    public javafx.scene.paint.Color toFXColor() {
-        return javafx.scene.paint.Color.rgb(this.red, this.green, this.blu, this.alpha);
-    }
-
     /**
      * Converts a {@link ColorDTO} to an AWT (so Swing) color interface.
      * Utiliy method, meaning the helps the client
@@ -25,6 +25,8 @@ public final class GameDTO {
     @JsonProperty
     private SpriteDTO spriteMeta;
     private final int triggeringId;
+    private String[] collidesWith;
+    private String shape;
 
     /**
      * Non-argument constructors which initialises the trajectory moves, making it
@@ -221,4 +223,26 @@ public final class GameDTO {
     public int getTriggeringId() {
         return this.triggeringId;
     }
+
+    /**
+     * Gets the names of the collision types the game object collides with,
+     * overriding those of its own type. It is optional: most objects collide
+     * as their type does.
+     * 
+     * @return the collision type names, or null if the object has no override
+     */
+    public String[] getCollidesWith() {
+        return this.collidesWith != null ? this.collidesWith.clone() : null;
+    }
+
+    /**
+     * Gets the name of the collision shape of the game object, overriding the
+     * one of its class. It is optional: most objects collide as their class
+     * does.
+     * 
+     * @return the collision shape name, or null if the object has no override
+     */
+    public String getShape() {
+        return this.shape;
+    }
 }
@@ -1,21 +1,23 @@
 package com.project.paradoxplatformer.controller.event;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /**
  * EventManager provides a mechanism for communication between different classes
  * without passing instances between them. It follows the Singleton pattern to
- * ensure that only one instance manages all events across the application.
+ * ensure that only one instance manages all events across the application,
+ * while independent instances can be created for events that must stay
+ * within a scope, such as a single game session.
  *
  * @param <T> The type of event identifiers.
  * @param <U> The type of the first parameter for event handlers.
  */
 public final class EventManager<T, U> {
 
-    private final Map<T, BiConsumer<U, ?>> eventMap = new HashMap<>(); // Map to store event handlers
+    private final Map<T, BiConsumer<U, ?>> eventMap = new ConcurrentHashMap<>(); // Map to store event handlers
 
     // Private constructor to prevent direct instantiation
     private EventManager() {
@@ -34,6 +36,17 @@ public final class EventManager<T, U> {
         return (EventManager<T, U>) Holder.INSTANCE;
     }
 
+    /**
+     * Creates a new EventManager, independent from the singleton instance.
+     *
+     * @param <T> The type of event identifiers.
+     * @param <U> The type of the first parameter for event handlers.
+     * @return A new EventManager with no subscriptions.
+     */
+    public static <T, U> EventManager<T, U> newInstance() {
+        return new EventManager<>();
+    }
+
     /**
      * Subscribes an event handler to a specific event type.
      *
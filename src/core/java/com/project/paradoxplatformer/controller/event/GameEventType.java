@@ -36,6 +36,12 @@ public enum GameEventType {
     /**
      * Indicates that a win condition has been activated.
      */
-    WIN_CONDITION_MET
+    WIN_CONDITION_MET,
+
+    /**
+     * Indicates that the game entered another degradation level to keep up
+     * with its load.
+     */
+    DEGRADATION_CHANGED
 
 }
@@ -0,0 +1,144 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+
+import com.project.paradoxplatformer.utils.logging.GlobalLogger;
+
+/**
+ * A {@link FramePacer} stepping through a list of {@link DegradationLevel}s
+ * as the load of the game changes.
+ * <p>
+ * The load of steps and of pulses is the fraction of their budget they take,
+ * each smoothed on its own since they may run on different threads; the
+ * higher of the two is the load of the game. Every {@value #WINDOW} steps the
+ * load is checked: above {@value #DEGRADE_ABOVE} the next level is entered
+ * at once, while the previous one is only restored after
+ * {@value #RECOVERY_WINDOWS} checks in a row would have found it below
+ * {@value #RECOVER_BELOW}. Pulses skipped at the current level would render
+ * again once it is left, so their load is scaled accordingly before deciding,
+ * which keeps the pacer from bouncing between two levels.
+ * </p>
+ */
+public final class AdaptiveFramePacer implements FramePacer {
+
+    private static final double SMOOTHING = 0.05; // weight of a new sample in the moving average
+    private static final int WINDOW = 40;
+    private static final double DEGRADE_ABOVE = 0.9;
+    private static final double RECOVER_BELOW = 0.6;
+    private static final int RECOVERY_WINDOWS = 5;
+
+    private final Logger logger = GlobalLogger.getLogger(AdaptiveFramePacer.class);
+    private final List<DegradationLevel> levels;
+    private final Consumer<? super DegradationChange> listener;
+    private volatile int current;
+
+    private double stepLoad;
+    private double frameLoad;
+    private int steps;
+    private int quietWindows;
+    private long pulses;
+
+    /**
+     * Constructs a pacer on the {@link DegradationLevel#defaults()} levels,
+     * only logging its changes.
+     */
+    public AdaptiveFramePacer() {
+        this(DegradationLevel.defaults(), change -> { });
+    }
+
+    /**
+     * Constructs a pacer starting at the first of the given levels.
+     *
+     * @param levels   the levels, from the nominal one to the most degraded
+     * @param listener notified of every change of level, on the thread
+     *                 running the simulation
+     * @throws IllegalArgumentException if no level is given
+     */
+    public AdaptiveFramePacer(final List<DegradationLevel> levels, final Consumer<? super DegradationChange> listener) {
+        if (levels.isEmpty()) {
+            throw new IllegalArgumentException("At least a degradation level is needed");
+        }
+        this.levels = List.copyOf(levels);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordStep(final long costNanos, final long budgetNanos) {
+        final Optional<DegradationChange> change;
+        synchronized (this) {
+            this.stepLoad = smooth(this.stepLoad, costNanos, budgetNanos);
+            this.steps++;
+            change = this.steps < WINDOW ? Optional.empty() : this.check();
+        }
+        // listeners run without holding the lock, the renderer must not wait for them
+        change.ifPresent(this::notifyChange);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void recordFrame(final long costNanos, final long budgetNanos) {
+        this.frameLoad = smooth(this.frameLoad, costNanos, budgetNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean shouldRender() {
+        return this.pulses++ % this.level().renderInterval() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DegradationLevel level() {
+        return this.levels.get(this.current);
+    }
+
+    private Optional<DegradationChange> check() {
+        this.steps = 0;
+        final double load = Math.max(this.stepLoad, this.frameLoad);
+        if (load > DEGRADE_ABOVE && this.current < this.levels.size() - 1) {
+            this.quietWindows = 0;
+            return Optional.of(this.enter(this.current + 1, load));
+        }
+        if (this.current > 0) {
+            final double restored = Math.max(this.stepLoad, this.frameLoad
+                    * this.level().renderInterval() / this.levels.get(this.current - 1).renderInterval());
+            this.quietWindows = restored < RECOVER_BELOW ? this.quietWindows + 1 : 0;
+            if (this.quietWindows >= RECOVERY_WINDOWS) {
+                this.quietWindows = 0;
+                return Optional.of(this.enter(this.current - 1, load));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private DegradationChange enter(final int level, final double load) {
+        final DegradationChange change = new DegradationChange(this.level(), this.levels.get(level), load);
+        this.current = level;
+        this.pulses = 0;
+        return change;
+    }
+
+    private void notifyChange(final DegradationChange change) {
+        logger.info("Pacing from {} to {} at {}% load", change.previous().name(), change.current().name(),
+                Math.round(change.load() * 100));
+        this.listener.accept(change);
+    }
+
+    private static double smooth(final double average, final long cost, final long budget) {
+        return budget <= 0 ? average : average + SMOOTHING * ((double) cost / budget - average);
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+/**
+ * A change of the {@link DegradationLevel} a game runs at.
+ *
+ * @param previous the level left
+ * @param current  the level entered
+ * @param load     the smoothed load that caused the change, as a fraction of
+ *                 the time available
+ */
+public record DegradationChange(DegradationLevel previous, DegradationLevel current, double load) {
+}
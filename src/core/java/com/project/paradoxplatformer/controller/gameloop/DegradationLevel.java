@@ -0,0 +1,56 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * How much presentation work a game gives up to keep its simulation on time.
+ * <p>
+ * Every interval tells once every how many occasions some work is done:
+ * {@code renderInterval} counts display pulses, {@code viewSyncInterval}
+ * simulation steps publishing a snapshot for the view and
+ * {@code animationInterval} the sprite images an animation goes through.
+ * An interval of 1 means nothing is given up. Simulation steps are never
+ * part of a level, they are never skipped.
+ * </p>
+ *
+ * @param name              the name shown when the level is entered
+ * @param renderInterval    a frame is rendered once every as many pulses
+ * @param viewSyncInterval  the view is synchronized once every as many steps
+ * @param animationInterval sprite animations show one image every as many
+ */
+public record DegradationLevel(String name, int renderInterval, int viewSyncInterval, int animationInterval) {
+
+    /**
+     * The level giving up nothing.
+     */
+    public static final DegradationLevel NOMINAL = new DegradationLevel("nominal", 1, 1, 1);
+
+    /**
+     * Validates the level.
+     *
+     * @throws IllegalArgumentException if an interval is not positive
+     */
+    public DegradationLevel {
+        Objects.requireNonNull(name);
+        if (renderInterval <= 0 || viewSyncInterval <= 0 || animationInterval <= 0) {
+            throw new IllegalArgumentException("Degradation intervals must be positive, was " + renderInterval
+                    + ", " + viewSyncInterval + ", " + animationInterval);
+        }
+    }
+
+    /**
+     * Returns the default levels, from the nominal one to the most degraded.
+     * Cheap savings come first: animations lose images before frames are
+     * skipped, and the view is synchronized less often only as a last resort.
+     *
+     * @return the default levels, in degradation order
+     */
+    public static List<DegradationLevel> defaults() {
+        return List.of(
+                NOMINAL,
+                new DegradationLevel("reduced animations", 1, 1, 2),
+                new DegradationLevel("half frame rate", 2, 1, 2),
+                new DegradationLevel("minimal", 3, 2, 4));
+    }
+}
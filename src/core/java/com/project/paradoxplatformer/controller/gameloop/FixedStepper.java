@@ -0,0 +1,69 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import com.project.paradoxplatformer.utils.time.GameClock;
+
+/**
+ * Turns elapsed wall clock time into a whole number of fixed simulation
+ * steps.
+ * <p>
+ * Wall time is converted into game time by a {@link GameClock}, so that the
+ * clock rate and pause are honoured, and accumulated. Every time a full step
+ * is available it is run, and the leftover tells how far the present is
+ * between the last step and the next one. If more than a given number of
+ * steps would be needed at once the excess time is dropped, slowing the game
+ * down instead of stalling it.
+ * </p>
+ */
+final class FixedStepper {
+
+    private final Runnable step;
+    private final long stepNanos;
+    private final int maxSteps;
+    private final GameClock clock;
+    private volatile long accumulator;
+
+    /**
+     * Constructs a stepper.
+     *
+     * @param step      the simulation step
+     * @param stepNanos the game time a step accounts for, in nanoseconds
+     * @param maxSteps  the steps allowed in a single call
+     * @param clock     the clock converting wall time to game time
+     */
+    FixedStepper(final Runnable step, final long stepNanos, final int maxSteps, final GameClock clock) {
+        this.step = step;
+        this.stepNanos = stepNanos;
+        this.maxSteps = maxSteps;
+        this.clock = clock;
+    }
+
+    /**
+     * Accounts for the given wall time, running the steps it makes available.
+     *
+     * @param wallNanos the wall time elapsed since the last call
+     * @return the number of steps run
+     */
+    int advance(final long wallNanos) {
+        long time = this.accumulator + this.clock.scale(wallNanos);
+        int steps = 0;
+        while (time >= this.stepNanos && steps < this.maxSteps) {
+            this.step.run();
+            time -= this.stepNanos;
+            steps++;
+        }
+        this.accumulator = time % this.stepNanos;
+        return steps;
+    }
+
+    /**
+     * Tells how far the present is between the last step and the next one.
+     *
+     * @param wallNanos the wall time elapsed since the last call to
+     *                  {@link #advance(long)}
+     * @return the fraction of a step elapsed, in [0, 1]
+     */
+    double alpha(final long wallNanos) {
+        final double time = this.accumulator + this.clock.scale(wallNanos);
+        return Math.min(1.0, time / this.stepNanos);
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+/**
+ * Paces the presentation of a game on the measured cost of its ticks.
+ * <p>
+ * Loop managers report how long every simulation step and every display
+ * pulse took, along with the time they had for it, and ask whether a pulse
+ * should render. Whatever is presented, from the view synchronization to
+ * sprite animations, reads the current {@link DegradationLevel} to decide
+ * how much work to do. Simulation steps are only measured, never skipped, so
+ * that an overloaded machine shows fewer frames instead of slowing the game
+ * down.
+ * </p>
+ */
+public interface FramePacer {
+
+    /**
+     * Records the cost of a simulation step.
+     *
+     * @param costNanos   the time the step took, in nanoseconds
+     * @param budgetNanos the time available for a step, in nanoseconds
+     */
+    void recordStep(long costNanos, long budgetNanos);
+
+    /**
+     * Records the cost of a display pulse, whether it rendered or not.
+     *
+     * @param costNanos   the time the pulse took, in nanoseconds
+     * @param budgetNanos the time elapsed since the previous pulse, in
+     *                    nanoseconds
+     */
+    void recordFrame(long costNanos, long budgetNanos);
+
+    /**
+     * Tells whether the current display pulse should render, counting it.
+     * Meant to be called once per pulse, by the thread rendering.
+     *
+     * @return true if a frame must be rendered
+     */
+    boolean shouldRender();
+
+    /**
+     * Returns the current degradation level, from any thread.
+     *
+     * @return the current {@link DegradationLevel}
+     */
+    DegradationLevel level();
+}
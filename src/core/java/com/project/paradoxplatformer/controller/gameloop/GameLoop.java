@@ -14,4 +14,18 @@ public interface GameLoop {
      * @param dt time elapsed between last frame and current
      */
     void loop(long dt);
+
+    /**
+     * Presents the current state, called once per displayed frame after the
+     * simulation steps of that frame have run.
+     * <p>
+     * When the simulation advances in fixed steps, the displayed frame usually
+     * falls between two steps: {@code alpha} tells how far, so that the state
+     * can be blended between the previous and the current step.
+     * By default nothing is done, leaving presentation to {@link #loop(long)}.
+     * </p>
+     * @param alpha fraction of a step elapsed since the last one, in [0, 1]
+     */
+    default void render(final double alpha) {
+    }
 }
@@ -0,0 +1,114 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.project.paradoxplatformer.utils.geometries.observer.Observer;
+
+/**
+ * A {@link LoopManager} stepping the simulation as fast as possible, with no
+ * display and no pacing, e.g. to run games on a server or in tests.
+ * <p>
+ * The loop runs on the thread calling {@link #start()}, which returns once
+ * the given number of steps has been run or the loop has been stopped, for
+ * instance by the game ending. Every step advances the game by the same
+ * fixed amount of time and is followed by a render, so that a view, if any,
+ * keeps up with the model.
+ * </p>
+ */
+public final class HeadlessLoopManager implements ObservableLoopManager {
+
+    private final GameLoop loop;
+    private final long step;
+    private final long maxSteps;
+    private final Set<Observer> observers;
+    private final AtomicLong steps;
+
+    private volatile boolean isRunning;
+
+    /**
+     * Constructs a loop manager running a bounded number of steps.
+     *
+     * @param loop     the game loop to drive
+     * @param step     the game time each step advances, in milliseconds
+     * @param maxSteps the number of steps after which the loop stops
+     * @throws IllegalArgumentException if step or maxSteps are not positive
+     */
+    public HeadlessLoopManager(final GameLoop loop, final long step, final long maxSteps) {
+        if (step <= 0 || maxSteps <= 0) {
+            throw new IllegalArgumentException("Step and number of steps must be positive");
+        }
+        this.loop = loop;
+        this.step = step;
+        this.maxSteps = maxSteps;
+        this.observers = new CopyOnWriteArraySet<>();
+        this.steps = new AtomicLong();
+    }
+
+    /**
+     * Runs the loop on the calling thread, returning when it is over.
+     *
+     * @throws IllegalStateException if the loop is already running
+     */
+    @Override
+    public void start() {
+        synchronized (this) {
+            if (this.isRunning) {
+                throw new IllegalStateException("Loop is already running");
+            }
+            this.isRunning = true;
+        }
+        try {
+            while (this.isRunning && this.steps.get() < this.maxSteps) {
+                this.loop.loop(this.step);
+                this.loop.render(1.0);
+                this.steps.incrementAndGet();
+            }
+        } finally {
+            this.isRunning = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.notifyObservers();
+        this.isRunning = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Returns how many steps have been run so far.
+     *
+     * @return the number of steps run
+     */
+    public long steps() {
+        return this.steps.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addObserver(final Observer observer) {
+        this.observers.add(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyObservers() {
+        this.observers.forEach(Observer::update);
+    }
+}
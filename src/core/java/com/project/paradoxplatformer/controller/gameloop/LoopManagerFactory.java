@@ -0,0 +1,24 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import com.project.paradoxplatformer.utils.time.GameClock;
+
+/**
+ * Creates the loop manager driving a game, deciding on which thread and at
+ * which pace its ticks run, e.g. synchronized with a display or as fast as
+ * possible for a headless simulation.
+ */
+@FunctionalInterface
+public interface LoopManagerFactory {
+
+    /**
+     * Creates a loop manager driving the given loop.
+     *
+     * @param loop  the game loop to drive
+     * @param clock the clock of the game, whose rate and pause should be
+     *              honoured when the loop is paced
+     * @param pacer the pacer of the game, to be told the cost of steps and
+     *              frames and asked which frames to render
+     * @return the {@link ObservableLoopManager} driving the loop
+     */
+    ObservableLoopManager create(GameLoop loop, GameClock clock, FramePacer pacer);
+}
@@ -0,0 +1,24 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+/**
+ * Pacing statistics of a loop, all times are in nanoseconds.
+ * <p>
+ * Jitter is measured as the delay between the instant a tick was scheduled
+ * and the instant it actually started.
+ * </p>
+ *
+ * @param ticks      the number of scheduled ticks run so far, catch up
+ *                   ticks excluded
+ * @param overruns   the number of times the loop fell so far behind that
+ *                   its schedule had to be reset
+ * @param meanJitter the average jitter
+ * @param stdDev     the standard deviation of jitter
+ * @param maxJitter  the worst jitter observed
+ */
+public record LoopStatistics(long ticks, long overruns, double meanJitter, double stdDev, long maxJitter) {
+
+    /**
+     * Statistics of a loop that has not ticked yet.
+     */
+    public static final LoopStatistics EMPTY = new LoopStatistics(0, 0, 0, 0, 0);
+}
@@ -0,0 +1,241 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.project.paradoxplatformer.utils.geometries.observer.Observer;
+
+/**
+ * A {@link LoopManager} running a task at a fixed cadence on its own thread.
+ * <p>
+ * Deadlines are computed on {@link System#nanoTime()} and are absolute, so
+ * that errors do not add up over time. Waiting is hybrid: the thread parks
+ * until the deadline is close and then spins for the last stretch, which
+ * parking alone cannot hit reliably. When a tick overruns, missed ticks are
+ * run back to back, up to a limit past which the schedule is reset.
+ * </p>
+ * <p>
+ * {@link #stop()} is cooperative: the current tick is completed and the
+ * thread exits as soon as it is woken up.
+ * </p>
+ */
+public final class PreciseLoopManager implements ObservableLoopManager {
+
+    private static final long SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Runnable task;
+    private final long period;
+    private final int maxCatchUp;
+    private final ThreadFactory threadFactory;
+    private final Set<Observer> observers;
+
+    private volatile boolean isRunning;
+    private volatile long lastTick;
+    private volatile Thread thread;
+
+    private long ticks;
+    private long overruns;
+    private double meanJitter;
+    private double squaredJitter; // sum of squared differences from the mean
+    private long maxJitter;
+
+    /**
+     * Constructs a loop manager running on a dedicated, high priority thread.
+     *
+     * @param task       the task to run every tick
+     * @param period     the period between two ticks, in nanoseconds
+     * @param maxCatchUp how many ticks can be run back to back to catch up
+     */
+    public PreciseLoopManager(final Runnable task, final long period, final int maxCatchUp) {
+        this(task, period, maxCatchUp, r -> {
+            final Thread t = new Thread(r, "game-loop");
+            t.setDaemon(true);
+            t.setPriority(Thread.MAX_PRIORITY);
+            return t;
+        });
+    }
+
+    /**
+     * Constructs a loop manager running on a thread created by the given
+     * factory, e.g. one providing virtual threads where available.
+     *
+     * @param task          the task to run every tick
+     * @param period        the period between two ticks, in nanoseconds
+     * @param maxCatchUp    how many ticks can be run back to back to catch up
+     * @param threadFactory the factory creating the loop thread
+     * @throws IllegalArgumentException if period or maxCatchUp are not positive
+     */
+    public PreciseLoopManager(
+            final Runnable task,
+            final long period,
+            final int maxCatchUp,
+            final ThreadFactory threadFactory) {
+        if (period <= 0 || maxCatchUp <= 0) {
+            throw new IllegalArgumentException("Period and catch up steps must be positive");
+        }
+        this.task = task;
+        this.period = period;
+        this.maxCatchUp = maxCatchUp;
+        this.threadFactory = threadFactory;
+        this.observers = new HashSet<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() {
+        if (!this.isRunning) {
+            this.resetStatistics();
+            this.isRunning = true;
+            this.thread = this.threadFactory.newThread(this::run);
+            this.thread.start();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        this.notifyObservers();
+        if (this.isRunning) {
+            this.isRunning = false;
+            // the task itself may stop the loop, no need to wake it up then
+            if (Thread.currentThread() != this.thread) {
+                this.thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Returns the instant the last tick was scheduled at, on the
+     * {@link System#nanoTime()} timeline.
+     *
+     * @return the scheduled instant of the last tick
+     */
+    public long lastTick() {
+        return this.lastTick;
+    }
+
+    /**
+     * Returns the pacing statistics since the loop was last started.
+     *
+     * @return the current {@link LoopStatistics}
+     */
+    public synchronized LoopStatistics statistics() {
+        return this.ticks == 0
+                ? LoopStatistics.EMPTY
+                : new LoopStatistics(this.ticks, this.overruns, this.meanJitter,
+                        Math.sqrt(this.squaredJitter / this.ticks), this.maxJitter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addObserver(final Observer observer) {
+        this.observers.add(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyObservers() {
+        this.observers.forEach(Observer::update);
+    }
+
+    private void run() {
+        long deadline = System.nanoTime();
+        this.lastTick = deadline;
+        try {
+            while (this.isActive() && this.await(deadline)) {
+                this.record(System.nanoTime() - deadline);
+                int steps = 0;
+                do {
+                    this.task.run();
+                    this.lastTick = deadline;
+                    deadline += this.period;
+                    steps++;
+                } while (this.isActive() && steps < this.maxCatchUp && System.nanoTime() >= deadline);
+
+                final long now = System.nanoTime();
+                if (now - deadline >= this.period) {
+                    deadline = now; // too far behind, drop the backlog
+                    this.overrun();
+                }
+            }
+        } finally {
+            synchronized (this) {
+                if (this.thread == Thread.currentThread()) {
+                    this.isRunning = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether the calling thread is still the one the loop should run
+     * on, which is not the case after a stop, even if followed by a restart.
+     *
+     * @return true if the loop must go on
+     */
+    private boolean isActive() {
+        return this.isRunning && this.thread == Thread.currentThread();
+    }
+
+    /**
+     * Waits until the given deadline, parking while far from it and spinning
+     * once close.
+     *
+     * @param deadline the instant to wait for
+     * @return false if the loop has been stopped while waiting
+     */
+    private boolean await(final long deadline) {
+        long remaining = deadline - System.nanoTime();
+        while (remaining > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+            if (!this.isActive()) {
+                return false;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return this.isActive();
+    }
+
+    private synchronized void record(final long jitter) {
+        // Welford's online algorithm, stable over long runs
+        this.ticks++;
+        final double delta = jitter - this.meanJitter;
+        this.meanJitter += delta / this.ticks;
+        this.squaredJitter += delta * (jitter - this.meanJitter);
+        this.maxJitter = Math.max(this.maxJitter, jitter);
+    }
+
+    private synchronized void overrun() {
+        this.overruns++;
+    }
+
+    private synchronized void resetStatistics() {
+        this.ticks = 0;
+        this.overruns = 0;
+        this.meanJitter = 0;
+        this.squaredJitter = 0;
+        this.maxJitter = 0;
+    }
+}
@@ -1,8 +1,12 @@
 package com.project.paradoxplatformer.controller.games;
 
+import com.project.paradoxplatformer.controller.gameloop.FramePacer;
 import com.project.paradoxplatformer.controller.input.InputController;
 import com.project.paradoxplatformer.controller.input.api.KeyInputer;
 import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.utils.collision.query.SpatialQuery;
+import com.project.paradoxplatformer.utils.profiling.TickProfiler;
+import com.project.paradoxplatformer.utils.scheduling.TickScheduler;
 
 /**
  * Interface for controlling a game, including loading the model, syncing with
@@ -79,4 +83,44 @@ public interface GameController<C> {
      * </p>
      */
     void exitGame();
+
+    /**
+     * Returns the profiler timing every phase of the game ticks.
+     * <p>
+     * Statistics can be queried at any time, also while the game is running.
+     * </p>
+     * 
+     * @return the {@link TickProfiler} of this game
+     */
+    TickProfiler<TickPhase> profiler();
+
+    /**
+     * Returns the scheduler running the stages of the game ticks, where new
+     * stages can be plugged in.
+     * 
+     * @return the {@link TickScheduler} of this game
+     */
+    TickScheduler<TickPhase, TickResource> scheduler();
+
+    /**
+     * Returns the pacer deciding how much presentation work the game gives up
+     * to keep its simulation on time. Every change of level is published as a
+     * {@code DEGRADATION_CHANGED} event.
+     * 
+     * @return the {@link FramePacer} of this game
+     */
+    FramePacer pacer();
+
+    /**
+     * Returns a spatial query over the objects of the level being played, for
+     * gameplay code and bots to find objects around them without scanning them
+     * all.
+     * <p>
+     * It reflects the objects as of the last collision detection, and must not
+     * be used while the collisions of a tick are being detected.
+     * </p>
+     * 
+     * @return the {@link SpatialQuery} of this game
+     */
+    SpatialQuery spatialQuery();
 }
@@ -1,7 +1,7 @@
 package com.project.paradoxplatformer.controller.games;
 
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 
 import java.util.Optional;
@@ -6,7 +6,7 @@ import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * Manages subscriptions to game events.
@@ -19,13 +19,27 @@ public final class GameControllerEventSubscriber {
     private final EventManager<GameEventType, PageIdentifier> eventManager;
 
     /**
-     * Constructs a GameControllerEventSubscriber with the given event listener.
+     * Constructs a GameControllerEventSubscriber with the given event listener,
+     * subscribing to the application wide events.
      *
      * @param gameEventListener the listener to handle game events
      */
     public GameControllerEventSubscriber(final GameControllerEventListener gameEventListener) {
+        this(gameEventListener, EventManager.getInstance());
+    }
+
+    /**
+     * Constructs a GameControllerEventSubscriber with the given event listener,
+     * subscribing to the events of the given manager.
+     *
+     * @param gameEventListener the listener to handle game events
+     * @param eventManager      the event manager to subscribe to
+     */
+    public GameControllerEventSubscriber(
+            final GameControllerEventListener gameEventListener,
+            final EventManager<GameEventType, PageIdentifier> eventManager) {
         this.gameEventListener = gameEventListener;
-        this.eventManager = EventManager.getInstance();
+        this.eventManager = eventManager;
         this.subscribeToEvents();
     }
 
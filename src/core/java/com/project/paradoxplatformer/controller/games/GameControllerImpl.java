@@ -0,0 +1,531 @@
+package com.project.paradoxplatformer.controller.games;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static java.util.function.Predicate.not;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.gameloop.AdaptiveFramePacer;
+import com.project.paradoxplatformer.controller.gameloop.DegradationChange;
+import com.project.paradoxplatformer.controller.gameloop.DegradationLevel;
+import com.project.paradoxplatformer.controller.gameloop.FramePacer;
+import com.project.paradoxplatformer.controller.gameloop.GameLoop;
+import com.project.paradoxplatformer.controller.gameloop.LoopManagerFactory;
+import com.project.paradoxplatformer.controller.gameloop.ObservableLoopManager;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.GameModel;
+import com.project.paradoxplatformer.model.effect.impl.EffectHandlerFactoryImpl;
+import com.project.paradoxplatformer.model.endgame.DeathConditionsFactoryImpl;
+import com.project.paradoxplatformer.model.endgame.EndGameManager;
+import com.project.paradoxplatformer.model.endgame.EndGameManagerImpl;
+import com.project.paradoxplatformer.model.endgame.VictoryConditionsFactoryImpl;
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.entity.MutableObjectSnapshot;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.model.entity.dynamics.behavior.FlappyJump;
+import com.project.paradoxplatformer.model.entity.dynamics.behavior.PlatformJump;
+import com.project.paradoxplatformer.model.obstacles.Obstacle;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.world.api.World;
+import com.project.paradoxplatformer.utils.collision.CollisionManager;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CompoundCollidable;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.collision.query.SpatialQuery;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.profiling.TickProfiler;
+import com.project.paradoxplatformer.utils.profiling.TickProfilerImpl;
+import com.project.paradoxplatformer.utils.scheduling.TickScheduler;
+import com.project.paradoxplatformer.utils.scheduling.TickSchedulerImpl;
+import com.project.paradoxplatformer.utils.scheduling.TickStage;
+import com.project.paradoxplatformer.view.GameView;
+import com.project.paradoxplatformer.view.PageIdentifier;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+
+/**
+ * Provides an implementation of the {@code GameController} interface, managing
+ * the
+ * interaction between the game model, view, and game loop. This class
+ * coordinates
+ * the gameplay by updating the game state, handling user input, and managing
+ * game
+ * events such as victory or game-over conditions.
+ * 
+ * @param <C> the type of view component managed by this controller
+ */
+public final class GameControllerImpl<C> implements GameController<C>, GameControllerEventListener {
+
+    private final GameModel gameModel;
+    private Map<MutableObject, ReadOnlyGraphicDecorator<C>> gamePairs;
+    private Map<MutableObject, MutableObjectSnapshot> lastStates;
+    private Set<MutableObject> dynamicObjects;
+    private StaticColliderIndex staticColliders;
+    private final AtomicReference<RenderSnapshot<C>> latestSnapshot;
+    private long ticks;
+    private long stepDt;
+    private int unsyncedSteps;
+    private final TickProfiler<TickPhase> profiler;
+    private final TickScheduler<TickPhase, TickResource> scheduler;
+    private final FramePacer pacer;
+    private final GameView<C> gameView;
+    private final Function<GraphicAdapter<C>, Coord2D> position;
+    private final Function<GraphicAdapter<C>, Dimension> dimension;
+
+    private final CollisionManager collisionManager;
+    private final ObjectRemover<C> objectRemover;
+    private final EndGameManager endGameManager;
+
+    private ObservableLoopManager gameManager;
+    private final Level currentLevel;
+    private final GameSession session;
+    private final LoopManagerFactory loops;
+
+    /**
+     * Constructs a new {@code GameControllerImpl} instance with the specified
+     * model, view, and level, running in the given session.
+     * <p>
+     * Nothing here depends on how the game is displayed: the view is only
+     * reached through {@link GameView}, page requests through the session and
+     * the pace of the game is up to the loop manager, so that the same game can
+     * run on screen or headless.
+     * </p>
+     * 
+     * @param model   the game model data used to manage the state of the game
+     * @param view    the game view used to render and interact with the game
+     * @param level   the current level being played in the game
+     * @param session the session owning the events and the state of this game
+     * @param loops   creates the loop manager driving the game
+     */
+    public GameControllerImpl(
+            final GameModel model,
+            final GameView<C> view,
+            final Level level,
+            final GameSession session,
+            final LoopManagerFactory loops) {
+        this.session = Objects.requireNonNull(session);
+        this.loops = Objects.requireNonNull(loops);
+        this.gameModel = model;
+        this.gameView = Optional.of(view).orElseThrow(() -> new IllegalArgumentException("View cannot be null"));
+        this.gamePairs = new HashMap<>();
+        this.dynamicObjects = new HashSet<>();
+        this.staticColliders = StaticColliderIndex.empty();
+        this.lastStates = new HashMap<>();
+        this.latestSnapshot = new AtomicReference<>();
+        this.profiler = new TickProfilerImpl<>(TickPhase.class);
+        this.pacer = new AdaptiveFramePacer(DegradationLevel.defaults(), this::degrade);
+        this.position = GraphicAdapter::relativePosition;
+        this.dimension = GraphicAdapter::dimension;
+        // effects are created here and must belong to this session
+        this.collisionManager = session.call(() -> new CollisionManager(
+                new EffectHandlerFactoryImpl().getEffectHandlerForLevel(level)));
+        this.currentLevel = level;
+        this.endGameManager = new EndGameManagerImpl(this.currentLevel);
+
+        new GameControllerEventSubscriber(this, session.events());
+
+        this.objectRemover = new ObjectRemover<>(model, view);
+        this.scheduler = new TickSchedulerImpl<>(this.profiler, session::run);
+        this.declareStages();
+    }
+
+    /**
+     * Declares the stages of a tick. End-game checks only read the player, so
+     * they run alongside the removal of the collected objects.
+     */
+    private void declareStages() {
+        this.scheduler.add(new TickStage<>(TickPhase.UPDATE,
+                EnumSet.of(TickResource.OBJECT_SET),
+                EnumSet.of(TickResource.OBJECTS),
+                this::updateObjects));
+        this.scheduler.add(new TickStage<>(TickPhase.COLLISIONS,
+                EnumSet.of(TickResource.OBJECT_SET),
+                EnumSet.of(TickResource.OBJECTS, TickResource.REMOVALS, TickResource.SESSION),
+                () -> this.collisionManager.handleCollisions(
+                        this.dynamicObjects, this.staticColliders, this::isLive,
+                        this.gameModel.getWorld().player())));
+        this.scheduler.add(new TickStage<>(TickPhase.END_GAME,
+                EnumSet.of(TickResource.OBJECTS),
+                EnumSet.of(TickResource.SESSION),
+                () -> {
+                    this.endGameManager.checkForDeath();
+                    this.endGameManager.checkForVictory();
+                }));
+        this.scheduler.add(new TickStage<>(TickPhase.REMOVAL,
+                EnumSet.noneOf(TickResource.class),
+                EnumSet.of(TickResource.REMOVALS, TickResource.OBJECT_SET),
+                this::removeGameObjects));
+        this.scheduler.add(new TickStage<>(TickPhase.VIEW_SYNC,
+                EnumSet.of(TickResource.OBJECTS, TickResource.OBJECT_SET),
+                EnumSet.of(TickResource.SNAPSHOT),
+                this::syncPaced));
+    }
+
+    /**
+     * Updates the state of every object for one step. A player standing on an
+     * object removed since the last step is in the air again.
+     */
+    private void updateObjects() {
+        final PlayerModel player = this.gameModel.getWorld().player();
+        player.getSupport().filter(not(this::isLive)).ifPresent(support -> player.leaveSupport());
+        gamePairs.keySet().forEach(m -> m.updateState(this.stepDt));
+    }
+
+    /**
+     * Tells whether an object is still in the game. A collider merged at load
+     * time is as long as any of the objects it was merged from is.
+     */
+    private boolean isLive(final CollidableGameObject object) {
+        return gamePairs.containsKey(object) || (object instanceof CompoundCollidable compound
+                && compound.parts().stream().anyMatch(gamePairs::containsKey));
+    }
+
+    /**
+     * Initializes the game model, setting it up for gameplay.
+     */
+    @Override
+    public void loadModel() {
+        gameModel.init();
+    }
+
+    /**
+     * Initializes and synchronizes the game view with the current game state.
+     */
+    @Override
+    public void syncView() {
+        // animations created here read the clock of this session
+        this.session.run(gameView::init);
+        this.sync();
+        this.publishSnapshot(1);
+    }
+
+    /**
+     * Removes game objects from both the model and the view.
+     * 
+     * @param <T> the type of the objects to be removed
+     */
+    public <T> void removeGameObjects() {
+        objectRemover.removeGameObjects(gamePairs);
+        this.dynamicObjects.removeIf(not(gamePairs::containsKey));
+    }
+
+    /**
+     * Synchronizes the game view with the game model by pairing each graphic
+     * component
+     * with its corresponding mutable object in the world. Paired objects that
+     * are not static colliders of the world are the only ones the broad phase
+     * has to follow, and the collision filter of the world tells the collision
+     * manager which of them may collide.
+     */
+    private void sync() {
+        gamePairs = this.gameView.getUnmodifiableControls()
+                .stream()
+                .map(g -> this.join(new ReadOnlyGraphicDecorator<>(g), this.gameModel.getWorld()))
+                .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
+        this.staticColliders = this.gameModel.getWorld().staticColliders();
+        this.collisionManager.setCollisionFilter(this.gameModel.getWorld().collisionFilter());
+        this.dynamicObjects = gamePairs.keySet().stream()
+                .filter(not(this.staticColliders::contains))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Joins a graphical component with its corresponding mutable object in the
+     * world.
+     * 
+     * @param g     the graphic component to join
+     * @param world the game world containing the objects to pair with the graphic
+     * @return a pair of the matched {@code MutableObject} and
+     *         {@code ReadOnlyGraphicDecorator}
+     * @throws IllegalArgumentException if no matching object is found for the given
+     *                                  graphic
+     */
+    private Pair<MutableObject, ReadOnlyGraphicDecorator<C>> join(
+            final ReadOnlyGraphicDecorator<C> g,
+            final World world) {
+
+        final Set<MutableObject> objects = new LinkedHashSet<>(world.gameObjects());
+
+        return objects.stream()
+                .filter(m -> this.joinPredicate(m, g))
+                .map(m -> Pair.of(m, g))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Failed to pair object and graphic. Cause: Graphic: "
+                                + dimension.apply(g) + "\nGraphic: " + position.apply(g)));
+    }
+
+    /**
+     * Determines whether a mutable object and a graphic component should be joined
+     * based on their IDs.
+     * 
+     * @param mutableObject the mutable object to test
+     * @param gComponent    the graphic component to test
+     * @return true if the IDs of the mutable object and the graphic component match
+     */
+    private boolean joinPredicate(final MutableObject mutableObject, final GraphicAdapter<C> gComponent) {
+        return mutableObject.getID() == gComponent.getID();
+    }
+
+    /**
+     * Starts the game by setting up the player's controls and initiating the game
+     * loop.
+     * 
+     * @param <K>     the type of the key input
+     * @param ic      the input controller for the player
+     * @param inputer the key input handler
+     * @param type    the game mode type (e.g., "flappy" or "platform")
+     */
+    @Override
+    public <K> void startGame(
+            final InputController<ControllableObject> ic,
+            final KeyInputer<K> inputer,
+            final String type) {
+        this.setupGameMode(gameModel.getWorld().player(), type);
+        this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
+                .createConditionsForLevel(this.currentLevel, this.gameModel.getWorld().player()));
+        this.endGameManager.setDeathHandler(new DeathConditionsFactoryImpl().createConditionsForLevel(this.currentLevel,
+                this.gameModel.getWorld().player()));
+
+        this.gameManager = this.loops.create(new GameLoop() {
+            @Override
+            public void loop(final long dt) {
+                // main game loop
+                ic.checkPool(
+                        inputer.getKeyAssetter(),
+                        gameModel.getWorld().player(),
+                        ControllableObject::stop);
+                GameControllerImpl.this.update(dt);
+            }
+
+            @Override
+            public void render(final double alpha) {
+                GameControllerImpl.this.render(alpha);
+            }
+        }, this.session.clock(), this.pacer);
+
+        this.gameManager.start();
+    }
+
+    /**
+     * Configures the game mode by setting the player's jump behavior based on the
+     * provided type.
+     * 
+     * @param player the controllable player object
+     * @param type   the game mode type (e.g., "flappy" or "platform")
+     */
+    private void setupGameMode(final ControllableObject player, final String type) {
+        if ("flappy".equalsIgnoreCase(type)) {
+            player.setJumpBehavior(Optional.of(new FlappyJump()));
+        } else {
+            player.setJumpBehavior(Optional.of(new PlatformJump()));
+        }
+    }
+
+    /**
+     * Updates the game state by processing object updates, handling collisions, and
+     * checking end-game conditions, then publishes the resulting
+     * {@link RenderSnapshot}. Every {@link TickPhase} is a stage run by
+     * {@link #scheduler()} and timed by {@link #profiler()}.
+     * <p>
+     * The update runs within the session of this game, hence games owning
+     * different sessions can be updated concurrently.
+     * </p>
+     * 
+     * @param dt the time delta since the last update
+     */
+    public void update(final long dt) {
+        this.session.run(() -> this.step(dt));
+    }
+
+    private void step(final long dt) {
+        if (Objects.nonNull(gamePairs)) {
+            this.session.clock().advance(TimeUnit.MILLISECONDS.toNanos(dt));
+            this.stepDt = dt;
+            this.scheduler.run();
+        }
+    }
+
+    /**
+     * Publishes a snapshot once every as many steps as the degradation level
+     * of the pacer asks for, spanning all of them, and ages the latest one on
+     * the other steps. A view synchronized less often shows objects later,
+     * the price of keeping the game on time, but still moving smoothly.
+     */
+    private void syncPaced() {
+        this.unsyncedSteps++;
+        if (this.unsyncedSteps >= this.pacer.level().viewSyncInterval()) {
+            this.publishSnapshot(this.unsyncedSteps);
+            this.unsyncedSteps = 0;
+        } else {
+            this.latestSnapshot.updateAndGet(s -> s == null ? null : s.aged());
+        }
+    }
+
+    /**
+     * Hands a new degradation level to the view and publishes the change on
+     * the bus of the session.
+     *
+     * @param change the change of level
+     */
+    private void degrade(final DegradationChange change) {
+        this.gameView.setDegradationLevel(change.current());
+        this.session.events().publish(GameEventType.DEGRADATION_CHANGED, PageIdentifier.GAME, change);
+    }
+
+    /**
+     * Captures the state of every paired object into a new snapshot, keeping the
+     * state of the previous one so that {@link #render(double)} can blend
+     * between the two.
+     *
+     * @param span the steps run since the previous snapshot
+     */
+    private void publishSnapshot(final int span) {
+        final List<RenderSnapshot.Entry<C>> entries = new ArrayList<>(gamePairs.size());
+        final Map<MutableObject, MutableObjectSnapshot> states = new HashMap<>();
+        gamePairs.forEach((m, g) -> {
+            final MutableObjectSnapshot current = MutableObjectSnapshot.of(m);
+            entries.add(new RenderSnapshot.Entry<>(
+                    this.lastStates.getOrDefault(m, current), current, g));
+            states.put(m, current);
+        });
+        this.lastStates = states;
+        this.latestSnapshot.set(new RenderSnapshot<>(this.ticks++, span, 0, entries));
+    }
+
+    /**
+     * Synchronizes the view with the latest published snapshot, blending every
+     * object between its state in the last two updates.
+     * <p>
+     * Only the snapshot is read, never the model, hence this may run on a
+     * different thread than {@link #update(long)}, as long as it is the one
+     * owning the view.
+     * </p>
+     * 
+     * @param alpha how far the displayed frame is between the last two updates,
+     *              0 shows the previous state and 1 the current one
+     */
+    public void render(final double alpha) {
+        this.objectRemover.flushRemovedGraphics();
+        Optional.ofNullable(this.latestSnapshot.get())
+                .ifPresent(s -> s.forEachInterpolated(alpha, this.gameView::updateControlState));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TickProfiler<TickPhase> profiler() {
+        return this.profiler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TickScheduler<TickPhase, TickResource> scheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FramePacer pacer() {
+        return this.pacer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpatialQuery spatialQuery() {
+        return this.collisionManager.spatialQuery(this.staticColliders, this::isLive);
+    }
+
+    /**
+     * Restarts the game by stopping the current game loop and recreating the game
+     * view.
+     */
+    @Override
+    public void restartGame() {
+        this.gameManager.stop();
+        this.session.openView(PageIdentifier.GAME, currentLevel);
+    }
+
+    /**
+     * Exits the game by stopping the game loop and navigating back to the main
+     * menu.
+     */
+    @Override
+    public void exitGame() {
+        this.gameManager.stop();
+        // System.out.println("EXITED");
+        this.session.openView(PageIdentifier.MENU, Level.EMPTY_LEVEL);
+    }
+
+    /**
+     * Handles the stop view event by stopping the game loop before recreating the
+     * view.
+     * 
+     * @param id    the page identifier
+     * @param param the level parameter
+     */
+    @Override
+    public void handleStopView(final PageIdentifier id, final Level param) {
+        // System.out.println("STOPPING VIEW BEFORE RECREATE IT.");
+        this.gameManager.stop();
+    }
+
+    /**
+     * Handles the removal of an object from the game world.
+     * 
+     * @param id     the page identifier
+     * @param object the optional collidable game object to remove
+     */
+    @Override
+    public void handleRemoveObject(final PageIdentifier id, final Optional<? extends CollidableGameObject> object) {
+        objectRemover.handleRemoveObject(id, object);
+    }
+
+    /**
+     * Handles the trigger effect event, logging the triggered obstacle.
+     * 
+     * @param id    the page identifier
+     * @param param the obstacle parameter
+     */
+    @Override
+    public void handleTriggerEffect(final PageIdentifier id, final Obstacle param) {
+        // System.out.println(param + " TRIGGERED FROM GAME CONTROLLER.");
+    }
+
+    /**
+     * Handles the victory event by setting up the victory conditions for the
+     * current level.
+     * 
+     * @param id the page identifier
+     */
+    @Override
+    public void handleVictory(final PageIdentifier id, final Level level) {
+        this.endGameManager.setVictoryHandler(new VictoryConditionsFactoryImpl()
+                .createConditionsForLevel(level, this.gameModel.getWorld().player()));
+    }
+
+}
@@ -5,12 +5,14 @@ import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.view.GameView;
 import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * ObjectRemover manages the removal of dynamic objects from the game world and
@@ -18,6 +20,12 @@ import java.util.Map;
  * It keeps track of mutable objects that need to be removed and handles their
  * removal
  * during the game loop.
+ * <p>
+ * Objects leave the world as soon as the loop removes them, while their
+ * graphics are only queued and dropped from the view by
+ * {@link #flushRemovedGraphics()}, so that the view is only touched by the
+ * thread rendering it.
+ * </p>
  *
  * @param <C> The type of graphics associated with the game view.
  */
@@ -25,6 +33,7 @@ public final class ObjectRemover<C> {
     private final GameModel gameModel; // Model data for interacting with the game world
     private final GameView<C> gameView; // View component for rendering game graphics
     private final List<MutableObject> objects; // List of mutable objects to be removed
+    private final Queue<ReadOnlyGraphicDecorator<C>> removedGraphics; // Graphics waiting to leave the view
 
     /**
      * Constructs an ObjectRemover with the given game model and game view.
@@ -35,7 +44,8 @@ public final class ObjectRemover<C> {
     public ObjectRemover(final GameModel gameModel, final GameView<C> gameView) {
         this.gameModel = gameModel;
         this.gameView = Optional.of(gameView).get();
-        this.objects = new ArrayList<>();
+        this.objects = new CopyOnWriteArrayList<>();
+        this.removedGraphics = new ConcurrentLinkedQueue<>();
     }
 
     /**
@@ -64,8 +74,8 @@ public final class ObjectRemover<C> {
             if (objects.contains(key)) {
                 // Remove the game object from the game world
                 gameModel.actionOnWorld(w -> w.removeGameObjects(key));
-                // Remove the associated graphic from the view
-                removeGraphic(entry.getValue());
+                // Schedule the associated graphic for removal from the view
+                this.removedGraphics.add(entry.getValue());
                 return true; // Indicate that the object was removed
             }
             return false; // Indicate that the object was not removed
@@ -73,11 +83,14 @@ public final class ObjectRemover<C> {
     }
 
     /**
-     * Removes a graphic from the view.
-     *
-     * @param graphicDecorator The graphic decorator to be removed.
+     * Removes from the view every graphic whose object has been removed since
+     * the last call. Must be called by the thread rendering the view.
      */
-    private void removeGraphic(final ReadOnlyGraphicDecorator<C> graphicDecorator) {
-        gameView.removeGraphic(graphicDecorator);
+    public void flushRemovedGraphics() {
+        ReadOnlyGraphicDecorator<C> graphic = this.removedGraphics.poll();
+        while (graphic != null) {
+            gameView.removeGraphic(graphic);
+            graphic = this.removedGraphics.poll();
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.project.paradoxplatformer.controller.games;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import com.project.paradoxplatformer.model.entity.MutableObjectSnapshot;
+import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
+import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+
+/**
+ * An immutable picture of the world as produced by one simulation tick.
+ * <p>
+ * The simulation publishes a new snapshot at the end of every tick and the
+ * renderer applies the latest one, so the two sides never share any mutable
+ * model object and can live on different threads.
+ * </p>
+ * <p>
+ * When the view is synchronized less often, a snapshot spans several ticks
+ * and is {@link #aged()} by every tick that publishes nothing, so that the
+ * blend goes on across all the ticks it spans instead of starting over at
+ * each of them.
+ * </p>
+ *
+ * @param tick    the number of the tick that produced the snapshot
+ * @param span    the ticks between the previous state and this one
+ * @param age     the ticks run since this snapshot was published
+ * @param entries the state of every rendered object, paired with its graphic
+ * @param <C>     the type of view component
+ */
+public record RenderSnapshot<C>(long tick, int span, int age, List<Entry<C>> entries) {
+
+    /**
+     * Constructs a snapshot, defensively copying the entries.
+     *
+     * @param tick    the number of the tick that produced the snapshot
+     * @param span    the ticks between the previous state and this one
+     * @param age     the ticks run since this snapshot was published
+     * @param entries the state of every rendered object
+     * @throws IllegalArgumentException if span is not positive or age is
+     *                                  negative
+     */
+    public RenderSnapshot {
+        if (span <= 0 || age < 0) {
+            throw new IllegalArgumentException("Invalid span " + span + " or age " + age);
+        }
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Constructs a snapshot spanning a single tick.
+     *
+     * @param tick    the number of the tick that produced the snapshot
+     * @param entries the state of every rendered object
+     */
+    public RenderSnapshot(final long tick, final List<Entry<C>> entries) {
+        this(tick, 1, 0, entries);
+    }
+
+    /**
+     * Returns this snapshot, one tick older.
+     *
+     * @return the same snapshot, aged by a tick
+     */
+    public RenderSnapshot<C> aged() {
+        return new RenderSnapshot<>(this.tick, this.span, this.age + 1, this.entries);
+    }
+
+    /**
+     * Applies the given action to every entry, blending each object between its
+     * state in the previous snapshot and in this one.
+     * <p>
+     * The blend covers the whole span of the snapshot: the ticks run since it
+     * was published are added to {@code alpha} and the sum is divided by the
+     * span.
+     * </p>
+     *
+     * @param alpha  the fraction of the current tick elapsed, 0 at the tick
+     *               the snapshot was published yields the previous state and
+     *               1 at its last tick the state of this snapshot
+     * @param action the action receiving the blended state and its graphic
+     */
+    public void forEachInterpolated(
+            final double alpha,
+            final BiConsumer<ReadOnlyMutableObjectWrapper, ReadOnlyGraphicDecorator<C>> action) {
+        final double blend = Math.min(1.0, (this.age + alpha) / this.span);
+        this.entries.forEach(e -> action.accept(
+                new ReadOnlyMutableObjectWrapper(e.previous().interpolate(e.current(), blend)),
+                e.graphic()));
+    }
+
+    /**
+     * The state of a single object in a snapshot.
+     *
+     * @param previous the state of the object in the previous tick
+     * @param current  the state of the object in this tick
+     * @param graphic  the graphic rendering the object
+     * @param <C>      the type of view component
+     */
+    public record Entry<C>(
+            MutableObjectSnapshot previous,
+            MutableObjectSnapshot current,
+            ReadOnlyGraphicDecorator<C> graphic) {
+    }
+}
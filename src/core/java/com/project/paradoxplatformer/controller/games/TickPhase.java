@@ -0,0 +1,27 @@
+package com.project.paradoxplatformer.controller.games;
+
+/**
+ * The phases a game tick is made of, in the order their stages are declared.
+ */
+public enum TickPhase {
+    /**
+     * Every object updates its own state.
+     */
+    UPDATE,
+    /**
+     * Collisions are detected and their effects applied.
+     */
+    COLLISIONS,
+    /**
+     * Death and victory conditions are checked.
+     */
+    END_GAME,
+    /**
+     * Removed objects leave the world.
+     */
+    REMOVAL,
+    /**
+     * The render snapshot is captured and published for the view.
+     */
+    VIEW_SYNC
+}
@@ -0,0 +1,28 @@
+package com.project.paradoxplatformer.controller.games;
+
+/**
+ * The state shared by the stages of a game tick, which stages declare to read
+ * or write so that they can be scheduled.
+ */
+public enum TickResource {
+    /**
+     * The state of the game objects, such as positions and speeds.
+     */
+    OBJECTS,
+    /**
+     * Which objects are in the game, in the world and paired with a graphic.
+     */
+    OBJECT_SET,
+    /**
+     * The objects waiting to be removed.
+     */
+    REMOVALS,
+    /**
+     * The state of the session, its events and the end-game state.
+     */
+    SESSION,
+    /**
+     * The snapshot published for the view.
+     */
+    SNAPSHOT
+}
@@ -2,8 +2,8 @@ package com.project.paradoxplatformer.controller.input;
 
 import java.util.Set;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.project.paradoxplatformer.controller.input.api.InputTranslator;
 import com.project.paradoxplatformer.controller.input.api.InputType;
@@ -16,6 +16,8 @@ import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
  * This class uses an {@code InputTranslator} to convert key inputs to
  * {@code InputType} and provides methods to add and remove key assets from the
  * pool.
+ * The pool is concurrent, as keys are pressed on the view thread while the
+ * game loop may read them from another one.
  * </p>
  * 
  * @param <K> the type of key used in the key assetter
@@ -32,7 +34,7 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      * @param translator the input translator used to convert keys to input types
      */
     public KeyAssetterImpl(final InputTranslator<K> translator) {
-        this.pool = new HashSet<>();
+        this.pool = ConcurrentHashMap.newKeySet();
         this.translator = translator;
     }
 
@@ -43,7 +45,8 @@ public final class KeyAssetterImpl<K> implements KeyAssetter<K> {
      * @param copy the {@code KeyAssetter} to copy from
      */
     public KeyAssetterImpl(final KeyAssetter<K> copy) {
-        this.pool = new HashSet<>(copy.getUnmodifiablePool());
+        this.pool = ConcurrentHashMap.newKeySet();
+        this.pool.addAll(copy.getUnmodifiablePool());
         this.translator = null; // Translator must be set separately
     }
 
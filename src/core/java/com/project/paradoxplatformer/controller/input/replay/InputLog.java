@@ -0,0 +1,143 @@
+package com.project.paradoxplatformer.controller.input.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.controller.input.api.InputType;
+
+/**
+ * Binary format shared by {@link InputRecorder} and {@link InputReplayer}.
+ * <p>
+ * A log starts with a magic number and a version, followed by one record per
+ * change of the input state. A record holds the ticks elapsed since the
+ * previous record and the new state, both as variable length integers, so
+ * that a held key costs nothing until released. The state is a bit mask, one
+ * bit per {@link InputType} ordinal plus one for keys that could not be
+ * translated, which is why the version must change along with
+ * {@link InputType}. A record with no state ends the log at its tick.
+ * </p>
+ */
+final class InputLog {
+
+    static final int MAGIC = 0x50_58_49_4C; // "PXIL"
+    static final int VERSION = 1;
+
+    private static final int UNMAPPED = InputType.values().length;
+    private static final int END = 0; // states are shifted by one to leave room for it
+    private static final int PAYLOAD_BITS = 7;
+    private static final int PAYLOAD = 0x7F;
+    private static final int CONTINUE = 0x80;
+
+    private InputLog() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encodes a key pool into a state mask.
+     *
+     * @param pool the pool to encode
+     * @return the state mask
+     */
+    static int encode(final Set<Optional<InputType>> pool) {
+        int mask = 0;
+        for (final Optional<InputType> key : pool) {
+            mask |= 1 << key.map(InputType::ordinal).orElse(UNMAPPED);
+        }
+        return mask;
+    }
+
+    /**
+     * Decodes a state mask into a key pool.
+     *
+     * @param mask the state mask
+     * @return the key pool
+     */
+    static Set<Optional<InputType>> decode(final int mask) {
+        final Set<Optional<InputType>> pool = new HashSet<>();
+        for (final InputType type : InputType.values()) {
+            if ((mask & 1 << type.ordinal()) != 0) {
+                pool.add(Optional.of(type));
+            }
+        }
+        if ((mask & 1 << UNMAPPED) != 0) {
+            pool.add(Optional.empty());
+        }
+        return Set.copyOf(pool);
+    }
+
+    /**
+     * Writes a state change.
+     *
+     * @param out   the stream to write to
+     * @param delta the ticks elapsed since the previous record
+     * @param mask  the new state mask
+     * @throws IOException if the stream fails
+     */
+    static void writeRecord(final DataOutputStream out, final long delta, final int mask) throws IOException {
+        writeVarLong(out, delta);
+        writeVarLong(out, Integer.toUnsignedLong(mask) + 1);
+    }
+
+    /**
+     * Writes the end of the log.
+     *
+     * @param out   the stream to write to
+     * @param delta the ticks elapsed since the previous record
+     * @throws IOException if the stream fails
+     */
+    static void writeEnd(final DataOutputStream out, final long delta) throws IOException {
+        writeVarLong(out, delta);
+        writeVarLong(out, END);
+    }
+
+    /**
+     * Reads the state of a record, whose delta has already been read.
+     *
+     * @param in the stream to read from
+     * @return the state mask, or empty at the end of the log
+     * @throws IOException if the stream fails
+     */
+    static Optional<Integer> readState(final DataInputStream in) throws IOException {
+        final long state = readVarLong(in);
+        return state == END ? Optional.empty() : Optional.of((int) (state - 1));
+    }
+
+    /**
+     * Writes an unsigned variable length integer, seven bits per byte.
+     *
+     * @param out   the stream to write to
+     * @param value the value to write
+     * @throws IOException if the stream fails
+     */
+    static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        long rest = value;
+        while ((rest & ~PAYLOAD) != 0) {
+            out.writeByte((int) (rest & PAYLOAD) | CONTINUE);
+            rest >>>= PAYLOAD_BITS;
+        }
+        out.writeByte((int) rest);
+    }
+
+    /**
+     * Reads an unsigned variable length integer.
+     *
+     * @param in the stream to read from
+     * @return the value read
+     * @throws IOException if the stream fails
+     */
+    static long readVarLong(final DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & PAYLOAD) << shift;
+            shift += PAYLOAD_BITS;
+        } while ((b & CONTINUE) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.paradoxplatformer.controller.input.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+
+/**
+ * A {@link KeyInputer} recording every input state it hands out.
+ * <p>
+ * The game loop asks for the key state exactly once per tick, so each call to
+ * {@link #getKeyAssetter()} is recorded as a new tick. Only changes are
+ * written, in the format described by {@link InputLog}, and the log can be
+ * played back by an {@link InputReplayer}. The log is complete once the
+ * recorder has been closed.
+ * </p>
+ *
+ * @param <K> the type of key used by the recorded inputer
+ */
+public final class InputRecorder<K> implements KeyInputer<K>, Closeable {
+
+    private final KeyInputer<K> inputer;
+    private final DataOutputStream out;
+    private long tick;
+    private long lastChange;
+    private int lastState;
+    private boolean closed;
+
+    /**
+     * Constructs a recorder writing the inputs of the given inputer to a stream.
+     *
+     * @param inputer the inputer to record
+     * @param out     the stream to write the log to, closed along with the
+     *                recorder
+     * @throws IOException if the header cannot be written
+     */
+    public InputRecorder(final KeyInputer<K> inputer, final OutputStream out) throws IOException {
+        this.inputer = inputer;
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(InputLog.MAGIC);
+        this.out.writeByte(InputLog.VERSION);
+        this.lastState = -1; // forces the first tick to be written
+    }
+
+    /**
+     * Returns the state of the recorded inputer, logging it.
+     *
+     * @return the {@code KeyAssetter<K>} of the recorded inputer
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    @Override
+    public synchronized KeyAssetter<K> getKeyAssetter() {
+        final KeyAssetter<K> keys = this.inputer.getKeyAssetter();
+        if (!this.closed) {
+            final int state = InputLog.encode(keys.getUnmodifiablePool());
+            if (state != this.lastState) {
+                try {
+                    InputLog.writeRecord(this.out, this.tick - this.lastChange, state);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                this.lastChange = this.tick;
+                this.lastState = state;
+            }
+            this.tick++;
+        }
+        return keys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void activateKeyInput(final Runnable activateInput) {
+        this.inputer.activateKeyInput(activateInput);
+    }
+
+    /**
+     * Returns the number of ticks recorded so far.
+     *
+     * @return the recorded ticks
+     */
+    public synchronized long recordedTicks() {
+        return this.tick;
+    }
+
+    /**
+     * Ends the log at the current tick and closes the stream.
+     *
+     * @throws IOException if the log cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            try (this.out) {
+                InputLog.writeEnd(this.out, this.tick - this.lastChange);
+            }
+        }
+    }
+}
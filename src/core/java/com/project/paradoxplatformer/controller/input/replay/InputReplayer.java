@@ -0,0 +1,115 @@
+package com.project.paradoxplatformer.controller.input.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+
+/**
+ * A {@link KeyInputer} playing back a log written by an {@link InputRecorder}.
+ * <p>
+ * Every call to {@link #getKeyAssetter()} advances by one tick and returns
+ * exactly the state recorded for it, so that a game stepping at the same fixed
+ * rate receives the same commands it received while recording, without any
+ * keyboard. Past the end of the log no key is pressed.
+ * </p>
+ *
+ * @param <K> the type of key, unused as no key is ever read
+ */
+public final class InputReplayer<K> implements KeyInputer<K> {
+
+    private final long[] changes;
+    private final List<KeyAssetter<K>> states;
+    private final long length;
+    private final KeyAssetter<K> idle;
+    private int next;
+    private KeyAssetter<K> current;
+    private long tick;
+
+    /**
+     * Constructs a replayer reading the whole log from a stream.
+     *
+     * @param in the stream to read the log from, left open
+     * @throws IOException if the stream fails or does not hold a valid log
+     */
+    public InputReplayer(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != InputLog.MAGIC) {
+            throw new IOException("Not an input log");
+        }
+        final int version = data.readUnsignedByte();
+        if (version != InputLog.VERSION) {
+            throw new IOException("Unsupported input log version " + version);
+        }
+        final List<Long> ticks = new ArrayList<>();
+        this.states = new ArrayList<>();
+        long at = 0;
+        Optional<Integer> state;
+        do {
+            at += InputLog.readVarLong(data);
+            state = InputLog.readState(data);
+            if (state.isPresent()) {
+                ticks.add(at);
+                this.states.add(new ReplayKeyAssetter<>(InputLog.decode(state.get())));
+            }
+        } while (state.isPresent());
+        this.changes = ticks.stream().mapToLong(Long::longValue).toArray();
+        this.length = at;
+        this.idle = new ReplayKeyAssetter<>(Set.of());
+        this.current = this.idle;
+    }
+
+    /**
+     * Returns the state recorded for the current tick and moves to the next one.
+     *
+     * @return the replayed {@code KeyAssetter<K>}
+     */
+    @Override
+    public synchronized KeyAssetter<K> getKeyAssetter() {
+        if (this.isFinished()) {
+            this.tick++;
+            return this.idle;
+        }
+        while (this.next < this.changes.length && this.changes[this.next] <= this.tick) {
+            this.current = this.states.get(this.next);
+            this.next++;
+        }
+        this.tick++;
+        return this.current;
+    }
+
+    /**
+     * Does nothing, a replay must not listen to the keyboard.
+     *
+     * @param activateInput the activation of keyboard input (ignored)
+     */
+    @Override
+    public void activateKeyInput(final Runnable activateInput) {
+        // inputs come from the log only
+    }
+
+    /**
+     * Returns the number of ticks in the log.
+     *
+     * @return the length of the log, in ticks
+     */
+    public long length() {
+        return this.length;
+    }
+
+    /**
+     * Tells whether every recorded tick has been replayed.
+     *
+     * @return true once the end of the log has been reached
+     */
+    public synchronized boolean isFinished() {
+        return this.tick >= this.length;
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.paradoxplatformer.controller.input.replay;
+
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+
+/**
+ * A read only {@link KeyAssetter} holding a replayed key pool.
+ *
+ * @param <K> the type of key, unused as keys cannot be added
+ */
+final class ReplayKeyAssetter<K> implements KeyAssetter<K> {
+
+    private final Set<Optional<InputType>> pool;
+
+    /**
+     * Constructs a key assetter holding the given pool.
+     *
+     * @param pool the replayed pool
+     */
+    ReplayKeyAssetter(final Set<Optional<InputType>> pool) {
+        this.pool = Set.copyOf(pool);
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException}, a replayed pool cannot change.
+     *
+     * @param e the key (ignored)
+     * @return never
+     */
+    @Override
+    public boolean remove(final K e) {
+        throw new UnsupportedOperationException("Unable to execute 'remove'");
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException}, a replayed pool cannot change.
+     *
+     * @param e the key (ignored)
+     * @return never
+     */
+    @Override
+    public boolean add(final K e) {
+        throw new UnsupportedOperationException("Unable to execute 'add'");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Optional<InputType>> getUnmodifiablePool() {
+        return this.pool;
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.paradoxplatformer.controller.session;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import com.project.paradoxplatformer.controller.event.EventManager;
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.utils.time.GameClock;
+import com.project.paradoxplatformer.utils.time.GameClockImpl;
+import com.project.paradoxplatformer.view.PageIdentifier;
+
+/**
+ * The state scoped to a single running game: its event bus, its end-game
+ * state, its clock and the way it navigates to other pages.
+ * <p>
+ * Each game owns a session, so that several games can run in the same
+ * process, even concurrently, without seeing each other's events. The code
+ * running a game binds its session with {@link #run(Runnable)} or
+ * {@link #call(Supplier)}, and game objects retrieve it with
+ * {@link #current()}. Effects capture it when they are created, so that it
+ * is still reachable from their asynchronous parts. Outside any session the
+ * global one is used, backed by the application wide {@link EventManager}.
+ * </p>
+ */
+public final class GameSession {
+
+    private static final ThreadLocal<GameSession> CURRENT = new ThreadLocal<>();
+
+    private final EventManager<GameEventType, PageIdentifier> events;
+    private final BiConsumer<PageIdentifier, Level> navigator;
+    private final AtomicBoolean playerDead;
+    private final GameClock clock;
+
+    /**
+     * Constructs a session with its own event bus.
+     *
+     * @param navigator what to do when the game asks to open a page, e.g.
+     *                  switching the view or ending a simulation
+     */
+    public GameSession(final BiConsumer<PageIdentifier, Level> navigator) {
+        this(EventManager.newInstance(), navigator);
+    }
+
+    private GameSession(
+            final EventManager<GameEventType, PageIdentifier> events,
+            final BiConsumer<PageIdentifier, Level> navigator) {
+        this.events = events;
+        this.navigator = Objects.requireNonNull(navigator);
+        this.playerDead = new AtomicBoolean();
+        this.clock = new GameClockImpl();
+    }
+
+    /**
+     * Returns the session bound to the calling thread, or the global one.
+     *
+     * @return the current session
+     */
+    public static GameSession current() {
+        return Optional.ofNullable(CURRENT.get()).orElse(Holder.GLOBAL);
+    }
+
+    /**
+     * Runs a task with this session bound to the calling thread.
+     *
+     * @param task the task to run
+     */
+    public void run(final Runnable task) {
+        this.call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Computes a value with this session bound to the calling thread.
+     *
+     * @param <T>  the type of the value
+     * @param task the computation
+     * @return the computed value
+     */
+    public <T> T call(final Supplier<T> task) {
+        final GameSession previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the event bus of this session.
+     *
+     * @return the session {@link EventManager}
+     */
+    public EventManager<GameEventType, PageIdentifier> events() {
+        return this.events;
+    }
+
+    /**
+     * Asks to open a page, the way this session was configured to.
+     *
+     * @param id    the page to open
+     * @param level the level to open it with
+     */
+    public void openView(final PageIdentifier id, final Level level) {
+        this.navigator.accept(id, level);
+    }
+
+    /**
+     * Tells whether the player has been killed in this session.
+     *
+     * @return true if the player is dead
+     */
+    public boolean isPlayerDead() {
+        return this.playerDead.get();
+    }
+
+    /**
+     * Sets whether the player has been killed in this session.
+     *
+     * @param dead true if the player is dead
+     */
+    public void setPlayerDead(final boolean dead) {
+        this.playerDead.set(dead);
+    }
+
+    /**
+     * Returns the clock of this session, which every part of the game must
+     * read instead of the wall clock.
+     *
+     * @return the session {@link GameClock}
+     */
+    public GameClock clock() {
+        return this.clock;
+    }
+
+    // Holder class for lazy initialization
+    private static final class Holder {
+        // page requests go to whoever listens to the application wide bus
+        private static final GameSession GLOBAL = new GameSession(EventManager.getInstance(),
+                (id, level) -> EventManager.getInstance().publish(GameEventType.SWITCH_VIEW, id, level));
+    }
+}
@@ -1,15 +1,24 @@
 package com.project.paradoxplatformer.model;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import static java.util.function.Predicate.not;
 
+import org.slf4j.Logger;
+
 import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
 import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.model.mappings.model.ModelMappingFactory;
 import com.project.paradoxplatformer.model.mappings.model.ModelMappingFactoryImpl;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
@@ -20,7 +29,14 @@ import com.project.paradoxplatformer.model.world.WordBuilderImpl;
 import com.project.paradoxplatformer.model.world.WorldImpl;
 import com.project.paradoxplatformer.model.world.api.World;
 import com.project.paradoxplatformer.model.world.api.WorldBuilder;
+import com.project.paradoxplatformer.utils.collision.ColliderMerger;
+import com.project.paradoxplatformer.utils.collision.MergedColliders;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ShapedCollidable;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.logging.GlobalLogger;
 
 /**
  * Represents the model data for the platform game.
@@ -35,6 +51,7 @@ public final class GameModelImpl implements GameModel {
         private WorldBuilder worldBuilder;
         private World world;
         private final ModelMappingFactory modelFactory;
+        private final Logger logger = GlobalLogger.getLogger(GameModelImpl.class);
 
         /**
          * Constructs a {@link GameModelImpl} with the specified level data.
@@ -51,7 +68,11 @@ public final class GameModelImpl implements GameModel {
          * Initializes the game model based on the provided level data.
          * <p>
          * This method maps the player, obstacles, and triggers from the level data and
-         * builds the game world.
+         * builds the game world. Obstacles and triggers without any trajectory never
+         * move, so they are handed to the world as static colliders, indexed once
+         * here rather than tested again on every tick. Adjacent static obstacles
+         * of the same type are merged into larger colliders first, the obstacles
+         * themselves staying in the world with their ids.
          * </p>
          * 
          * @throws IllegalStateException    if the attribute type of game DTO is
@@ -76,23 +97,30 @@ public final class GameModelImpl implements GameModel {
                                                                 .findFirst()
                                                                 .orElseThrow());
 
+                final List<MutableObject> staticColliders = new ArrayList<>();
+                final Map<MutableObject, Set<CollisionType>> collisionMasks = new HashMap<>();
+
                 final Obstacle[] obstacles = this.findGameDTOData("obstacle").stream()
-                                .map(dto -> modelFactory.obstacleToModel().map(dto))
+                                .map(dto -> this.track(modelFactory.obstacleToModel().map(dto), dto,
+                                                staticColliders, collisionMasks))
                                 .toList()
                                 .toArray(new Obstacle[0]);
 
                 final Trigger[] triggers = this.findGameDTOData("trigger").stream()
-                                .map(dto -> modelFactory.triggerToModel().map(dto))
+                                .map(dto -> this.track(modelFactory.triggerToModel().map(dto), dto,
+                                                staticColliders, collisionMasks))
                                 .toList()
                                 .toArray(new Trigger[0]);
 
                 this.addObstaclesToTrigger(obstacles, triggers);
 
+                collisionMasks.forEach(this.worldBuilder::addCollisionMask);
                 this.world = this.worldBuilder
                                 .addBounds(new Dimension(packedData.getWidth(), packedData.getHeight()))
                                 .addPlayer(player)
                                 .addObstacle(obstacles)
                                 .addTrigger(triggers)
+                                .addStaticColliders(this.merge(staticColliders, collisionMasks.keySet()))
                                 .build();
         }
 
@@ -151,6 +179,58 @@ public final class GameModelImpl implements GameModel {
                                                                                 + attribute));
         }
 
+        /**
+         * Adds the given object to the static colliders if its data object defines
+         * no trajectory, meaning it will never move, records the collision types it
+         * collides with if its data object overrides them and sets its collision
+         * shape if its data object overrides it.
+         *
+         * @throws IllegalArgumentException if an overridden collision type or shape
+         *                                  does not exist
+         */
+        private <T extends MutableObject> T track(final T object, final GameDTO dto,
+                        final Collection<MutableObject> staticColliders,
+                        final Map<MutableObject, Set<CollisionType>> collisionMasks) {
+                if (Objects.isNull(dto.getTraj()) || dto.getTraj().length == 0) {
+                        staticColliders.add(object);
+                }
+                Optional.ofNullable(dto.getCollidesWith())
+                                .map(names -> Arrays.stream(names)
+                                                .map(CollisionType::valueOf)
+                                                .collect(Collectors.toCollection(
+                                                                () -> EnumSet.noneOf(CollisionType.class))))
+                                .ifPresent(types -> collisionMasks.put(object, types));
+                Optional.ofNullable(dto.getShape())
+                                .map(CollisionShape::valueOf)
+                                .filter(shape -> object instanceof ShapedCollidable)
+                                .ifPresent(shape -> ((ShapedCollidable) object).setCollisionShape(shape));
+                return object;
+        }
+
+        /**
+         * Merges the static obstacles sharing a collision type, triggers and
+         * objects overriding their collision types being kept apart since they
+         * are told apart when colliding.
+         */
+        private List<CollidableGameObject> merge(final Collection<MutableObject> staticColliders,
+                        final Set<MutableObject> masked) {
+                final List<CollidableGameObject> colliders = new ArrayList<>();
+                final List<MutableObject> mergeable = new ArrayList<>();
+                staticColliders.forEach(collider -> {
+                        if (collider instanceof Obstacle && !masked.contains(collider)) {
+                                mergeable.add(collider);
+                        } else {
+                                colliders.add(collider);
+                        }
+                });
+                final MergedColliders merged = ColliderMerger.merge(mergeable);
+                colliders.addAll(merged.colliders());
+                logger.info("Merged {} static obstacles into {} colliders, {}% fewer",
+                                merged.originalCount(), merged.colliders().size(),
+                                Math.round(merged.reductionRatio() * 100));
+                return colliders;
+        }
+
         private void addObstaclesToTrigger(final Obstacle[] obstacles, final Trigger[] triggers) {
                 Arrays.stream(triggers)
                                 .filter(t -> t.getTriggerableID().isPresent())
@@ -1,5 +1,6 @@
 package com.project.paradoxplatformer.model.effect.abstracts;
 
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.effect.api.Effect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 
@@ -17,9 +18,23 @@ import java.util.concurrent.CompletableFuture;
  * Subclasses are required to define how an effect is applied to individual game
  * objects
  * by implementing the {@link #applyToGameObject(CollidableGameObject)} method.
+ * 
+ * Every effect belongs to the {@link GameSession} current when it is created.
  */
 public abstract class AbstractEffect implements Effect {
 
+    private final GameSession session = GameSession.current();
+
+    /**
+     * Returns the session this effect belongs to, reachable from any thread the
+     * effect runs on.
+     * 
+     * @return the {@link GameSession} of this effect
+     */
+    protected GameSession getSession() {
+        return this.session;
+    }
+
     /**
      * Applies the effect to both the target and the self object, if present.
      * This default implementation applies the effect to both objects concurrently.
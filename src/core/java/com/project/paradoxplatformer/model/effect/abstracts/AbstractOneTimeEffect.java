@@ -1,13 +1,14 @@
 package com.project.paradoxplatformer.model.effect.abstracts;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.model.effect.api.OneTimeEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * Abstract base class for one-time effects. These effects are applied once
@@ -30,6 +31,16 @@ public abstract class AbstractOneTimeEffect extends AbstractEffect implements On
         return super.apply(target, self).thenRun(() -> this.cleanup(self));
     }
 
+    /**
+     * One-time effects are only applied when a contact starts.
+     * 
+     * @return only {@link ContactPhase#ENTER}
+     */
+    @Override
+    public Set<ContactPhase> phases() {
+        return ContactPhase.ON_ENTER;
+    }
+
     /**
      * Cleanup logic for removing the effect once it's applied.
      * 
@@ -38,6 +49,6 @@ public abstract class AbstractOneTimeEffect extends AbstractEffect implements On
     protected void cleanup(final Optional<? extends CollidableGameObject> self) {
 //        System.out.println("One time effect is in clean up mode.");
         // Publish an event to remove the object after the effect is applied
-        EventManager.getInstance().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, self);
+        getSession().events().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, self);
     }
 }
@@ -1,9 +1,12 @@
 package com.project.paradoxplatformer.model.effect.api;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import com.project.paradoxplatformer.utils.collision.Manifold;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Represents an effect that can be applied to game objects. Effects may modify
@@ -26,6 +29,24 @@ public interface Effect {
     CompletableFuture<Void> apply(Optional<? extends CollidableGameObject> target,
             Optional<? extends CollidableGameObject> self);
 
+    /**
+     * Applies this effect to the specified target and self game objects, knowing
+     * how they touch. By default the contact is ignored.
+     * 
+     * @param target   An Optional containing the target game object this effect
+     *                 will be applied to.
+     * @param self     An Optional containing the game object that is applying the
+     *                 effect.
+     * @param manifold The contact of the target with the self object, its normal
+     *                 pointing towards the target.
+     * @return A CompletableFuture that represents the asynchronous completion of
+     *         the effect application.
+     */
+    default CompletableFuture<Void> apply(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final Manifold manifold) {
+        return this.apply(target, self);
+    }
+
     /**
      * Provides a completed future with no action. This is a utility method to use
      * when no effect needs to be applied, avoiding the need to create new futures.
@@ -45,6 +66,16 @@ public interface Effect {
      */
     boolean isOneTimeEffect();
 
+    /**
+     * Returns the phases of a contact this effect is applied in. By default an
+     * effect is applied on every tick the objects touch.
+     * 
+     * @return the phases this effect cares about
+     */
+    default Set<ContactPhase> phases() {
+        return ContactPhase.TOUCHING;
+    }
+
     /**
      * Recreates a new instance of this effect. The default implementation returns
      * the current instance, which is suitable for effects that do not need to be
@@ -4,8 +4,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
+import com.project.paradoxplatformer.utils.collision.Manifold;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Interface for handling effects in the game. Provides methods for adding,
@@ -58,6 +60,32 @@ public interface EffectHandler {
      */
     CompletableFuture<Void> applyEffects(CollidableGameObject source, CollidableGameObject target);
 
+    /**
+     * Applies to the target object the effects caring about the given phase of
+     * its contact with the source object.
+     *
+     * @param source the source game object
+     * @param target the target game object
+     * @param phase  the phase of the contact between the objects
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    CompletableFuture<Void> applyEffects(CollidableGameObject source, CollidableGameObject target,
+            ContactPhase phase);
+
+    /**
+     * Applies to the target object the effects caring about the given phase of
+     * its contact with the source object, handing them how the objects touch.
+     *
+     * @param source   the source game object
+     * @param target   the target game object
+     * @param phase    the phase of the contact between the objects
+     * @param manifold the contact of the source with the target, its normal
+     *                 pointing towards the source
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    CompletableFuture<Void> applyEffects(CollidableGameObject source, CollidableGameObject target,
+            ContactPhase phase, Manifold manifold);
+
     /**
      * Retrieves all effects associated with a specific game object, combining both
      * type and object-specific effects.
@@ -2,13 +2,11 @@ package com.project.paradoxplatformer.model.effect.impl;
 
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractOneTimeEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
-import com.project.paradoxplatformer.view.manager.ViewNavigator;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * An effect that changes the game level when applied.
@@ -42,10 +40,10 @@ public class ChangeLevelEffect extends AbstractOneTimeEffect {
         //To ensure that this operation is done only one time
         if (isNew) {
             // Notify the event manager to stop the current view
-            EventManager.getInstance().publish(GameEventType.STOP_VIEW, PageIdentifier.GAME, level);
+            getSession().events().publish(GameEventType.STOP_VIEW, PageIdentifier.GAME, level);
 
             // Open the new view associated with the specified level
-            ViewNavigator.getInstance().openView(PageIdentifier.GAME, level);
+            getSession().openView(PageIdentifier.GAME, level);
             isNew = false;
         }
         return CompletableFuture.completedFuture(null); // Return a completed future
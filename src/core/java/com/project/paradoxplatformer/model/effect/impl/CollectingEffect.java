@@ -1,14 +1,15 @@
 package com.project.paradoxplatformer.model.effect.impl;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractPlayerEffect;
 import com.project.paradoxplatformer.model.entity.CollectableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * Such effects permits the player to collect {@code CollectableGameObject} to
@@ -33,13 +34,23 @@ public final class CollectingEffect extends AbstractPlayerEffect {
         });
     }
 
+    /**
+     * An item is collected once, when the contact starts.
+     * 
+     * @return only {@link ContactPhase#ENTER}
+     */
+    @Override
+    public Set<ContactPhase> phases() {
+        return ContactPhase.ON_ENTER;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected CompletableFuture<Void> applyToSelf(final Optional<? extends CollidableGameObject> self) {
         return super.applyToSelf(self)
-                .thenAccept(obj -> EventManager.getInstance()
+                .thenAccept(obj -> getSession().events()
                         .publish(GameEventType.REMOVE_OBJECT, PageIdentifier.GAME, self));
     }
 
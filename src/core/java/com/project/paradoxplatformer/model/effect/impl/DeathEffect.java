@@ -4,7 +4,6 @@ import java.util.concurrent.CompletableFuture;
 
 import com.project.paradoxplatformer.model.effect.abstracts.AbstractOneTimeEffect;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
-import com.project.paradoxplatformer.model.endgame.condition.DeathObstacleCollisionCondition;
 
 /**
  * An effect that causes the end of the game.
@@ -19,7 +18,7 @@ public final class DeathEffect extends AbstractOneTimeEffect {
     protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
         return CompletableFuture.runAsync(() -> {
             // System.out.println(gameObject);
-            DeathObstacleCollisionCondition.setDeath(true);
+            getSession().setPlayerDead(true);
         });
     }
 
@@ -12,8 +12,10 @@ import com.project.paradoxplatformer.model.effect.managers.ChainOfEffects;
 import com.project.paradoxplatformer.model.effect.managers.ChainOfEffectsBuilder;
 import com.project.paradoxplatformer.model.effect.managers.ObjectEffectsManager;
 import com.project.paradoxplatformer.model.effect.managers.TypeEffectsManager;
+import com.project.paradoxplatformer.utils.collision.Manifold;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Manages the application and handling of effects in the game.
@@ -98,6 +100,49 @@ public final class EffectHandlerImpl implements EffectHandler {
                 return CompletableFuture.allOf(typeEffectsFuture, objectEffectsFuture);
         }
 
+        /**
+         * Applies to the target object the effects caring about the given phase of
+         * its contact with the source object.
+         *
+         * @param source the source game object
+         * @param target the target game object
+         * @param phase  the phase of the contact between the objects
+         * @return a CompletableFuture that completes when all effects have been applied
+         */
+        @Override
+        public CompletableFuture<Void> applyEffects(final CollidableGameObject source,
+                        final CollidableGameObject target, final ContactPhase phase) {
+                final CompletableFuture<Void> typeEffectsFuture = typeEffectsManager
+                                .getEffects(target.getCollisionType())
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase);
+                final CompletableFuture<Void> objectEffectsFuture = objectEffectsManager
+                                .getEffects(target.getCollisionType(), target)
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase);
+                return CompletableFuture.allOf(typeEffectsFuture, objectEffectsFuture);
+        }
+
+        /**
+         * Applies to the target object the effects caring about the given phase of
+         * its contact with the source object, handing them how the objects touch.
+         *
+         * @param source   the source game object
+         * @param target   the target game object
+         * @param phase    the phase of the contact between the objects
+         * @param manifold the contact of the source with the target
+         * @return a CompletableFuture that completes when all effects have been applied
+         */
+        @Override
+        public CompletableFuture<Void> applyEffects(final CollidableGameObject source,
+                        final CollidableGameObject target, final ContactPhase phase, final Manifold manifold) {
+                final CompletableFuture<Void> typeEffectsFuture = typeEffectsManager
+                                .getEffects(target.getCollisionType())
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase, manifold);
+                final CompletableFuture<Void> objectEffectsFuture = objectEffectsManager
+                                .getEffects(target.getCollisionType(), target)
+                                .applyToBoth(Optional.of(source), Optional.of(target), phase, manifold);
+                return CompletableFuture.allOf(typeEffectsFuture, objectEffectsFuture);
+        }
+
         /**
          * Applies a chain of effects sequentially to the source and target objects.
          *
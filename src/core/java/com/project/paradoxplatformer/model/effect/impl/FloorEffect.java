@@ -0,0 +1,66 @@
+package com.project.paradoxplatformer.model.effect.impl;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.project.paradoxplatformer.model.effect.abstracts.AbstractRecreatableEffect;
+import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.api.RecreateableEffect;
+import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
+import com.project.paradoxplatformer.utils.collision.Manifold;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.GroundedCollidable;
+
+/**
+ * Effect applied to prevent from falling upon a ground level (or a platfrom).
+ */
+public final class FloorEffect extends AbstractRecreatableEffect {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RecreateableEffect recreate() {
+        return this;
+    }
+
+    /**
+     * Stops the fall only when landing on the platform or bumping its
+     * underside, touching one of its sides leaving the fall untouched.
+     * <p>
+     * An object remembering what it stands on lands on the platform right
+     * away, so that standing on it costs nothing from the next step on.
+     * </p>
+     * 
+     * @param target   the object touching the platform
+     * @param self     the platform
+     * @param manifold the contact of the object with the platform
+     * @return the future of the effect application
+     */
+    @Override
+    public CompletableFuture<Void> apply(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final Manifold manifold) {
+        if (manifold.isHorizontal()) {
+            return Effect.empty();
+        }
+        if (manifold.isGround() && self.isPresent()
+                && target.orElse(null) instanceof GroundedCollidable grounded) {
+            grounded.land(self.get());
+            return Effect.empty();
+        }
+        return this.apply(target, self);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
+        return CompletableFuture.runAsync(() -> {
+            if (gameObject instanceof ControllableObject controllableObject) {
+                controllableObject.stopFall();
+            }
+        });
+    }
+
+}
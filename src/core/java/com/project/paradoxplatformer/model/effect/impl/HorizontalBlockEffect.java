@@ -0,0 +1,54 @@
+package com.project.paradoxplatformer.model.effect.impl;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.project.paradoxplatformer.model.effect.abstracts.AbstractPlayerEffect;
+import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.Manifold;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+
+/**
+ * Effects to handle stopping/blocking effect of the target (in this case is
+ * only the player) to a Wall (it is specific for walls).
+ */
+public final class HorizontalBlockEffect extends AbstractPlayerEffect {
+
+    /**
+     * Places the player right against the side of the wall it touches, found
+     * from the contact rather than from the direction the player faces.
+     * Contacts with the top or the bottom of the wall leave the player as is.
+     * The player is moved right away, on the thread handling the collisions,
+     * so that it is in place before the state of the tick is captured.
+     * 
+     * @param target   the object touching the wall
+     * @param self     the wall
+     * @param manifold the contact of the object with the wall
+     * @return an already completed future
+     */
+    @Override
+    public CompletableFuture<Void> apply(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final Manifold manifold) {
+        if (manifold.isHorizontal()) {
+            target.filter(PlayerModel.class::isInstance)
+                    .map(PlayerModel.class::cast)
+                    .ifPresent(player -> player.setDisplacement(manifold.normalX() > 0
+                            ? manifold.edgeStart().x()
+                            : manifold.edgeStart().x() - player.getDimension().width()));
+        }
+        return Effect.empty();
+    }
+
+    /**
+     * Leaves the object as is: without a contact, such as when the player only
+     * touches a corner of the wall, there is no side to block it against.
+     * 
+     * @param gameObject the object touching the wall
+     * @return an already completed future
+     */
+    @Override
+    protected CompletableFuture<Void> applyToGameObject(final CollidableGameObject gameObject) {
+        return Effect.empty();
+    }
+}
@@ -5,11 +5,13 @@ import com.project.paradoxplatformer.model.effect.api.RecreateableEffect;
 import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.utils.ResourcesFinder;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 import com.project.paradoxplatformer.utils.logging.GlobalLogger;
 import com.project.paradoxplatformer.utils.sound.SoundLoader;
 import com.project.paradoxplatformer.utils.sound.SoundType;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
@@ -74,6 +76,16 @@ public final class SoundEffect extends AbstractRecreatableEffect {
         return new SoundEffect(soundType);
     }
 
+    /**
+     * A sound is played when the contact starts.
+     * 
+     * @return only {@link ContactPhase#ENTER}
+     */
+    @Override
+    public Set<ContactPhase> phases() {
+        return ContactPhase.ON_ENTER;
+    }
+
     /**
      * Applies the sound effect to the current instance (self).
      * This method does nothing for SoundEffect as it is not intended to affect
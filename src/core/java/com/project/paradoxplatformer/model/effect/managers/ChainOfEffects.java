@@ -6,7 +6,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.utils.collision.Manifold;
 import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
 
 /**
  * Represents a chain of effects to be applied sequentially to a target object.
@@ -49,6 +51,49 @@ public class ChainOfEffects {
         return applySequentially(target, self);
     }
 
+    /**
+     * Applies the effects of the chain caring about the given phase of a contact
+     * to both target and self objects asynchronously, sequentially in the order
+     * they were added.
+     *
+     * @param target the optional target object to apply effects to
+     * @param self   the optional self object to apply effects to
+     * @param phase  the phase of the contact between the objects
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    public CompletableFuture<Void> applyToBoth(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final ContactPhase phase) {
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (final Effect effect : effects) {
+            if (effect.phases().contains(phase)) {
+                future = future.thenCompose(v -> effect.apply(target, self));
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Applies the effects of the chain caring about the given phase of a contact
+     * to both target and self objects asynchronously, sequentially in the order
+     * they were added, handing them how the objects touch.
+     *
+     * @param target   the optional target object to apply effects to
+     * @param self     the optional self object to apply effects to
+     * @param phase    the phase of the contact between the objects
+     * @param manifold the contact of the target with the self object
+     * @return a CompletableFuture that completes when all effects have been applied
+     */
+    public CompletableFuture<Void> applyToBoth(final Optional<? extends CollidableGameObject> target,
+            final Optional<? extends CollidableGameObject> self, final ContactPhase phase, final Manifold manifold) {
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (final Effect effect : effects) {
+            if (effect.phases().contains(phase)) {
+                future = future.thenCompose(v -> effect.apply(target, self, manifold));
+            }
+        }
+        return future;
+    }
+
     /**
      * Helper method to apply effects sequentially to target and self.
      *
@@ -4,12 +4,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
-import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.utils.ListUtil;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
-import com.project.paradoxplatformer.view.manager.ViewNavigator;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * Implementation of the EndGameManager interface.
@@ -113,17 +112,19 @@ public class EndGameManagerImpl implements EndGameManager {
     }
 
     /**
-     * Triggers an event with a given message and navigates to the specified page.
+     * Triggers an event with a given message and navigates to the specified page,
+     * within the current {@link GameSession}.
      *
      * @param condition The condition to trigger (WIN or LOSE).
      */
     private void triggerEvent(final ConditionType condition) {
         if (condition != null) {
-            EventManager.getInstance().publish(GameEventType.STOP_VIEW, null, null);
+            final GameSession session = GameSession.current();
+            session.events().publish(GameEventType.STOP_VIEW, null, null);
             if (condition.equals(ConditionType.WIN)) {
-                ViewNavigator.getInstance().openView(PageIdentifier.GAME, this.nextLevel);
+                session.openView(PageIdentifier.GAME, this.nextLevel);
             } else {
-                ViewNavigator.getInstance().openView(PageIdentifier.GAME, this.currentLevel);
+                session.openView(PageIdentifier.GAME, this.currentLevel);
             }
         }
     }
@@ -0,0 +1,23 @@
+package com.project.paradoxplatformer.model.endgame.condition;
+
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.endgame.DeathCondition;
+
+/**
+ * An implementation of the DeathCondition interface that tracks
+ * if a player is dead based on collision with a death obstacle.
+ * The state belongs to the current {@link GameSession}, where it is set by
+ * the death effects.
+ */
+public class DeathObstacleCollisionCondition implements DeathCondition {
+
+    /**
+     * Checks if the death condition has been met.
+     *
+     * @return true if the player is dead, false otherwise.
+     */
+    @Override
+    public boolean death() {
+        return GameSession.current().isPlayerDead();
+    }
+}
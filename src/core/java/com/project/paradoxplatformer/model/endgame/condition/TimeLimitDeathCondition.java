@@ -1,15 +1,21 @@
 package com.project.paradoxplatformer.model.endgame.condition;
 
+import java.util.concurrent.TimeUnit;
+
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.endgame.DeathCondition;
 
 /**
  * TimeLimitDeathCondition checks if the player has survived past a specific
  * time limit.
+ * Time is measured on the clock of the current {@link GameSession}, starting
+ * from the first check, so it does not flow while the game is paused.
  */
 public class TimeLimitDeathCondition implements DeathCondition {
 
-    private final long startTime;
     private final long timeLimit;
+    private long startTime;
+    private boolean started;
 
     /**
      * Constructs a TimeLimitDeathCondition with the specified time limit.
@@ -17,8 +23,7 @@ public class TimeLimitDeathCondition implements DeathCondition {
      * @param timeLimit the time limit in seconds after which the player dies.
      */
     public TimeLimitDeathCondition(final long timeLimit) {
-        this.startTime = System.currentTimeMillis();
-        this.timeLimit = timeLimit * 1000; // Convert seconds to milliseconds
+        this.timeLimit = TimeUnit.SECONDS.toNanos(timeLimit);
     }
 
     /**
@@ -28,8 +33,12 @@ public class TimeLimitDeathCondition implements DeathCondition {
      */
     @Override
     public boolean death() {
-        final long elapsedTime = System.currentTimeMillis() - startTime;
-        return elapsedTime > timeLimit;
+        final long currentTime = GameSession.current().clock().now();
+        if (!this.started) {
+            this.startTime = currentTime;
+            this.started = true;
+        }
+        return currentTime - this.startTime > this.timeLimit;
     }
 
 }
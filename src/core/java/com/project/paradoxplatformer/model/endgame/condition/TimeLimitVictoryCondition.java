@@ -0,0 +1,45 @@
+package com.project.paradoxplatformer.model.endgame.condition;
+
+import java.util.concurrent.TimeUnit;
+
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.endgame.VictoryCondition;
+
+/**
+ * The TimeLimitVictoryCondition class represents a victory condition where the
+ * player wins by surviving for a specified time.
+ * Time is measured on the clock of the current {@link GameSession}, starting
+ * from the first check, so it does not flow while the game is paused.
+ */
+public class TimeLimitVictoryCondition implements VictoryCondition {
+
+    private final long timeLimit;
+    private long startTime;
+    private boolean started;
+
+    /**
+     * Constructs a TimeLimitVictoryCondition.
+     *
+     * @param timeLimitSeconds The time in seconds the player has to survive to win.
+     */
+    public TimeLimitVictoryCondition(final int timeLimitSeconds) {
+        this.timeLimit = TimeUnit.SECONDS.toNanos(timeLimitSeconds);
+    }
+
+    /**
+     * Checks if the player has won by verifying if the time limit has been
+     * reached.
+     *
+     * @return true if the player has survived for the time limit, false otherwise.
+     */
+    @Override
+    public boolean win() {
+        final long currentTime = GameSession.current().clock().now();
+        if (!this.started) {
+            this.startTime = currentTime;
+            this.started = true;
+        }
+        return currentTime - this.startTime >= this.timeLimit;
+    }
+
+}
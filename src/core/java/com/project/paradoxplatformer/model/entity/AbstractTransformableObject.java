@@ -1,11 +1,14 @@
 package com.project.paradoxplatformer.model.entity;
 
 import java.util.LinkedList;
+import java.util.Objects;
 import java.util.Queue;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ShapedCollidable;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.utils.geometries.interpolations.InterpolatorFactory;
@@ -25,7 +28,7 @@ import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
  * speed and base delta.
  * </p>
  */
-public abstract class AbstractTransformableObject extends AbstractPositionableObject {
+public abstract class AbstractTransformableObject extends AbstractPositionableObject implements ShapedCollidable {
     private static final double BASE_DELTA = 0.0;
     private Dimension dimension;
     private Vector2D heightVector;
@@ -36,6 +39,7 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
     private boolean isIdle;
     private final PhysicsEngine mover;
     private final InterpolatorFactory interpolatorFactory;
+    private CollisionShape collisionShape;
 
     /**
      * Constructs an {@code AbstractTransformableObject} with the specified
@@ -63,6 +67,7 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
         this.isIdle = true;
         this.anchorY = position.y();
         this.anchorHeight = dimension.height();
+        this.collisionShape = CollisionShape.AABB;
     }
 
     /**
@@ -79,6 +84,22 @@ public abstract class AbstractTransformableObject extends AbstractPositionableOb
         this(key, position, dimension, new LinkedList<>());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CollisionShape getCollisionShape() {
+        return this.collisionShape;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setCollisionShape(final CollisionShape shape) {
+        this.collisionShape = Objects.requireNonNull(shape);
+    }
+
     /**
      * Returns the current dimension of this object.
      * 
@@ -0,0 +1,181 @@
+package com.project.paradoxplatformer.model.entity;
+
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
+
+/**
+ * An immutable copy of the observable state of a {@link MutableObject}.
+ * <p>
+ * Unlike {@link ReadOnlyMutableObjectWrapper}, which reads through to the
+ * live object, a snapshot freezes position, dimension and speed at the moment
+ * it is taken. This allows the renderer to blend two snapshots of the same
+ * object, or to read state that has been produced on another thread, without
+ * ever touching the model.
+ * </p>
+ */
+public final class MutableObjectSnapshot implements MutableObject {
+
+    private final int id;
+    private final Coord2D position;
+    private final Dimension dimension;
+    private final Vector2D speed;
+    private final double baseDelta;
+    private final CollisionType collisionType;
+
+    /**
+     * Constructs a snapshot with the given state.
+     *
+     * @param id            the unique id of the captured object
+     * @param position      the captured position
+     * @param dimension     the captured dimension
+     * @param speed         the captured speed
+     * @param baseDelta     the captured base delta
+     * @param collisionType the collision type of the captured object
+     */
+    public MutableObjectSnapshot(
+            final int id,
+            final Coord2D position,
+            final Dimension dimension,
+            final Vector2D speed,
+            final double baseDelta,
+            final CollisionType collisionType) {
+        this.id = id;
+        this.position = position;
+        this.dimension = dimension;
+        this.speed = speed;
+        this.baseDelta = baseDelta;
+        this.collisionType = collisionType;
+    }
+
+    /**
+     * Captures the current state of the given object.
+     *
+     * @param object the object to capture
+     * @return a snapshot holding the current state of {@code object}
+     */
+    public static MutableObjectSnapshot of(final MutableObject object) {
+        return new MutableObjectSnapshot(
+                object.getID(),
+                object.getPosition(),
+                object.getDimension(),
+                object.getSpeed(),
+                object.getBaseDelta(),
+                object.getCollisionType());
+    }
+
+    /**
+     * Linearly blends this snapshot with a more recent one of the same object.
+     * <p>
+     * Only position and dimension are blended; every other attribute is taken
+     * from {@code next}, as it describes the most recent simulation step.
+     * </p>
+     *
+     * @param next  the more recent snapshot
+     * @param alpha the blending factor, 0 yields this snapshot and 1 yields
+     *              {@code next}
+     * @return the blended snapshot
+     */
+    public MutableObjectSnapshot interpolate(final MutableObjectSnapshot next, final double alpha) {
+        return new MutableObjectSnapshot(
+                next.id,
+                new Coord2D(
+                        lerp(this.position.x(), next.position.x(), alpha),
+                        lerp(this.position.y(), next.position.y(), alpha)),
+                new Dimension(
+                        lerp(this.dimension.width(), next.dimension.width(), alpha),
+                        lerp(this.dimension.height(), next.dimension.height(), alpha)),
+                next.speed,
+                next.baseDelta,
+                next.collisionType);
+    }
+
+    private static double lerp(final double start, final double end, final double alpha) {
+        return start + (end - start) * alpha;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D getPosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension getDimension() {
+        return this.dimension;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getID() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector2D getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBaseDelta() {
+        return this.baseDelta;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CollisionType getCollisionType() {
+        return this.collisionType;
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because a snapshot cannot be
+     * moved.
+     *
+     * @param position the new position (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void setPosition(final Coord2D position) {
+        throw new UnsupportedOperationException("Unable to execute 'setPosition'");
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because a snapshot cannot be
+     * resized.
+     *
+     * @param dimension the new dimension (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void setDimension(final Dimension dimension) {
+        throw new UnsupportedOperationException("Unable to execute 'setDimension'");
+    }
+
+    /**
+     * Throws {@link UnsupportedOperationException} because a snapshot cannot be
+     * updated.
+     *
+     * @param dt the time delta (ignored)
+     * @throws UnsupportedOperationException if called
+     */
+    @Override
+    public void updateState(final long dt) {
+        throw new UnsupportedOperationException("Unable to execute 'updateState'");
+    }
+}
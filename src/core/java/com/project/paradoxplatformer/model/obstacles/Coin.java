@@ -5,12 +5,14 @@ import java.util.Queue;
 import com.project.paradoxplatformer.model.entity.CollectableGameObject;
 import com.project.paradoxplatformer.model.entity.TrajectoryInfo;
 import com.project.paradoxplatformer.model.obstacles.abstracts.AbstractObstacle;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
 /**
  * A Coin is a collectable object that a player can collect and store in the inventory.
+ * Being round, it collides as a {@link CollisionShape#CIRCLE}.
  * @see com.project.paradoxplatformer.model.effect.impl.CollectingEffect
  */
 public final class Coin extends AbstractObstacle implements CollectableGameObject {
@@ -29,6 +31,7 @@ public final class Coin extends AbstractObstacle implements CollectableGameObjec
             final Queue<TrajectoryInfo> trajectoryQueue
     ) {
         super(key, position, dimension, trajectoryQueue);
+        this.setCollisionShape(CollisionShape.CIRCLE);
     }
 
     /**
@@ -39,6 +42,7 @@ public final class Coin extends AbstractObstacle implements CollectableGameObjec
      */
     public Coin(final int key, final Coord2D position, final Dimension dimension) {
         super(key, position, dimension);
+        this.setCollisionShape(CollisionShape.CIRCLE);
     }
 
     /**
@@ -4,12 +4,14 @@ import java.util.Queue;
 
 import com.project.paradoxplatformer.model.entity.TrajectoryInfo;
 import com.project.paradoxplatformer.model.obstacles.abstracts.AbstractObstacle;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
 /**
  * A DeathCoin is an obstacle that causes the player to lose the game if collided with.
+ * Being round, it collides as a {@link CollisionShape#CIRCLE}.
  */
 public final class DeathCoin extends AbstractObstacle {
 
@@ -27,6 +29,7 @@ public final class DeathCoin extends AbstractObstacle {
             final Dimension dimension,
             final Queue<TrajectoryInfo> trajectoryQueue) {
         super(key, position, dimension, trajectoryQueue);
+        this.setCollisionShape(CollisionShape.CIRCLE);
     }
 
     @Override
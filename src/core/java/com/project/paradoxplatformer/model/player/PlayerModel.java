@@ -6,7 +6,11 @@ import com.project.paradoxplatformer.model.entity.CollectableGameObject;
 import com.project.paradoxplatformer.model.entity.dynamics.abstracts.AbstractControllableObject;
 import com.project.paradoxplatformer.model.entity.dynamics.abstracts.HorizontalStats;
 import com.project.paradoxplatformer.model.entity.dynamics.behavior.PlatformJump;
+import com.project.paradoxplatformer.utils.collision.GroundContact;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.GroundedCollidable;
+import com.project.paradoxplatformer.utils.collision.api.SweptCollidable;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.utils.geometries.interpolations.InterpolatorFactory;
@@ -20,7 +24,8 @@ import com.project.paradoxplatformer.utils.geometries.vector.api.Vector2D;
  * Player model that handles the player's state, position, movement,
  * and inventory management.
  */
-public final class PlayerModel extends AbstractControllableObject implements InventoryManager {
+public final class PlayerModel extends AbstractControllableObject implements InventoryManager, SweptCollidable,
+        GroundedCollidable {
 
     // Definizioni costanti
     private static final Dimension DEFAULT_SIZE = new Dimension(10, 20);
@@ -31,6 +36,8 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
     private Coord2D position;
     private Dimension dimension;
     private Vector2D displacement;
+    private Coord2D stepOrigin;
+    private final GroundContact ground;
 
     // Sistema fisico e interpolazioni
     private final PhysicsEngine physics;
@@ -48,6 +55,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      */
     public PlayerModel(final int key, final Coord2D pos, final Dimension dimension) {
         super(key, new HorizontalStats(DEFAULT_SPEED, 10));
+        this.ground = new GroundContact();
         this.initialize(pos, dimension);
         this.physics = new PhysicsEngine();
         this.interpFactory = new InterpolatorFactoryImpl();
@@ -72,6 +80,7 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
         this.setPosition(pos);
         this.setDimension(dimension);
         this.displacement = new Simple2DVector(pos.x(), pos.y());
+        this.stepOrigin = pos;
         setHorizontalSpeed(Polar2DVector.nullVector());
         setVerticalSpeed(Polar2DVector.nullVector());
     }
@@ -161,8 +170,8 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      * movement to
      * update the player's position accurately. Finally, it updates the player's
      * position in the
-     * game world and sets the falling state in the jump behavior to indicate that
-     * the player is
+     * game world and, unless the player still stands on the object it landed on,
+     * sets the falling state in the jump behavior to indicate that the player is
      * currently falling.
      * </p>
      * 
@@ -180,11 +189,72 @@ public final class PlayerModel extends AbstractControllableObject implements Inv
      */
     @Override
     public void updateState(final long dt) {
+        this.stepOrigin = this.displacement.convert();
         this.fall();
         handleHorizontalMovement(dt);
         handleVerticalMovement(dt);
         this.setPosition(this.displacement.convert());
-        getJumpBehavior().setFalling(true);
+        // Gravity only takes over again once the player has left its support
+        if (!this.ground.revalidate(this)) {
+            getJumpBehavior().setFalling(true);
+        }
+    }
+
+    /**
+     * Jumps, leaving the object the player stands on if the jump happens.
+     */
+    @Override
+    public void jump() {
+        super.jump();
+        if (this.isJumping()) {
+            this.ground.leave();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Landing again on the object the player already stands on does nothing.
+     * </p>
+     */
+    @Override
+    public void land(final CollidableGameObject support) {
+        if (this.ground.land(support)) {
+            this.stopFall();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void leaveSupport() {
+        this.ground.leave();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CollidableGameObject> getSupport() {
+        return this.ground.support();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D getStepOrigin() {
+        return this.stepOrigin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clipStep(final Coord2D position) {
+        this.setDisplacement(position);
+        this.setPosition(position);
     }
 
     /**
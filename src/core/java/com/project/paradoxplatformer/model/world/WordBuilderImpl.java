@@ -1,7 +1,9 @@
 package com.project.paradoxplatformer.model.world;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.base.Optional;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
@@ -9,6 +11,10 @@ import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
 import com.project.paradoxplatformer.model.world.api.World;
 import com.project.paradoxplatformer.model.world.api.WorldBuilder;
+import com.project.paradoxplatformer.utils.collision.CollisionFilter;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 
 /**
@@ -23,6 +29,8 @@ public final class WordBuilderImpl implements WorldBuilder {
 
     private final List<Trigger> triggers;
     private final List<Obstacle> obstacles;
+    private final List<CollidableGameObject> staticColliders;
+    private final CollisionFilter.Builder collisionFilter;
     private Optional<PlayerModel> player;
     private Dimension bounds;
     private boolean isBuild;
@@ -35,6 +43,8 @@ public final class WordBuilderImpl implements WorldBuilder {
     public WordBuilderImpl() {
         this.obstacles = new ArrayList<>();
         this.triggers = new ArrayList<>();
+        this.staticColliders = new ArrayList<>();
+        this.collisionFilter = CollisionFilter.playerOnly().toBuilder();
         this.isBuild = false;
         this.player = Optional.absent();
     }
@@ -95,17 +105,49 @@ public final class WordBuilderImpl implements WorldBuilder {
         return this;
     }
 
+    /**
+     * Marks some of the added obstacles and triggers as never moving.
+     * 
+     * @param colliders the colliders that never move
+     * @return the current instance of {@code WorldBuilder}
+     * @throws IllegalStateException if the world has already been built
+     */
+    @Override
+    public WorldBuilder addStaticColliders(final Collection<? extends CollidableGameObject> colliders) {
+        buildCheck();
+        this.staticColliders.addAll(colliders);
+        return this;
+    }
+
+    /**
+     * Overrides the collision types an obstacle or trigger collides with, on
+     * top of the {@link CollisionFilter#playerOnly()} default.
+     * 
+     * @param collider the collider whose mask is overridden
+     * @param types    the collision types it may collide with
+     * @return the current instance of {@code WorldBuilder}
+     * @throws IllegalStateException if the world has already been built
+     */
+    @Override
+    public WorldBuilder addCollisionMask(final CollidableGameObject collider, final Set<CollisionType> types) {
+        buildCheck();
+        this.collisionFilter.override(collider, types);
+        return this;
+    }
+
     /**
      * Builds and returns the world using the configured elements.
      * 
-     * @return a new instance of {@link World} with the configured elements
+     * @return a new instance of {@link World} with the configured elements, the
+     *         static colliders being indexed here
      * @throws IllegalStateException if the world has already been built
      */
     @Override
     public World build() {
         buildCheck();
         this.isBuild = true;
-        return new WorldImpl(obstacles, triggers, player.orNull(), bounds);
+        return new WorldImpl(obstacles, triggers, player.orNull(), bounds,
+                StaticColliderIndex.of(this.staticColliders), this.collisionFilter.build());
     }
 
     /**
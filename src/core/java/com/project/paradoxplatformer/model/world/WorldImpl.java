@@ -11,6 +11,8 @@ import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
 import com.project.paradoxplatformer.model.world.api.World;
+import com.project.paradoxplatformer.utils.collision.CollisionFilter;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -27,6 +29,8 @@ public final class WorldImpl implements World {
     private final Set<Trigger> triggers;
     private final PlayerModel player;
     private final Dimension bounds;
+    private final StaticColliderIndex staticColliders;
+    private final CollisionFilter collisionFilter;
 
     /**
      * Constructs a WorldImpl instance with specified obstacles, triggers, player
@@ -43,10 +47,36 @@ public final class WorldImpl implements World {
     )
     public WorldImpl(final Collection<Obstacle> obstacles, final Collection<Trigger> triggers, final PlayerModel player,
             final Dimension bounds) {
+        this(obstacles, triggers, player, bounds, StaticColliderIndex.empty(), CollisionFilter.playerOnly());
+    }
+
+    /**
+     * Constructs a WorldImpl instance with specified obstacles, triggers, player
+     * model, world dimensions, the index of the colliders that never move and
+     * the filter of the collisions.
+     *
+     * @param obstacles       The collection of obstacles in the world.
+     * @param triggers        The collection of triggers in the world.
+     * @param player          The player model representing the player in the
+     *                        world.
+     * @param bounds          The dimensions (bounds) of the world.
+     * @param staticColliders The index of the obstacles and triggers that never
+     *                        move.
+     * @param collisionFilter The filter telling which objects may collide.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP", 
+        justification = "It does need the original player model as it is continuosly modified by the game loop"
+    )
+    public WorldImpl(final Collection<Obstacle> obstacles, final Collection<Trigger> triggers, final PlayerModel player,
+            final Dimension bounds, final StaticColliderIndex staticColliders,
+            final CollisionFilter collisionFilter) {
         this.obstacles = new LinkedHashSet<>(obstacles);
         this.triggers = new LinkedHashSet<>(triggers);
         this.player = player;
         this.bounds = bounds;
+        this.staticColliders = staticColliders;
+        this.collisionFilter = collisionFilter;
     }
 
     /**
@@ -58,7 +88,9 @@ public final class WorldImpl implements World {
         this(copy.obstacles(),
                 copy.triggers(),
                 copy.player(),
-                copy.bounds());
+                copy.bounds(),
+                copy.staticColliders(),
+                copy.collisionFilter());
     }
 
     @Override
@@ -93,6 +125,22 @@ public final class WorldImpl implements World {
         return this.bounds;
     }
 
+    /**
+     * Retrieves the index of the colliders that never move. Being immutable, it
+     * is shared by every copy of this world; removed colliders stay in it.
+     *
+     * @return The index of the static colliders.
+     */
+    @Override
+    public StaticColliderIndex staticColliders() {
+        return this.staticColliders;
+    }
+
+    @Override
+    public CollisionFilter collisionFilter() {
+        return this.collisionFilter;
+    }
+
     /**
      * Removes a mutable object from the world. The object can be either a trigger
      * or an obstacle.
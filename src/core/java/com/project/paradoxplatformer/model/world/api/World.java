@@ -4,6 +4,8 @@ import com.project.paradoxplatformer.model.entity.MutableObject;
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
+import com.project.paradoxplatformer.utils.collision.CollisionFilter;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import java.util.Collection;
 
@@ -58,4 +60,19 @@ public interface World {
      * @return The dimension of the world.
      */
     Dimension bounds();
+
+    /**
+     * Retrieves the index of the colliders that never move, built when the
+     * world was.
+     *
+     * @return The index of the static colliders.
+     */
+    StaticColliderIndex staticColliders();
+
+    /**
+     * Retrieves the filter telling which objects of the world may collide.
+     *
+     * @return The collision filter.
+     */
+    CollisionFilter collisionFilter();
 }
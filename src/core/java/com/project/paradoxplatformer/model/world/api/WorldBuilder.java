@@ -1,8 +1,13 @@
 package com.project.paradoxplatformer.model.world.api;
 
+import java.util.Collection;
+import java.util.Set;
+
 import com.project.paradoxplatformer.model.obstacles.Obstacle;
 import com.project.paradoxplatformer.model.player.PlayerModel;
 import com.project.paradoxplatformer.model.trigger.Trigger;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 
 /**
@@ -44,6 +49,25 @@ public interface WorldBuilder {
      */
     WorldBuilder addBounds(Dimension dimension);
 
+    /**
+     * Marks some of the added obstacles and triggers as never moving, so that
+     * they are indexed once when the world is built.
+     *
+     * @param colliders The colliders that never move.
+     * @return The current instance of WorldBuilder for chaining.
+     */
+    WorldBuilder addStaticColliders(Collection<? extends CollidableGameObject> colliders);
+
+    /**
+     * Overrides the collision types an added obstacle or trigger collides
+     * with, instead of those of its own type.
+     *
+     * @param collider The collider whose mask is overridden.
+     * @param types    The collision types it may collide with.
+     * @return The current instance of WorldBuilder for chaining.
+     */
+    WorldBuilder addCollisionMask(CollidableGameObject collider, Set<CollisionType> types);
+
     /**
      * Builds and returns the constructed world with the added components.
      *
@@ -4,8 +4,6 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.Optional;
 
-import com.project.paradoxplatformer.App;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
@@ -29,6 +27,10 @@ public final class ResourcesFinder {
      */
     public static final String FXML_FOLDER = "fxmls/";
 
+    // relative paths are resolved from the application package, wherever the
+    // resource is packaged
+    private static final String ROOT = "/com/project/paradoxplatformer/";
+
     // Private constructor to prevent instantiation
     private ResourcesFinder() {
         throw new UnsupportedOperationException("Utility class should not be instantiated.");
@@ -42,7 +44,7 @@ public final class ResourcesFinder {
      * @throws InvalidResourceException if the resource cannot be found
      */
     public static URL getURL(final String filePath) throws InvalidResourceException {
-        return Optional.ofNullable(App.class.getResource(filePath))
+        return Optional.ofNullable(ResourcesFinder.class.getResource(resolve(filePath)))
                 .orElseThrow(() -> new InvalidResourceException(filePath));
     }
 
@@ -60,7 +62,11 @@ public final class ResourcesFinder {
             + "The method itself only provides access to the stream and does not handle its lifecycle."
         )
     public static InputStream getInputStream(final String filePath) throws InvalidResourceException {
-        return Optional.ofNullable(App.class.getResourceAsStream(filePath))
+        return Optional.ofNullable(ResourcesFinder.class.getResourceAsStream(resolve(filePath)))
                 .orElseThrow(() -> new InvalidResourceException(filePath));
     }
+
+    private static String resolve(final String filePath) {
+        return filePath.startsWith("/") ? filePath : ROOT + filePath;
+    }
 }
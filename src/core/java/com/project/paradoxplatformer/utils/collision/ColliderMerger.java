@@ -0,0 +1,136 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * Merges static colliders of the same collision type into fewer, larger
+ * ones covering exactly the same area, so that levels drawn out of many
+ * small adjacent rectangles cost less to collide with.
+ * <p>
+ * Two boxes are merged only when their union is itself a box: boxes sharing
+ * the same vertical extent and touching or overlapping horizontally, the
+ * same the other way round, or one box lying inside another. Rows are merged
+ * first, then columns, until nothing changes. This greedy pass does not
+ * always find the smallest set, but a floor made of tiles always ends up as
+ * a single collider. Only colliders shaped as their whole box are merged.
+ * </p>
+ */
+public final class ColliderMerger {
+
+    private ColliderMerger() {
+        // Private constructor to prevent instantiation
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Merges the given colliders, as they are now.
+     *
+     * @param colliders the colliders that will never move
+     * @return the colliders left and how many there were
+     */
+    public static MergedColliders merge(final Collection<? extends CollidableGameObject> colliders) {
+        final Map<CollisionType, List<Piece>> byType = new EnumMap<>(CollisionType.class);
+        final List<CollidableGameObject> merged = new ArrayList<>();
+        colliders.forEach(collider -> {
+            if (collider.getCollisionShape() == CollisionShape.AABB) {
+                byType.computeIfAbsent(collider.getCollisionType(), type -> new ArrayList<>())
+                        .add(new Piece(BoundingBox.of(collider), new ArrayList<>(List.of(collider))));
+            } else {
+                merged.add(collider);
+            }
+        });
+        byType.forEach((type, pieces) -> simplify(pieces).forEach(piece -> merged.add(piece.parts().size() == 1
+                ? piece.parts().get(0)
+                : new MergedCollider(type, piece.box(), piece.parts()))));
+        return new MergedColliders(merged, colliders.size());
+    }
+
+    private static List<Piece> simplify(final List<Piece> pieces) {
+        List<Piece> current = absorb(pieces);
+        int count;
+        do {
+            count = current.size();
+            current = absorb(sweep(sweep(current, true), false));
+        } while (current.size() < count);
+        return current;
+    }
+
+    /**
+     * Merges the runs of boxes with the same extent across the given axis
+     * which touch or overlap along it.
+     */
+    private static List<Piece> sweep(final List<Piece> pieces, final boolean horizontal) {
+        final Comparator<Piece> order = horizontal
+                ? Comparator.comparingDouble((Piece p) -> p.box().minY())
+                        .thenComparingDouble(p -> p.box().maxY())
+                        .thenComparingDouble(p -> p.box().minX())
+                : Comparator.comparingDouble((Piece p) -> p.box().minX())
+                        .thenComparingDouble(p -> p.box().maxX())
+                        .thenComparingDouble(p -> p.box().minY());
+        final List<Piece> result = new ArrayList<>(pieces.size());
+        Piece run = null;
+        for (final Piece piece : pieces.stream().sorted(order).toList()) {
+            if (run != null && joins(run.box(), piece.box(), horizontal)) {
+                run = run.merge(piece);
+            } else {
+                if (run != null) {
+                    result.add(run);
+                }
+                run = piece;
+            }
+        }
+        if (run != null) {
+            result.add(run);
+        }
+        return result;
+    }
+
+    /**
+     * Merges every box lying inside another one into it.
+     */
+    private static List<Piece> absorb(final List<Piece> pieces) {
+        final List<Piece> kept = new ArrayList<>(pieces.size());
+        pieces.stream()
+                .sorted(Comparator.comparingDouble((Piece p) -> p.box().width() * p.box().height()).reversed())
+                .forEach(piece -> {
+                    for (int i = 0; i < kept.size(); i++) {
+                        if (kept.get(i).box().contains(piece.box())) {
+                            kept.set(i, kept.get(i).merge(piece));
+                            return;
+                        }
+                    }
+                    kept.add(piece);
+                });
+        return kept;
+    }
+
+    private static boolean joins(final BoundingBox run, final BoundingBox next, final boolean horizontal) {
+        return horizontal
+                ? run.minY() == next.minY() && run.maxY() == next.maxY() && next.minX() <= run.maxX()
+                : run.minX() == next.minX() && run.maxX() == next.maxX() && next.minY() <= run.maxY();
+    }
+
+    /**
+     * A box being merged, with the colliders it was merged from.
+     */
+    private record Piece(BoundingBox box, List<CollidableGameObject> parts) {
+
+        Piece merge(final Piece other) {
+            this.parts.addAll(other.parts);
+            return new Piece(new BoundingBox(
+                    Math.min(this.box.minX(), other.box.minX()), Math.min(this.box.minY(), other.box.minY()),
+                    Math.max(this.box.maxX(), other.box.maxX()), Math.max(this.box.maxY(), other.box.maxY())),
+                    this.parts);
+        }
+    }
+}
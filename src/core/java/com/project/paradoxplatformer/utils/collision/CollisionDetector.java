@@ -0,0 +1,215 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * A utility class for detecting collisions between game objects. This class
+ * provides static methods to check for collisions between game objects and
+ * within lists of collidable objects.
+ */
+/**
+ * Detects collisions between the player and other collidable objects.
+ */
+public final class CollisionDetector {
+
+    // Private constructor to prevent instantiation
+    private CollisionDetector() {
+        throw new UnsupportedOperationException("Utility class should not be instantiated.");
+    }
+
+    /**
+     * Detects collisions between the player and other collidable objects.
+     *
+     * @param collidableGameObjects a collection of collidable game objects to check
+     *                              for collisions
+     * @param player                the player game object to check for collisions
+     *                              with
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(
+            final Collection<? extends CollidableGameObject> collidableGameObjects,
+            final CollidableGameObject player) {
+        final Set<CollidableGameObject> collidingObjects = new HashSet<>();
+
+        collidableGameObjects.stream()
+                .filter(object -> !object.equals(player))
+                .forEach(object -> {
+                    if (isColliding(player, object)) {
+                        collidingObjects.add(object);
+                    }
+                });
+
+        return collidingObjects;
+    }
+
+    /**
+     * Detects collisions between the player and other collidable objects, only
+     * testing the candidates found by the given broad phase, which is updated
+     * first.
+     *
+     * @param collidableGameObjects a collection of collidable game objects to check
+     *                              for collisions
+     * @param player                the player game object to check for collisions
+     *                              with
+     * @param broadPhase            the broad phase indexing the objects
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(
+            final Collection<? extends CollidableGameObject> collidableGameObjects,
+            final CollidableGameObject player,
+            final BroadPhase broadPhase) {
+        broadPhase.update(collidableGameObjects);
+        final Set<CollidableGameObject> collidingObjects = broadPhase.query(player);
+        collidingObjects.removeIf(object -> !isColliding(player, object));
+        return collidingObjects;
+    }
+
+    /**
+     * Detects collisions between the player and other collidable objects, split
+     * into objects that may move, indexed by the given broad phase which is
+     * updated first, and objects that never do, found in the given static index.
+     *
+     * @param dynamicObjects  the collidable game objects that may move
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @param player          the player game object to check for collisions with
+     * @param broadPhase      the broad phase indexing the dynamic objects
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(
+            final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final CollidableGameObject player,
+            final BroadPhase broadPhase) {
+        broadPhase.update(dynamicObjects);
+        return detect(staticColliders, live, player, broadPhase);
+    }
+
+    /**
+     * Detects collisions between the player and other collidable objects, found
+     * in the given static index and in the given broad phase, which must be up
+     * to date.
+     *
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @param player          the player game object to check for collisions with
+     * @param broadPhase      the broad phase indexing the dynamic objects
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final CollidableGameObject player,
+            final BroadPhase broadPhase) {
+        return detect(staticColliders, live, player, broadPhase, CollisionFilter.all());
+    }
+
+    /**
+     * Detects collisions between the player and other collidable objects, found
+     * in the given static index and in the given broad phase, which must be up
+     * to date. Candidates the filter keeps from colliding with the player are
+     * dropped before being tested.
+     * <p>
+     * The player is looked up in the broad phase as an object rather than by
+     * its bounds, so that a broad phase indexing it answers from what it keeps
+     * between ticks: the player must not have moved since the last update.
+     * </p>
+     *
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @param player          the player game object to check for collisions with
+     * @param broadPhase      the broad phase indexing the dynamic objects
+     * @param filter          tells which objects may collide with the player
+     * @return a set of colliding game objects
+     */
+    public static Set<CollidableGameObject> detect(
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final CollidableGameObject player,
+            final BroadPhase broadPhase,
+            final CollisionFilter filter) {
+        final Set<CollidableGameObject> collidingObjects = broadPhase.query(player);
+        staticColliders.query(BoundingBox.of(player), live, collidingObjects::add);
+        collidingObjects.removeIf(object -> !filter.canCollide(player, object) || !isColliding(player, object));
+        return collidingObjects;
+    }
+
+    /**
+     * Finds the objects whose bounds overlap the given box, either in the given
+     * static index or in the given broad phase, which must be up to date.
+     *
+     * @param box             the box to look into
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @param broadPhase      the broad phase indexing the dynamic objects
+     * @return a new set of candidate objects owned by the caller
+     */
+    public static Set<CollidableGameObject> candidates(
+            final BoundingBox box,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final BroadPhase broadPhase) {
+        final Set<CollidableGameObject> found = broadPhase.query(box);
+        staticColliders.query(box, live, found::add);
+        return found;
+    }
+
+    /**
+     * Checks if two collidable game objects are colliding. Their boxes are
+     * tested first, then, if either object is not a plain box, the
+     * {@link CollisionShape}s inscribed in them.
+     *
+     * @param obj1 the first collidable game object
+     * @param obj2 the second collidable game object
+     * @param <T>  the type of the collidable game objects
+     * @return true if the objects are colliding, false otherwise
+     */
+    public static <T extends CollidableGameObject> boolean isColliding(final T obj1, final T obj2) {
+        // Check if the objects are not colliding based on their positions and
+        // dimensions
+        final boolean boxes = !(obj1.getPosition().x() + obj1.getDimension().width() <= obj2.getPosition().x()
+                || obj1.getPosition().x() >= obj2.getPosition().x() + obj2.getDimension().width()
+                || obj1.getPosition().y() + obj1.getDimension().height() <= obj2.getPosition().y()
+                || obj1.getPosition().y() >= obj2.getPosition().y() + obj2.getDimension().height());
+        if (!boxes || (obj1.getCollisionShape() == CollisionShape.AABB
+                && obj2.getCollisionShape() == CollisionShape.AABB)) {
+            return boxes;
+        }
+        return obj1.getCollisionShape().inscribe(BoundingBox.of(obj1))
+                .overlaps(obj2.getCollisionShape().inscribe(BoundingBox.of(obj2)));
+    }
+
+    /**
+     * Checks if a given collidable game object is colliding with any object in a
+     * list of collidable objects.
+     *
+     * @param obj                   the collidable game object to check for
+     *                              collisions
+     * @param collidableGameObjects the list of collidable game objects to check
+     *                              against
+     * @param <T>                   the type of the collidable game objects
+     * @return true if the object is colliding with any object in the list, false
+     *         otherwise
+     */
+    public static <T extends CollidableGameObject> boolean hasCollision(final T obj,
+            final List<T> collidableGameObjects) {
+        // Check if the object is colliding with any other object in the list
+        return collidableGameObjects.stream()
+                .anyMatch(other -> !other.equals(obj) && isColliding(obj, other));
+    }
+}
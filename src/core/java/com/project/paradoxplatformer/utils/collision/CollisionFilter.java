@@ -0,0 +1,193 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+
+/**
+ * Tells which objects may collide at all, before any of them is tested for
+ * overlap.
+ * <p>
+ * Every {@link CollisionType} is a layer, one bit of an {@code int}, and has a
+ * mask of the layers it collides with. The matrix is symmetric, so that two
+ * types may collide with a single bitwise check. An object may override the
+ * mask of its type, in which case it only collides with the layers of both
+ * its own mask and the mask of the other object allow.
+ * </p>
+ */
+public final class CollisionFilter {
+
+    private static final int ALL_LAYERS = (1 << CollisionType.values().length) - 1;
+
+    private final int[] masks;
+    private final Map<CollidableGameObject, Integer> overrides;
+
+    private CollisionFilter(final int[] masks, final Map<CollidableGameObject, Integer> overrides) {
+        this.masks = masks.clone();
+        this.overrides = Map.copyOf(overrides);
+    }
+
+    /**
+     * Returns a filter letting every pair of objects collide.
+     *
+     * @return a filter culling nothing
+     */
+    public static CollisionFilter all() {
+        return builder().allowAll().build();
+    }
+
+    /**
+     * Returns the default filter, letting the player collide with any object
+     * and culling every pair without it, as effects only ever apply to the
+     * player.
+     *
+     * @return the default filter
+     */
+    public static CollisionFilter playerOnly() {
+        final Builder builder = builder();
+        for (final CollisionType type : CollisionType.values()) {
+            builder.allow(CollisionType.PLAYER, type);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a builder of a filter letting no pair collide.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder(new int[CollisionType.values().length], Map.of());
+    }
+
+    /**
+     * Returns a builder starting from this filter.
+     *
+     * @return a new builder
+     */
+    public Builder toBuilder() {
+        return new Builder(this.masks, this.overrides);
+    }
+
+    /**
+     * Returns the layer of a collision type.
+     *
+     * @param type the collision type
+     * @return the bit of the type
+     */
+    public static int layer(final CollisionType type) {
+        return 1 << type.ordinal();
+    }
+
+    /**
+     * Tells whether objects of the given types may collide.
+     *
+     * @param first  the type of the first object
+     * @param second the type of the second object
+     * @return true if the types may collide, false otherwise
+     */
+    public boolean canCollide(final CollisionType first, final CollisionType second) {
+        return (this.masks[first.ordinal()] & layer(second)) != 0;
+    }
+
+    /**
+     * Tells whether the given objects may collide, taking their overrides into
+     * account.
+     *
+     * @param first  the first object
+     * @param second the second object
+     * @return true if the objects may collide, false otherwise
+     */
+    public boolean canCollide(final CollidableGameObject first, final CollidableGameObject second) {
+        if (this.overrides.isEmpty()) {
+            return this.canCollide(first.getCollisionType(), second.getCollisionType());
+        }
+        return (this.mask(first) & layer(second.getCollisionType())) != 0
+                && (this.mask(second) & layer(first.getCollisionType())) != 0;
+    }
+
+    /**
+     * Returns the layers an object collides with.
+     *
+     * @param object the object
+     * @return the override of the object, if any, the mask of its type otherwise
+     */
+    public int mask(final CollidableGameObject object) {
+        return this.overrides.getOrDefault(object, this.masks[object.getCollisionType().ordinal()]);
+    }
+
+    /**
+     * Builds {@link CollisionFilter}s.
+     */
+    public static final class Builder {
+
+        private final int[] masks;
+        private final Map<CollidableGameObject, Integer> overrides;
+
+        private Builder(final int[] masks, final Map<CollidableGameObject, Integer> overrides) {
+            this.masks = masks.clone();
+            this.overrides = new HashMap<>(overrides);
+        }
+
+        /**
+         * Lets objects of the given types collide, both ways.
+         *
+         * @param first  a collision type
+         * @param second another collision type, possibly the same
+         * @return this builder
+         */
+        public Builder allow(final CollisionType first, final CollisionType second) {
+            this.masks[first.ordinal()] |= layer(second);
+            this.masks[second.ordinal()] |= layer(first);
+            return this;
+        }
+
+        /**
+         * Keeps objects of the given types from colliding, both ways.
+         *
+         * @param first  a collision type
+         * @param second another collision type, possibly the same
+         * @return this builder
+         */
+        public Builder deny(final CollisionType first, final CollisionType second) {
+            this.masks[first.ordinal()] &= ~layer(second);
+            this.masks[second.ordinal()] &= ~layer(first);
+            return this;
+        }
+
+        /**
+         * Lets every pair of types collide.
+         *
+         * @return this builder
+         */
+        public Builder allowAll() {
+            Arrays.fill(this.masks, ALL_LAYERS);
+            return this;
+        }
+
+        /**
+         * Overrides the types an object collides with.
+         *
+         * @param object the object
+         * @param types  the types the object may collide with
+         * @return this builder
+         */
+        public Builder override(final CollidableGameObject object, final Collection<CollisionType> types) {
+            this.overrides.put(object, types.stream().mapToInt(CollisionFilter::layer).reduce(0, (a, b) -> a | b));
+            return this;
+        }
+
+        /**
+         * Builds the filter.
+         *
+         * @return a new immutable filter
+         */
+        public CollisionFilter build() {
+            return new CollisionFilter(this.masks, this.overrides);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.SweptCollidable;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.SpatialHashBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.collision.query.SpatialQuery;
+import com.project.paradoxplatformer.utils.collision.query.SpatialQueryImpl;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Manages collisions between game objects and applies effects based on those
+ * collisions. Delegates detection and observation to appropriate classes.
+ * <p>
+ * A player implementing {@link SweptCollidable} is first swept along its last
+ * step, so that it stops at the solid objects it would otherwise tunnel
+ * through; those count as collisions too.
+ * </p>
+ * <p>
+ * The narrow phase then finds the {@link Manifold} of every contact: a swept
+ * object still overlapping solid objects is pushed out of them at once by a
+ * {@link ContactResolver}, and effects are handed the contacts rather than
+ * guessing them from the movement of the objects.
+ * </p>
+ * <p>
+ * In {@link CollisionMode#PAIRWISE} mode, collisions are looked for between
+ * any two objects rather than only with the player, and their effects are
+ * applied both ways.
+ * </p>
+ */
+public class CollisionManager {
+
+    private final CollisionObserver collisionObserver;
+    private final BroadPhase broadPhase;
+    private final SweptCollision sweptCollision;
+    private final PairwiseCollision pairwiseCollision;
+    private final ContactResolver contactResolver;
+    private final CollisionMode mode;
+    private CollisionFilter collisionFilter;
+
+    /**
+     * Constructs a CollisionManager with the specified effect handler, finding
+     * candidate collisions with a {@link SpatialHashBroadPhase}.
+     *
+     * @param effectHandler the effect handler to use for applying and resetting
+     *                      effects
+     */
+    public CollisionManager(final EffectHandler effectHandler) {
+        this(effectHandler, new SpatialHashBroadPhase());
+    }
+
+    /**
+     * Constructs a CollisionManager with the specified effect handler and broad
+     * phase.
+     *
+     * @param effectHandler the effect handler to use for applying and resetting
+     *                      effects
+     * @param broadPhase    the broad phase finding candidate collisions, owned by
+     *                      this manager from now on
+     */
+    public CollisionManager(final EffectHandler effectHandler, final BroadPhase broadPhase) {
+        this(effectHandler, broadPhase, new SweptCollision());
+    }
+
+    /**
+     * Constructs a CollisionManager with the specified effect handler, broad
+     * phase and continuous collision detection.
+     *
+     * @param effectHandler  the effect handler to use for applying and resetting
+     *                       effects
+     * @param broadPhase     the broad phase finding candidate collisions, owned by
+     *                       this manager from now on
+     * @param sweptCollision the continuous collision detection for swept players
+     */
+    public CollisionManager(final EffectHandler effectHandler, final BroadPhase broadPhase,
+            final SweptCollision sweptCollision) {
+        this(effectHandler, broadPhase, sweptCollision, CollisionMode.PLAYER);
+    }
+
+    /**
+     * Constructs a CollisionManager with the specified effect handler, broad
+     * phase, continuous collision detection and mode.
+     *
+     * @param effectHandler  the effect handler to use for applying and resetting
+     *                       effects
+     * @param broadPhase     the broad phase finding candidate collisions, owned by
+     *                       this manager from now on
+     * @param sweptCollision the continuous collision detection for swept objects
+     * @param mode           which collisions to look for
+     */
+    public CollisionManager(final EffectHandler effectHandler, final BroadPhase broadPhase,
+            final SweptCollision sweptCollision, final CollisionMode mode) {
+        this.collisionObserver = new CollisionObserver(effectHandler);
+        this.broadPhase = Objects.requireNonNull(broadPhase);
+        this.sweptCollision = Objects.requireNonNull(sweptCollision);
+        this.pairwiseCollision = new PairwiseCollision();
+        this.contactResolver = new ContactResolver();
+        this.mode = Objects.requireNonNull(mode);
+        this.collisionFilter = CollisionFilter.playerOnly();
+    }
+
+    /**
+     * Sets which objects may collide at all, usually once per level. Pairs the
+     * filter rules out are dropped right after the broad phase.
+     *
+     * @param collisionFilter the filter to use, {@link CollisionFilter#playerOnly()}
+     *                        by default
+     */
+    public void setCollisionFilter(final CollisionFilter collisionFilter) {
+        this.collisionFilter = Objects.requireNonNull(collisionFilter);
+    }
+
+    /**
+     * Returns a spatial query over the objects this manager detects collisions
+     * between, answered by its broad phase and by the given static index.
+     *
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @return a query reflecting the objects as of the last detection
+     */
+    public SpatialQuery spatialQuery(final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live) {
+        return new SpatialQueryImpl(staticColliders, this.broadPhase, live);
+    }
+
+    /**
+     * Handles collisions between the player and other collidable game objects.
+     *
+     * @param collidableGameObjects a collection of collidable game objects to check
+     *                              for collisions
+     * @param player                the player game object to check for collisions
+     *                              with
+     */
+    public void handleCollisions(final Collection<? extends CollidableGameObject> collidableGameObjects,
+            final CollidableGameObject player) {
+        this.handleCollisions(collidableGameObjects, StaticColliderIndex.empty(), object -> true, player);
+    }
+
+    /**
+     * Handles collisions between the player and other collidable game objects,
+     * only keeping the objects that may move in the broad phase. The static ones
+     * are looked up in their index, built once when the level was loaded. In
+     * {@link CollisionMode#PAIRWISE} mode, the collisions between any two objects
+     * are handled instead, the player being one of the dynamic objects.
+     *
+     * @param dynamicObjects  the collidable game objects that may move
+     * @param staticColliders the index of the collidable game objects that never
+     *                        move
+     * @param live            tells which static colliders are still in the game
+     * @param player          the player game object to check for collisions with
+     */
+    public void handleCollisions(final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final CollidableGameObject player) {
+        this.broadPhase.update(dynamicObjects);
+        if (this.mode == CollisionMode.PAIRWISE) {
+            this.handlePairs(dynamicObjects, staticColliders, live);
+            return;
+        }
+        // Cut the step of the player at the first solid objects on its way
+        final Coord2D stepEnd = player.getPosition();
+        final Set<CollidableGameObject> near = new HashSet<>();
+        final Set<CollidableGameObject> collidingObjects = player instanceof SweptCollidable swept
+                ? this.sweptCollision.resolve(swept, this.candidates(swept, staticColliders, live).andThen(found -> {
+                    near.addAll(found);
+                    return found;
+                }))
+                : new HashSet<>();
+        // Detect collisions between the player and other collidable objects
+        if (player.getPosition().equals(stepEnd)) {
+            collidingObjects.addAll(CollisionDetector.detect(staticColliders, live, player, this.broadPhase,
+                    this.collisionFilter));
+        } else {
+            // The broad phase still holds the end of the step, the objects near
+            // where it was cut were all found along it
+            collidingObjects.addAll(CollisionDetector.detect(near, player));
+        }
+        final Map<CollidableGameObject, Manifold> manifolds = new HashMap<>();
+        collidingObjects.forEach(object -> Manifold.between(player, object)
+                .ifPresent(manifold -> manifolds.put(object, manifold)));
+        // Push the player out of the solids it still overlaps
+        if (player instanceof SweptCollidable swept) {
+            this.contactResolver.resolve(swept, manifolds);
+        }
+
+        // Handle collision observation and trigger effects
+        collisionObserver.observeCollisions(collidingObjects, manifolds, player);
+    }
+
+    private void handlePairs(final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live) {
+        // Cut the steps first, so that pairs are found where objects stopped
+        final Set<CollisionPair> contacts = new HashSet<>();
+        dynamicObjects.stream()
+                .filter(SweptCollidable.class::isInstance)
+                .map(SweptCollidable.class::cast)
+                .forEach(swept -> this.sweptCollision.resolve(swept, this.candidates(swept, staticColliders, live))
+                        .forEach(solid -> contacts.add(CollisionPair.of(swept, solid, PairwiseCollision.BY_ID))));
+
+        final List<CollisionPair> collidingPairs = this.pairwiseCollision.detect(dynamicObjects, staticColliders,
+                live, this.broadPhase, this.collisionFilter);
+        if (!contacts.isEmpty()) {
+            contacts.removeAll(collidingPairs);
+            collidingPairs.addAll(contacts);
+            collidingPairs.sort(CollisionPair.order(PairwiseCollision.BY_ID));
+        }
+        final Map<CollisionPair, Manifold> manifolds = new HashMap<>();
+        final Map<SweptCollidable, Map<CollidableGameObject, Manifold>> moverContacts = new HashMap<>();
+        for (final CollisionPair pair : collidingPairs) {
+            Manifold.between(pair.first(), pair.second()).ifPresent(manifold -> {
+                manifolds.put(pair, manifold);
+                if (pair.first() instanceof SweptCollidable swept) {
+                    moverContacts.computeIfAbsent(swept, key -> new HashMap<>()).put(pair.second(), manifold);
+                }
+                if (pair.second() instanceof SweptCollidable swept) {
+                    moverContacts.computeIfAbsent(swept, key -> new HashMap<>()).put(pair.first(), manifold.flip());
+                }
+            });
+        }
+        moverContacts.forEach(this.contactResolver::resolve);
+        collisionObserver.observeCollisions(collidingPairs, manifolds);
+    }
+
+    private Function<BoundingBox, Collection<CollidableGameObject>> candidates(final CollidableGameObject mover,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live) {
+        return box -> {
+            final Set<CollidableGameObject> found = CollisionDetector.candidates(box, staticColliders, live,
+                    this.broadPhase);
+            found.removeIf(object -> !this.collisionFilter.canCollide(mover, object));
+            return found;
+        };
+    }
+}
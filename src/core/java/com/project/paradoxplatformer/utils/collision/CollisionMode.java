@@ -0,0 +1,17 @@
+package com.project.paradoxplatformer.utils.collision;
+
+/**
+ * Which collisions a {@link CollisionManager} looks for.
+ */
+public enum CollisionMode {
+
+    /**
+     * Only collisions between the player and the other objects.
+     */
+    PLAYER,
+
+    /**
+     * Collisions between any two objects, at least one of which may move.
+     */
+    PAIRWISE
+}
@@ -0,0 +1,204 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.trigger.Trigger;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.ContactPhase;
+import com.project.paradoxplatformer.view.PageIdentifier;
+
+/**
+ * Observes collisions between game objects and triggers effects when
+ * appropriate.
+ * This class monitors collidable objects, applies effects during collisions,
+ * and resets them when the collisions end. Contacts are remembered from one
+ * call to the next in a {@link ContactCache}.
+ */
+public class CollisionObserver {
+
+    private final EffectHandler effectHandler;
+    private final ContactCache<CollidableGameObject> contacts;
+    private final ContactCache<CollisionPair> pairContacts;
+
+    /**
+     * Constructs a CollisionObserver with a provided EffectHandler to manage
+     * collision effects.
+     *
+     * @param effectHandler the effect handler responsible for applying and
+     *                      resetting effects.
+     */
+    public CollisionObserver(final EffectHandler effectHandler) {
+        this.effectHandler = Optional.of(effectHandler).get();
+        this.contacts = new ContactCache<>();
+        this.pairContacts = new ContactCache<>();
+    }
+
+    /**
+     * Monitors collisions between the player and a set of colliding game objects,
+     * applying effects
+     * and handling triggers when collisions start or end.
+     * <p>
+     * The colliding objects are compared to the ones of the previous call:
+     * triggers are activated when a collision starts, effects only run in the
+     * phases of the contact they care about, and are reset once it ends. The
+     * contacts handed to the effects are computed here.
+     * </p>
+     *
+     * @param collidingObjects the set of game objects colliding with the player.
+     * @param player           the player game object involved in collisions.
+     */
+    public void observeCollisions(final Set<CollidableGameObject> collidingObjects, final CollidableGameObject player) {
+        final Map<CollidableGameObject, Manifold> manifolds = new HashMap<>();
+        collidingObjects.forEach(object -> Manifold.between(player, object)
+                .ifPresent(manifold -> manifolds.put(object, manifold)));
+        this.observe(collidingObjects, manifolds, player);
+    }
+
+    /**
+     * Monitors collisions between the player and the game objects it touches,
+     * as {@link #observeCollisions(Set, CollidableGameObject)} does, handing the
+     * effects the contacts found by the narrow phase. The objects only sharing
+     * a corner with the player have no contact, their effects are applied
+     * without one.
+     *
+     * @param collidingObjects the set of game objects colliding with the player.
+     * @param manifolds        the contacts of the player with the objects it
+     *                         collides with
+     * @param player           the player game object involved in collisions.
+     */
+    public void observeCollisions(final Set<CollidableGameObject> collidingObjects,
+            final Map<CollidableGameObject, Manifold> manifolds, final CollidableGameObject player) {
+        this.observe(collidingObjects, manifolds, player);
+    }
+
+    /**
+     * Monitors collisions between any two objects, applying the effects of each
+     * object of a pair to the other one, pair after pair in the given order,
+     * with the same contact phases as
+     * {@link #observeCollisions(Set, CollidableGameObject)}.
+     *
+     * @param collidingPairs the pairs of colliding game objects
+     */
+    public void observeCollisions(final List<CollisionPair> collidingPairs) {
+        final Map<CollisionPair, Manifold> manifolds = new HashMap<>();
+        collidingPairs.forEach(pair -> Manifold.between(pair.first(), pair.second())
+                .ifPresent(manifold -> manifolds.put(pair, manifold)));
+        this.observe(collidingPairs, manifolds);
+    }
+
+    /**
+     * Monitors collisions between any two objects, as
+     * {@link #observeCollisions(List)} does, handing the effects the contacts
+     * found by the narrow phase. The pairs only sharing a corner have no
+     * contact, their effects are applied without one.
+     *
+     * @param collidingPairs the pairs of colliding game objects
+     * @param manifolds      the contacts of the first object of each colliding
+     *                       pair with the second one
+     */
+    public void observeCollisions(final List<CollisionPair> collidingPairs,
+            final Map<CollisionPair, Manifold> manifolds) {
+        this.observe(collidingPairs, manifolds);
+    }
+
+    private void observe(final Collection<CollidableGameObject> collidingObjects,
+            final Map<CollidableGameObject, Manifold> manifolds, final CollidableGameObject player) {
+        this.contacts.update(collidingObjects, new ContactListener<>() {
+            @Override
+            public void onEnter(final CollidableGameObject object) {
+                activateTriggerIfPresent(player);
+                activateTriggerIfPresent(object);
+                applyEffects(player, object, ContactPhase.ENTER, Optional.ofNullable(manifolds.get(object)));
+                removeTriggerIfPresent(object, object.getCollisionType());
+            }
+
+            @Override
+            public void onStay(final CollidableGameObject object) {
+                applyEffects(player, object, ContactPhase.STAY, Optional.ofNullable(manifolds.get(object)));
+            }
+
+            @Override
+            public void onExit(final CollidableGameObject object) {
+                effectHandler.reset(object, object.getCollisionType());
+            }
+        });
+    }
+
+    private void observe(final Collection<CollisionPair> collidingPairs, final Map<CollisionPair, Manifold> manifolds) {
+        this.pairContacts.update(collidingPairs, new ContactListener<>() {
+            @Override
+            public void onEnter(final CollisionPair pair) {
+                activateTriggerIfPresent(pair.first());
+                activateTriggerIfPresent(pair.second());
+                applyBothWays(pair, ContactPhase.ENTER, Optional.ofNullable(manifolds.get(pair)));
+                removeTriggerIfPresent(pair.first(), pair.first().getCollisionType());
+                removeTriggerIfPresent(pair.second(), pair.second().getCollisionType());
+            }
+
+            @Override
+            public void onStay(final CollisionPair pair) {
+                applyBothWays(pair, ContactPhase.STAY, Optional.ofNullable(manifolds.get(pair)));
+            }
+
+            @Override
+            public void onExit(final CollisionPair pair) {
+                effectHandler.reset(pair.first(), pair.first().getCollisionType());
+                effectHandler.reset(pair.second(), pair.second().getCollisionType());
+            }
+        });
+    }
+
+    private void applyBothWays(final CollisionPair pair, final ContactPhase phase,
+            final Optional<Manifold> manifold) {
+        this.applyEffects(pair.first(), pair.second(), phase, manifold);
+        this.applyEffects(pair.second(), pair.first(), phase, manifold.map(Manifold::flip));
+    }
+
+    /**
+     * Applies the effects of the target to the source, with their contact if
+     * the objects touch along a side.
+     */
+    private void applyEffects(final CollidableGameObject source, final CollidableGameObject target,
+            final ContactPhase phase, final Optional<Manifold> manifold) {
+        if (manifold.isPresent()) {
+            this.effectHandler.applyEffects(source, target, phase, manifold.get());
+        } else {
+            this.effectHandler.applyEffects(source, target, phase);
+        }
+    }
+
+    /**
+     * Activates the trigger if the provided object is an instance of Trigger.
+     *
+     * @param object the collidable game object that may be a trigger.
+     */
+    private void activateTriggerIfPresent(final CollidableGameObject object) {
+        if (object instanceof Trigger trigger) {
+            // System.out.println(object + " is triggered from Collision Observer.");
+            trigger.activate();
+        }
+    }
+
+    /**
+     * Removes the trigger effect if the provided object is a Trigger and matches
+     * the specified collision type.
+     *
+     * @param object        the game object that might need to be removed.
+     * @param collisionType the collision type associated with the object.
+     */
+    private void removeTriggerIfPresent(final CollidableGameObject object, final CollisionType collisionType) {
+        if (object instanceof Trigger && object.getCollisionType() == collisionType) {
+            // System.out.println(object + " is removed from Collision Observer.");
+            GameSession.current().events().publish(GameEventType.REMOVE_OBJECT, PageIdentifier.EMPTY, Optional.of(object));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+
+/**
+ * Two distinct objects whose collision is being considered, the first one
+ * always coming before the second in the order they were paired by, so that
+ * the same two objects always make the same pair.
+ *
+ * @param first  the object coming first
+ * @param second the object coming second
+ */
+public record CollisionPair(CollidableGameObject first, CollidableGameObject second) {
+
+    /**
+     * Constructs a pair.
+     *
+     * @param first  the object coming first
+     * @param second the object coming second
+     * @throws IllegalArgumentException if the two objects are the same
+     */
+    public CollisionPair {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        if (first.equals(second)) {
+            throw new IllegalArgumentException("An object can not be paired with itself");
+        }
+    }
+
+    /**
+     * Pairs two objects in the given order.
+     *
+     * @param a     an object
+     * @param b     another object
+     * @param order the order of the objects, ties are broken by identity
+     * @return the pair of the two objects
+     */
+    public static CollisionPair of(final CollidableGameObject a, final CollidableGameObject b,
+            final Comparator<? super CollidableGameObject> order) {
+        return compare(a, b, order) <= 0 ? new CollisionPair(a, b) : new CollisionPair(b, a);
+    }
+
+    /**
+     * Returns an order of pairs, by their first object then by their second one.
+     *
+     * @param order the order of the objects, ties are broken by identity
+     * @return the order of the pairs
+     */
+    public static Comparator<CollisionPair> order(final Comparator<? super CollidableGameObject> order) {
+        return (p, q) -> {
+            final int byFirst = compare(p.first(), q.first(), order);
+            return byFirst != 0 ? byFirst : compare(p.second(), q.second(), order);
+        };
+    }
+
+    private static int compare(final CollidableGameObject a, final CollidableGameObject b,
+            final Comparator<? super CollidableGameObject> order) {
+        final int result = order.compare(a, b);
+        return result != 0 ? result : Integer.compare(System.identityHashCode(a), System.identityHashCode(b));
+    }
+}
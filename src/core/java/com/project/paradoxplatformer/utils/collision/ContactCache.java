@@ -0,0 +1,75 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Remembers the contacts of the previous tick, so that the contacts of the
+ * current one can be told apart as starting, going on or ending.
+ * <p>
+ * Ended contacts are reported first, in the order they were given on the
+ * previous tick, then the current ones in the order they are given. The two
+ * sets backing the cache are swapped at every update rather than allocated.
+ * </p>
+ *
+ * @param <K> the type identifying a contact, with a consistent equality
+ */
+public final class ContactCache<K> {
+
+    private Set<K> previous;
+    private Set<K> current;
+
+    /**
+     * Constructs an empty cache.
+     */
+    public ContactCache() {
+        this.previous = new LinkedHashSet<>();
+        this.current = new LinkedHashSet<>();
+    }
+
+    /**
+     * Compares the contacts of this tick to the ones of the previous tick,
+     * reporting the differences to the given listener.
+     *
+     * @param contacts the contacts of this tick
+     * @param listener receives the changes
+     */
+    public void update(final Collection<? extends K> contacts, final ContactListener<? super K> listener) {
+        this.current.clear();
+        this.current.addAll(contacts);
+        for (final K contact : this.previous) {
+            if (!this.current.contains(contact)) {
+                listener.onExit(contact);
+            }
+        }
+        for (final K contact : this.current) {
+            if (this.previous.contains(contact)) {
+                listener.onStay(contact);
+            } else {
+                listener.onEnter(contact);
+            }
+        }
+        final Set<K> swap = this.previous;
+        this.previous = this.current;
+        this.current = swap;
+    }
+
+    /**
+     * Returns the contacts of the last update.
+     *
+     * @return an unmodifiable view of the contacts, valid until the next update
+     */
+    public Set<K> contacts() {
+        return Collections.unmodifiableSet(this.previous);
+    }
+
+    /**
+     * Forgets every contact, without reporting them as ended.
+     */
+    public void clear() {
+        this.previous.clear();
+        this.current.clear();
+    }
+}
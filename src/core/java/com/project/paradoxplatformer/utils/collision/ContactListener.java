@@ -0,0 +1,34 @@
+package com.project.paradoxplatformer.utils.collision;
+
+/**
+ * Receives the changes of the contacts tracked by a {@link ContactCache}. Every
+ * callback does nothing by default.
+ *
+ * @param <K> the type identifying a contact
+ */
+public interface ContactListener<K> {
+
+    /**
+     * Called when a contact starts.
+     *
+     * @param contact the contact starting
+     */
+    default void onEnter(final K contact) {
+    }
+
+    /**
+     * Called when a contact goes on from the previous tick.
+     *
+     * @param contact the contact going on
+     */
+    default void onStay(final K contact) {
+    }
+
+    /**
+     * Called when a contact of the previous tick ends.
+     *
+     * @param contact the contact ending
+     */
+    default void onExit(final K contact) {
+    }
+}
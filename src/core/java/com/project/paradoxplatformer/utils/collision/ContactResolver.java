@@ -0,0 +1,75 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.SweptCollidable;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Separates a moving object from the solid objects it overlaps, in a single
+ * step, from the contacts found by the narrow phase.
+ * <p>
+ * Along each axis, the mover is pushed out of the deepest overlap on either
+ * side, so that overlapping several solids at once does not push it twice;
+ * when squeezed from both sides, the pushes add up. Effects then find the
+ * mover already out of the solids, instead of correcting it over the
+ * following ticks.
+ * </p>
+ */
+public final class ContactResolver {
+
+    private final Set<CollisionType> solids;
+
+    /**
+     * Constructs a resolver for the solid types swept by default.
+     */
+    public ContactResolver() {
+        this(SweptCollision.DEFAULT_SOLIDS);
+    }
+
+    /**
+     * Constructs a resolver for the given solid types.
+     *
+     * @param solids the types of the objects the mover must not overlap
+     */
+    public ContactResolver(final Set<CollisionType> solids) {
+        this.solids = Set.copyOf(solids);
+    }
+
+    /**
+     * Moves the mover out of the solid objects it overlaps.
+     *
+     * @param mover     the object to separate
+     * @param manifolds the contacts of the mover with other objects
+     * @return true if the mover was moved, false otherwise
+     */
+    public boolean resolve(final SweptCollidable mover,
+            final Map<? extends CollidableGameObject, Manifold> manifolds) {
+        double left = 0;
+        double right = 0;
+        double down = 0;
+        double up = 0;
+        for (final Map.Entry<? extends CollidableGameObject, Manifold> contact : manifolds.entrySet()) {
+            final Manifold manifold = contact.getValue();
+            if (this.solids.contains(contact.getKey().getCollisionType()) && manifold.depth() > 0) {
+                final double dx = manifold.normalX() * manifold.depth();
+                final double dy = manifold.normalY() * manifold.depth();
+                left = Math.min(left, dx);
+                right = Math.max(right, dx);
+                down = Math.min(down, dy);
+                up = Math.max(up, dy);
+            }
+        }
+        final double dx = left + right;
+        final double dy = down + up;
+        if (dx == 0 && dy == 0) {
+            return false;
+        }
+        final Coord2D position = mover.getPosition();
+        mover.clipStep(new Coord2D(position.x() + dx, position.y() + dy));
+        return true;
+    }
+}
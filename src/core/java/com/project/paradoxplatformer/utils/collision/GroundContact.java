@@ -0,0 +1,83 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * Remembers the object a mover stands on, so that it can tell whether the
+ * mover still stands on it without a collision pass.
+ * <p>
+ * The support is kept as long as the bottom of the mover lies on its top and
+ * the two overlap horizontally. Walking off its edge, being lifted above it
+ * or the support moving away all drop it, the next landing setting a new one.
+ * </p>
+ */
+public final class GroundContact {
+
+    /**
+     * How far the bottom of the mover may be from the top of its support, to
+     * absorb the rounding of the resolution pushing it out.
+     */
+    public static final double TOLERANCE = 1e-6;
+
+    private CollidableGameObject support;
+
+    /**
+     * Sets the object the mover stands on.
+     *
+     * @param support the object the mover landed on
+     * @return true if the mover was not already standing on it
+     */
+    public boolean land(final CollidableGameObject support) {
+        if (support.equals(this.support)) {
+            return false;
+        }
+        this.support = support;
+        return true;
+    }
+
+    /**
+     * Checks that the mover still stands on its support, forgetting the
+     * support otherwise.
+     *
+     * @param mover the object standing
+     * @return true if the mover is still supported
+     */
+    public boolean revalidate(final CollidableGameObject mover) {
+        if (this.support != null && !standsOn(BoundingBox.of(mover), BoundingBox.of(this.support))) {
+            this.support = null;
+        }
+        return this.support != null;
+    }
+
+    /**
+     * Forgets the support, for instance when the mover jumps.
+     */
+    public void leave() {
+        this.support = null;
+    }
+
+    /**
+     * Returns the object the mover stands on.
+     *
+     * @return the support, empty if the mover is in the air
+     */
+    public Optional<CollidableGameObject> support() {
+        return Optional.ofNullable(this.support);
+    }
+
+    /**
+     * Tells whether a box stands on another one.
+     *
+     * @param mover   the box standing
+     * @param support the box it may stand on
+     * @return true if the bottom of the mover lies on the top of the support
+     *         and they overlap horizontally
+     */
+    public static boolean standsOn(final BoundingBox mover, final BoundingBox support) {
+        return mover.minX() < support.maxX() && support.minX() < mover.maxX()
+                && Math.abs(mover.minY() - support.maxY()) <= TOLERANCE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.paradoxplatformer.utils.collision;
+
+/**
+ * The first contact of a moving box with another one.
+ *
+ * @param time    the fraction of the movement done when the boxes touch, from 0
+ *                to 1 excluded
+ * @param normalX the horizontal component of the normal of the side hit, -1, 0
+ *                or 1
+ * @param normalY the vertical component of the normal of the side hit, -1, 0 or
+ *                1
+ */
+public record Impact(double time, double normalX, double normalY) {
+
+    /**
+     * Tells whether the box was stopped by a vertical side, hence moving
+     * horizontally.
+     *
+     * @return true if the side hit is vertical
+     */
+    public boolean isHorizontal() {
+        return this.normalX != 0;
+    }
+}
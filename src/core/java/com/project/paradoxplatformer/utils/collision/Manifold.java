@@ -0,0 +1,92 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * The contact of a box, the mover, with another one, along the axis they
+ * overlap the least on.
+ * <p>
+ * The normal points from the other box towards the mover, so that moving the
+ * mover by {@link #depth()} along it separates the boxes. As the y axis points
+ * upwards, a mover resting on the other box has a normal of (0, 1).
+ * </p>
+ *
+ * @param normalX   the horizontal component of the normal, -1, 0 or 1
+ * @param normalY   the vertical component of the normal, -1, 0 or 1
+ * @param depth     how far the boxes overlap along the normal, 0 if they only
+ *                  touch
+ * @param edgeStart the first end of the side of the other box the mover
+ *                  touches, clipped to the mover
+ * @param edgeEnd   the second end of that side
+ */
+public record Manifold(double normalX, double normalY, double depth, Coord2D edgeStart, Coord2D edgeEnd) {
+
+    /**
+     * Computes the contact of a mover with another box.
+     *
+     * @param mover the box of the mover
+     * @param other the other box
+     * @return the contact, empty if the boxes are apart or only share a corner
+     */
+    public static Optional<Manifold> of(final BoundingBox mover, final BoundingBox other) {
+        final double overlapX = Math.min(mover.maxX(), other.maxX()) - Math.max(mover.minX(), other.minX());
+        final double overlapY = Math.min(mover.maxY(), other.maxY()) - Math.max(mover.minY(), other.minY());
+        if (overlapX < 0 || overlapY < 0 || overlapX == 0 && overlapY == 0) {
+            return Optional.empty();
+        }
+        if (overlapX < overlapY) {
+            final boolean right = mover.minX() + mover.maxX() > other.minX() + other.maxX();
+            final double x = right ? other.maxX() : other.minX();
+            return Optional.of(new Manifold(right ? 1 : -1, 0, overlapX,
+                    new Coord2D(x, Math.max(mover.minY(), other.minY())),
+                    new Coord2D(x, Math.min(mover.maxY(), other.maxY()))));
+        }
+        final boolean above = mover.minY() + mover.maxY() > other.minY() + other.maxY();
+        final double y = above ? other.maxY() : other.minY();
+        return Optional.of(new Manifold(0, above ? 1 : -1, overlapY,
+                new Coord2D(Math.max(mover.minX(), other.minX()), y),
+                new Coord2D(Math.min(mover.maxX(), other.maxX()), y)));
+    }
+
+    /**
+     * Computes the contact of a mover with another object.
+     *
+     * @param mover the mover
+     * @param other the other object
+     * @return the contact, empty if the objects are apart or only share a corner
+     */
+    public static Optional<Manifold> between(final CollidableGameObject mover, final CollidableGameObject other) {
+        return of(BoundingBox.of(mover), BoundingBox.of(other));
+    }
+
+    /**
+     * Returns the same contact, seen from the other box.
+     *
+     * @return the contact with the normal reversed
+     */
+    public Manifold flip() {
+        return new Manifold(-this.normalX, -this.normalY, this.depth, this.edgeStart, this.edgeEnd);
+    }
+
+    /**
+     * Tells whether the mover touches a vertical side of the other box.
+     *
+     * @return true if the normal is horizontal
+     */
+    public boolean isHorizontal() {
+        return this.normalX != 0;
+    }
+
+    /**
+     * Tells whether the mover rests on top of the other box.
+     *
+     * @return true if the normal points upwards
+     */
+    public boolean isGround() {
+        return this.normalY > 0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.CompoundCollidable;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A static collider covering exactly the same area as the colliders of one
+ * collision type it was merged from, built by {@link ColliderMerger}.
+ * <p>
+ * It only lives in the collision structures: the parts stay in the world,
+ * keeping their ids and their graphics. Being static, it can not be moved
+ * nor resized.
+ * </p>
+ */
+public final class MergedCollider implements CompoundCollidable {
+
+    private final CollisionType type;
+    private final BoundingBox box;
+    private final List<CollidableGameObject> parts;
+
+    /**
+     * Constructs a merged collider.
+     *
+     * @param type  the collision type of every part
+     * @param box   the box the parts cover
+     * @param parts the colliders merged
+     */
+    public MergedCollider(final CollisionType type, final BoundingBox box,
+            final List<? extends CollidableGameObject> parts) {
+        this.type = Objects.requireNonNull(type);
+        this.box = Objects.requireNonNull(box);
+        this.parts = List.copyOf(parts);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CollidableGameObject> parts() {
+        return this.parts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CollisionType getCollisionType() {
+        return this.type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D getPosition() {
+        return new Coord2D(this.box.minX(), this.box.minY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension getDimension() {
+        return new Dimension(this.box.width(), this.box.height());
+    }
+
+    /**
+     * Merged colliders never move.
+     *
+     * @param position ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setPosition(final Coord2D position) {
+        throw new UnsupportedOperationException("A merged collider never moves");
+    }
+
+    /**
+     * Merged colliders are never resized.
+     *
+     * @param dimension ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setDimension(final Dimension dimension) {
+        throw new UnsupportedOperationException("A merged collider is never resized");
+    }
+
+    /**
+     * Gets the description of the collider, with its box and number of parts.
+     *
+     * @return a string representation of the collider
+     */
+    @Override
+    public String toString() {
+        return "Merged " + this.type + ": " + this.box + ", " + this.parts.size() + " parts";
+    }
+}
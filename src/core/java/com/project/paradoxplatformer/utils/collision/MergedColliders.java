@@ -0,0 +1,35 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.List;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+
+/**
+ * The outcome of merging static colliders.
+ *
+ * @param colliders     the colliders left, merged ones being
+ *                      {@link MergedCollider}s and the others the original
+ *                      objects
+ * @param originalCount how many colliders were given
+ */
+public record MergedColliders(List<CollidableGameObject> colliders, int originalCount) {
+
+    /**
+     * Constructs the outcome, copying the colliders.
+     *
+     * @param colliders     the colliders left
+     * @param originalCount how many colliders were given
+     */
+    public MergedColliders {
+        colliders = List.copyOf(colliders);
+    }
+
+    /**
+     * Returns the fraction of colliders merged away.
+     *
+     * @return 0 if nothing was merged, close to 1 if almost everything was
+     */
+    public double reductionRatio() {
+        return this.originalCount == 0 ? 0 : 1 - (double) this.colliders.size() / this.originalCount;
+    }
+}
@@ -0,0 +1,257 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.collision.soa.AabbBuffer;
+import com.project.paradoxplatformer.utils.collision.soa.OverlapKernel;
+import com.project.paradoxplatformer.utils.collision.soa.OverlapKernels;
+import com.project.paradoxplatformer.utils.collision.soa.ShapeOverlapKernel;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * Finds every pair of colliding objects, at least one of which may move.
+ * <p>
+ * Candidate pairs come from the broad phase, for pairs of moving objects, and
+ * from the static index, for a moving object against a static one: static
+ * objects never start or stop overlapping each other. The narrow phase then
+ * tests the candidates on a {@link ForkJoinPool}, splitting them in halves
+ * until they are few enough to be tested by one thread. The boxes of the
+ * objects are read once per call into an {@link AabbBuffer}, and candidates
+ * are kept as indices into it, so that the {@link OverlapKernel} only runs
+ * over primitive arrays. Pairs whose boxes overlap and which involve a round
+ * {@link CollisionShape} are tested again by a {@link ShapeOverlapKernel}.
+ * The colliding pairs are sorted before being
+ * returned, so that their order depends neither on the broad phase nor on the
+ * threads.
+ * </p>
+ */
+public final class PairwiseCollision {
+
+    /**
+     * The default order of the objects, by the identifier of mutable objects,
+     * which comes from the level data and therefore is the same on every run.
+     */
+    public static final Comparator<CollidableGameObject> BY_ID = Comparator.comparingInt(
+            o -> o instanceof MutableObject mutable ? mutable.getID() : Integer.MAX_VALUE);
+
+    /**
+     * The default number of candidate pairs below which the narrow phase is not
+     * split any further.
+     */
+    public static final int DEFAULT_THRESHOLD = 256;
+
+    private static final int BOX = CollisionShape.AABB.ordinal();
+
+    private final ForkJoinPool pool;
+    private final Comparator<? super CollidableGameObject> order;
+    private final int threshold;
+    private final OverlapKernel kernel;
+    private final OverlapKernel shapeKernel = new ShapeOverlapKernel();
+    private final AabbBuffer boxes = new AabbBuffer();
+
+    /**
+     * Constructs a pairwise collision running on the common pool and ordering
+     * objects by their identifier.
+     */
+    public PairwiseCollision() {
+        this(ForkJoinPool.commonPool(), BY_ID, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a pairwise collision using the fastest overlap kernel
+     * available.
+     *
+     * @param pool      the pool running the narrow phase
+     * @param order     the order of the objects, ties are broken by identity
+     * @param threshold the number of candidate pairs below which the narrow
+     *                  phase is not split any further
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public PairwiseCollision(final ForkJoinPool pool, final Comparator<? super CollidableGameObject> order,
+            final int threshold) {
+        this(pool, order, threshold, OverlapKernels.best());
+    }
+
+    /**
+     * Constructs a pairwise collision.
+     *
+     * @param pool      the pool running the narrow phase
+     * @param order     the order of the objects, ties are broken by identity
+     * @param threshold the number of candidate pairs below which the narrow
+     *                  phase is not split any further
+     * @param kernel    the kernel testing the candidate pairs
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public PairwiseCollision(final ForkJoinPool pool, final Comparator<? super CollidableGameObject> order,
+            final int threshold, final OverlapKernel kernel) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive, was " + threshold);
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.order = Objects.requireNonNull(order);
+        this.threshold = threshold;
+        this.kernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * Finds the colliding pairs of objects.
+     * <p>
+     * The boxes of the objects are read once, into a buffer reused from one
+     * call to the next: this method must not be called concurrently.
+     * </p>
+     *
+     * @param dynamicObjects  the objects that may move
+     * @param staticColliders the index of the objects that never move
+     * @param live            tells which static colliders are still in the game
+     * @param broadPhase      the broad phase indexing the dynamic objects, which
+     *                        must be up to date
+     * @return the colliding pairs, sorted by {@link CollisionPair#order}
+     */
+    public List<CollisionPair> detect(
+            final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final BroadPhase broadPhase) {
+        return this.detect(dynamicObjects, staticColliders, live, broadPhase, CollisionFilter.all());
+    }
+
+    /**
+     * Finds the colliding pairs of objects, leaving out the pairs the filter
+     * keeps from colliding before they are tested.
+     *
+     * @param dynamicObjects  the objects that may move
+     * @param staticColliders the index of the objects that never move
+     * @param live            tells which static colliders are still in the game
+     * @param broadPhase      the broad phase indexing the dynamic objects, which
+     *                        must be up to date
+     * @param filter          tells which objects may collide
+     * @return the colliding pairs, sorted by {@link CollisionPair#order}
+     */
+    public List<CollisionPair> detect(
+            final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final BroadPhase broadPhase,
+            final CollisionFilter filter) {
+        final Candidates candidates = this.candidates(dynamicObjects, staticColliders, live, broadPhase, filter);
+        final boolean[] colliding = new boolean[candidates.size];
+        if (candidates.size <= this.threshold) {
+            this.kernel.overlap(this.boxes, candidates.first, this.boxes, candidates.second,
+                    0, candidates.size, colliding);
+        } else {
+            this.pool.invoke(new NarrowPhase(candidates, 0, candidates.size, colliding));
+        }
+        final int[] shapes = this.boxes.shapes();
+        for (int k = 0; k < candidates.size; k++) {
+            if (colliding[k] && (shapes[candidates.first[k]] != BOX || shapes[candidates.second[k]] != BOX)) {
+                this.shapeKernel.overlap(this.boxes, candidates.first, this.boxes, candidates.second,
+                        k, k + 1, colliding);
+            }
+        }
+        final List<CollisionPair> pairs = new ArrayList<>();
+        for (int k = 0; k < candidates.size; k++) {
+            if (colliding[k]) {
+                pairs.add(CollisionPair.of(this.boxes.get(candidates.first[k]),
+                        this.boxes.get(candidates.second[k]), this.order));
+            }
+        }
+        pairs.sort(CollisionPair.order(this.order));
+        return pairs;
+    }
+
+    private Candidates candidates(
+            final Collection<? extends CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders,
+            final Predicate<? super CollidableGameObject> live,
+            final BroadPhase broadPhase,
+            final CollisionFilter filter) {
+        this.boxes.sync(dynamicObjects);
+        final Candidates candidates = new Candidates();
+        for (int i = 0; i < dynamicObjects.size(); i++) {
+            final int index = i;
+            final CollidableGameObject object = this.boxes.get(i);
+            // moving pairs are found from both of their objects, keep them once
+            broadPhase.query(object).forEach(other -> {
+                final int otherIndex = this.boxes.indexOf(other);
+                if (otherIndex > index && filter.canCollide(object, other)) {
+                    candidates.add(index, otherIndex);
+                }
+            });
+            staticColliders.query(BoundingBox.of(object), live, other -> {
+                if (!other.equals(object) && filter.canCollide(object, other)) {
+                    final int otherIndex = this.boxes.indexOf(other);
+                    candidates.add(index, otherIndex < 0 ? this.boxes.add(other) : otherIndex);
+                }
+            });
+        }
+        return candidates;
+    }
+
+    /**
+     * The candidate pairs, as indices of their objects in the buffer.
+     */
+    private static final class Candidates {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] first = new int[INITIAL_CAPACITY];
+        private int[] second = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(final int i, final int j) {
+            if (this.size == this.first.length) {
+                this.first = Arrays.copyOf(this.first, this.size * 2);
+                this.second = Arrays.copyOf(this.second, this.size * 2);
+            }
+            this.first[this.size] = i;
+            this.second[this.size] = j;
+            this.size++;
+        }
+    }
+
+    /**
+     * Tests a range of candidate pairs, splitting it in halves while it is
+     * larger than the threshold.
+     */
+    private final class NarrowPhase extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Candidates candidates;
+        private final int from;
+        private final int to;
+        private final boolean[] colliding;
+
+        NarrowPhase(final Candidates candidates, final int from, final int to, final boolean[] colliding) {
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.colliding = colliding;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= threshold) {
+                kernel.overlap(boxes, this.candidates.first, boxes, this.candidates.second,
+                        this.from, this.to, this.colliding);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new NarrowPhase(this.candidates, this.from, middle, this.colliding),
+                        new NarrowPhase(this.candidates, middle, this.to, this.colliding));
+            }
+        }
+    }
+}
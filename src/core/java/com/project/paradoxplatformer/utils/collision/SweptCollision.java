@@ -0,0 +1,182 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.api.SweptCollidable;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Continuous collision detection of a {@link SweptCollidable} against solid
+ * objects, so that it can not tunnel through them however fast it moves.
+ * <p>
+ * The step of the object is swept against every solid object near its path:
+ * the vertical part of the step first, then the horizontal one from where the
+ * vertical part stopped. Resolving one axis at a time lets the object slide
+ * along what it hit, and keeps it from catching on the seams between adjacent
+ * platforms. The step is cut at the first impact on each axis, leaving the
+ * object touching the solid it hit.
+ * </p>
+ */
+public final class SweptCollision {
+
+    /**
+     * The collision types stopping swept objects by default. Floors are
+     * triggers the player is meant to walk through.
+     */
+    public static final Set<CollisionType> DEFAULT_SOLIDS = Set.copyOf(
+            EnumSet.of(CollisionType.WALLS, CollisionType.PLATFORM));
+
+    private final Set<CollisionType> solids;
+
+    /**
+     * Constructs a swept collision stopping objects at walls and platforms.
+     */
+    public SweptCollision() {
+        this(DEFAULT_SOLIDS);
+    }
+
+    /**
+     * Constructs a swept collision stopping objects at the given collision
+     * types.
+     *
+     * @param solids the collision types swept objects can not cross
+     */
+    public SweptCollision(final Set<CollisionType> solids) {
+        this.solids = Set.copyOf(solids);
+    }
+
+    /**
+     * Sweeps a box moving by the given offsets against a still one.
+     * <p>
+     * Boxes merely touching are not colliding, so a box touching another one
+     * and moving towards it hits it right away, while a box already overlapping
+     * another one never hits it: that is left to discrete detection.
+     * </p>
+     *
+     * @param moving the moving box, where its movement starts
+     * @param dx     the horizontal movement
+     * @param dy     the vertical movement
+     * @param target the still box
+     * @return the first contact, if the boxes touch before the movement ends
+     */
+    public static Optional<Impact> sweep(final BoundingBox moving, final double dx, final double dy,
+            final BoundingBox target) {
+        final double[] x = interval(moving.minX(), moving.maxX(), dx, target.minX(), target.maxX());
+        final double[] y = interval(moving.minY(), moving.maxY(), dy, target.minY(), target.maxY());
+        if (x.length == 0 || y.length == 0) {
+            return Optional.empty();
+        }
+        final double entry = Math.max(x[0], y[0]);
+        final double exit = Math.min(x[1], y[1]);
+        if (entry >= exit || entry < 0 || entry >= 1) {
+            return Optional.empty();
+        }
+        return Optional.of(x[0] > y[0]
+                ? new Impact(entry, -Math.signum(dx), 0)
+                : new Impact(entry, 0, -Math.signum(dy)));
+    }
+
+    /**
+     * Returns the times the moving segment enters and leaves the still one
+     * along one axis, an empty array if it never overlaps it.
+     */
+    private static double[] interval(final double min, final double max, final double delta,
+            final double targetMin, final double targetMax) {
+        if (delta == 0) {
+            return max <= targetMin || min >= targetMax
+                    ? new double[0]
+                    : new double[] {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        }
+        final double enter = ((delta > 0 ? targetMin - max : targetMax - min)) / delta;
+        final double leave = ((delta > 0 ? targetMax - min : targetMin - max)) / delta;
+        return new double[] {enter, leave};
+    }
+
+    /**
+     * Checks the last step of the given object against the solid objects near
+     * it, cutting the step where it first hits them.
+     *
+     * @param mover      the object whose step is checked
+     * @param candidates finds the objects within a box
+     * @return the solid objects the step was cut at, in a new set owned by the
+     *         caller
+     */
+    public Set<CollidableGameObject> resolve(
+            final SweptCollidable mover,
+            final Function<BoundingBox, ? extends Collection<? extends CollidableGameObject>> candidates) {
+        final Set<CollidableGameObject> contacts = new HashSet<>();
+        final Coord2D origin = mover.getStepOrigin();
+        final Coord2D end = mover.getPosition();
+        final double dx = end.x() - origin.x();
+        final double dy = end.y() - origin.y();
+        if (dx == 0 && dy == 0) {
+            return contacts;
+        }
+        final BoundingBox start = new BoundingBox(origin.x(), origin.y(),
+                origin.x() + mover.getDimension().width(), origin.y() + mover.getDimension().height());
+        final List<CollidableGameObject> near = candidates.apply(start.union(start.translate(dx, dy))).stream()
+                .filter(c -> !c.equals(mover) && this.solids.contains(c.getCollisionType()))
+                .map(CollidableGameObject.class::cast)
+                .toList();
+
+        final double y = origin.y() + clip(start, 0, dy, near, contacts);
+        final BoundingBox afterY = start.translate(0, y - origin.y());
+        final double x = origin.x() + clip(afterY, dx, 0, near, contacts);
+        if (x != end.x() || y != end.y()) {
+            mover.clipStep(new Coord2D(x, y));
+        }
+        return contacts;
+    }
+
+    /**
+     * Moves a box along one axis until the first solid it hits.
+     *
+     * @return how far the box can move, up to the whole offset
+     */
+    private static double clip(final BoundingBox box, final double dx, final double dy,
+            final List<CollidableGameObject> near, final Set<CollidableGameObject> contacts) {
+        final double delta = dx + dy;
+        if (delta == 0) {
+            return 0;
+        }
+        double time = 1;
+        double allowed = delta;
+        final Set<CollidableGameObject> hits = new HashSet<>();
+        for (final CollidableGameObject solid : near) {
+            final BoundingBox target = BoundingBox.of(solid);
+            final Optional<Impact> impact = sweep(box, dx, dy, target);
+            if (impact.isPresent() && impact.get().time() <= time) {
+                if (impact.get().time() < time) {
+                    hits.clear();
+                    time = impact.get().time();
+                    allowed = edgeOffset(box, dx, dy, target);
+                }
+                hits.add(solid);
+            }
+        }
+        contacts.addAll(hits);
+        return allowed;
+    }
+
+    /**
+     * Returns the offset leaving the box exactly touching the target, computed
+     * from the edges rather than from the time of impact so that no rounding
+     * leaves them overlapping.
+     */
+    private static double edgeOffset(final BoundingBox box, final double dx, final double dy,
+            final BoundingBox target) {
+        if (dx != 0) {
+            return dx > 0 ? target.minX() - box.maxX() : target.maxX() - box.minX();
+        }
+        return dy > 0 ? target.minY() - box.maxY() : target.maxY() - box.minY();
+    }
+}
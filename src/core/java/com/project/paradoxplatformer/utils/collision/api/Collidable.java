@@ -15,4 +15,14 @@ public interface Collidable {
      */
     CollisionType getCollisionType();
 
+    /**
+     * Returns the shape the object collides with, inside its bounding box.
+     *
+     * @return the collision shape of the object, {@link CollisionShape#AABB}
+     *         unless overridden
+     */
+    default CollisionShape getCollisionShape() {
+        return CollisionShape.AABB;
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.RoundedBox;
+
+/**
+ * The shape an object collides with, inscribed in its bounding box so that
+ * the box stays a conservative bound for the broad phase.
+ */
+public enum CollisionShape {
+    /**
+     * The whole bounding box.
+     */
+    AABB,
+
+    /**
+     * The largest circle centered in the bounding box, whose diameter is the
+     * shorter side of the box.
+     */
+    CIRCLE,
+
+    /**
+     * The bounding box with its shorter sides rounded into half circles,
+     * lying along the longer side of the box.
+     */
+    CAPSULE;
+
+    /**
+     * Returns this shape, inscribed in the given box.
+     *
+     * @param box the bounding box of the object
+     * @return the shape the object collides with
+     */
+    public RoundedBox inscribe(final BoundingBox box) {
+        final double radius = Math.min(box.width(), box.height()) / 2;
+        return switch (this) {
+            case AABB -> new RoundedBox(box, 0);
+            case CIRCLE -> around(box, 0, 0, radius);
+            case CAPSULE -> around(box, Math.max(0, box.width() / 2 - radius),
+                    Math.max(0, box.height() / 2 - radius), radius);
+        };
+    }
+
+    private static RoundedBox around(final BoundingBox box, final double halfWidth, final double halfHeight,
+            final double radius) {
+        final double x = (box.minX() + box.maxX()) / 2;
+        final double y = (box.minY() + box.maxY()) / 2;
+        return new RoundedBox(new BoundingBox(x - halfWidth, y - halfHeight, x + halfWidth, y + halfHeight), radius);
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import java.util.List;
+
+/**
+ * A collidable game object standing for several others, which collide as a
+ * single one.
+ */
+public interface CompoundCollidable extends CollidableGameObject {
+
+    /**
+     * Returns the objects this one stands for.
+     *
+     * @return an unmodifiable list of the parts
+     */
+    List<CollidableGameObject> parts();
+}
@@ -0,0 +1,35 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The phases of a contact between two objects, from one tick to the next.
+ */
+public enum ContactPhase {
+
+    /**
+     * The objects touch, and did not on the previous tick.
+     */
+    ENTER,
+
+    /**
+     * The objects touch, and already did on the previous tick.
+     */
+    STAY,
+
+    /**
+     * The objects do not touch anymore, while they did on the previous tick.
+     */
+    EXIT;
+
+    /**
+     * The phases of a contact in which the objects touch.
+     */
+    public static final Set<ContactPhase> TOUCHING = Set.copyOf(EnumSet.of(ENTER, STAY));
+
+    /**
+     * Only the start of a contact.
+     */
+    public static final Set<ContactPhase> ON_ENTER = Set.of(ENTER);
+}
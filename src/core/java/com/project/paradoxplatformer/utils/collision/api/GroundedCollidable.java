@@ -0,0 +1,31 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import java.util.Optional;
+
+/**
+ * A collidable game object subject to gravity, which remembers the object it
+ * stands on rather than falling again at every step until a collision stops
+ * it.
+ */
+public interface GroundedCollidable extends CollidableGameObject {
+
+    /**
+     * Makes the object stand on another one, stopping its fall.
+     *
+     * @param support the object landed on
+     */
+    void land(CollidableGameObject support);
+
+    /**
+     * Makes the object leave its support, so that it falls again unless it
+     * lands at once.
+     */
+    void leaveSupport();
+
+    /**
+     * Returns the object this object stands on.
+     *
+     * @return the support, empty if the object is in the air
+     */
+    Optional<CollidableGameObject> getSupport();
+}
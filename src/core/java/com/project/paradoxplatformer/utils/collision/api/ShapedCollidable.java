@@ -0,0 +1,15 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+/**
+ * A collidable game object whose collision shape can be chosen, for instance
+ * by the level it is loaded from.
+ */
+public interface ShapedCollidable extends CollidableGameObject {
+
+    /**
+     * Sets the shape the object collides with.
+     *
+     * @param shape the new collision shape
+     */
+    void setCollisionShape(CollisionShape shape);
+}
@@ -0,0 +1,26 @@
+package com.project.paradoxplatformer.utils.collision.api;
+
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A collidable game object fast enough to cross thin objects within a single
+ * step, whose whole step is therefore checked for collisions rather than only
+ * the position it ends in.
+ */
+public interface SweptCollidable extends CollidableGameObject {
+
+    /**
+     * Returns the position the object was in when its last step started.
+     *
+     * @return the origin of the last step
+     */
+    Coord2D getStepOrigin();
+
+    /**
+     * Moves the object back to a position along its last step, where it hit
+     * something solid.
+     *
+     * @param position the position the step is cut at
+     */
+    void clipStep(Coord2D position);
+}
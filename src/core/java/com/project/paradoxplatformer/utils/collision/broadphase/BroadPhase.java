@@ -0,0 +1,59 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * The first pass of collision detection, quickly narrowing the objects that
+ * may collide with a given one down to a few candidates.
+ * <p>
+ * A broad phase keeps its own index of the objects, which is kept in sync by
+ * {@link #update(Collection)} once per tick, so that the work done depends on
+ * how many objects moved rather than on how many there are. Queries are
+ * conservative: every object actually colliding is returned, together with
+ * some that are not, which the exact test then discards.
+ * </p>
+ */
+public interface BroadPhase {
+
+    /**
+     * Synchronizes the index with the given objects: new objects are added,
+     * objects that moved are updated and objects no longer given are dropped.
+     *
+     * @param objects every object currently taking part in collisions
+     */
+    void update(Collection<? extends CollidableGameObject> objects);
+
+    /**
+     * Returns the objects whose bounds, as of the last update, overlap the
+     * given box.
+     *
+     * @param box the box to query
+     * @return the candidates, in a new set owned by the caller
+     */
+    Set<CollidableGameObject> query(BoundingBox box);
+
+    /**
+     * Returns a box containing every object, as of the last update.
+     *
+     * @return the box, empty if no object is indexed
+     */
+    Optional<BoundingBox> bounds();
+
+    /**
+     * Returns the objects which may collide with the given one, the object
+     * itself excluded.
+     *
+     * @param object the object to query
+     * @return the candidates, in a new set owned by the caller
+     */
+    default Set<CollidableGameObject> query(final CollidableGameObject object) {
+        final Set<CollidableGameObject> candidates = this.query(BoundingBox.of(object));
+        candidates.remove(object);
+        return candidates;
+    }
+}
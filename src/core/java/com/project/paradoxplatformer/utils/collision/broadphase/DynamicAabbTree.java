@@ -0,0 +1,308 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * A bounding volume hierarchy of axis aligned boxes, kept balanced while
+ * items are inserted, moved and removed.
+ * <p>
+ * Leaves store a fattened copy of the box of their item, so that an item
+ * moving a little stays within its leaf and costs nothing: only when it
+ * leaves the fattened box is it removed and inserted again. Insertion picks
+ * the sibling enlarging the tree the least, then the path up to the root is
+ * refitted and balanced with local rotations, which keeps the height, and
+ * therefore the cost of queries, logarithmic.
+ * </p>
+ *
+ * @param <T> the type of the indexed items
+ */
+public final class DynamicAabbTree<T> {
+
+    private final double margin;
+    private final Map<T, Node<T>> leaves;
+    private Node<T> root;
+
+    /**
+     * Constructs an empty tree.
+     *
+     * @param margin how much the boxes of the leaves are grown on every side
+     * @throws IllegalArgumentException if the margin is negative
+     */
+    public DynamicAabbTree(final double margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Margin cannot be negative, was " + margin);
+        }
+        this.margin = margin;
+        this.leaves = new HashMap<>();
+    }
+
+    /**
+     * Adds an item to the tree.
+     *
+     * @param item the item to add
+     * @param box  the bounds of the item
+     * @throws IllegalArgumentException if the item is already in the tree
+     */
+    public void insert(final T item, final BoundingBox box) {
+        if (this.leaves.containsKey(item)) {
+            throw new IllegalArgumentException("Item already in the tree");
+        }
+        final Node<T> leaf = new Node<>();
+        leaf.item = item;
+        leaf.tight = box;
+        leaf.box = box.fatten(this.margin);
+        this.leaves.put(item, leaf);
+        this.insertLeaf(leaf);
+    }
+
+    /**
+     * Updates the bounds of an item.
+     *
+     * @param item the item that moved
+     * @param box  the new bounds of the item
+     * @return true if the item had to be reinserted, false if it is still
+     *         within its fattened box
+     * @throws IllegalArgumentException if the item is not in the tree
+     */
+    public boolean move(final T item, final BoundingBox box) {
+        final Node<T> leaf = this.leaf(item);
+        leaf.tight = box;
+        if (leaf.box.contains(box)) {
+            return false;
+        }
+        this.removeLeaf(leaf);
+        leaf.box = box.fatten(this.margin);
+        this.insertLeaf(leaf);
+        return true;
+    }
+
+    /**
+     * Removes an item from the tree.
+     *
+     * @param item the item to remove
+     * @throws IllegalArgumentException if the item is not in the tree
+     */
+    public void remove(final T item) {
+        this.removeLeaf(this.leaf(item));
+        this.leaves.remove(item);
+    }
+
+    /**
+     * Visits every item whose bounds overlap the given box.
+     *
+     * @param box    the box to query
+     * @param action what to do with each item found
+     */
+    public void query(final BoundingBox box, final Consumer<T> action) {
+        if (this.root == null) {
+            return;
+        }
+        final Deque<Node<T>> stack = new ArrayDeque<>();
+        stack.push(this.root);
+        while (!stack.isEmpty()) {
+            final Node<T> node = stack.pop();
+            if (node.box.overlaps(box)) {
+                if (node.isLeaf()) {
+                    if (node.tight.overlaps(box)) {
+                        action.accept(node.item);
+                    }
+                } else {
+                    stack.push(node.left);
+                    stack.push(node.right);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the box of the root of the tree, which contains every item.
+     *
+     * @return the box, empty if the tree is empty
+     */
+    public Optional<BoundingBox> bounds() {
+        return Optional.ofNullable(this.root).map(node -> node.box);
+    }
+
+    /**
+     * Tells whether an item is in the tree.
+     *
+     * @param item the item to look for
+     * @return true if the item is in the tree
+     */
+    public boolean contains(final T item) {
+        return this.leaves.containsKey(item);
+    }
+
+    /**
+     * Returns the number of items in the tree.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return this.leaves.size();
+    }
+
+    /**
+     * Returns the height of the tree, 0 for an empty tree or a single leaf.
+     *
+     * @return the height of the tree
+     */
+    public int height() {
+        return this.root == null ? 0 : this.root.height;
+    }
+
+    private Node<T> leaf(final T item) {
+        final Node<T> leaf = this.leaves.get(item);
+        if (leaf == null) {
+            throw new IllegalArgumentException("Item not in the tree");
+        }
+        return leaf;
+    }
+
+    private void insertLeaf(final Node<T> leaf) {
+        if (this.root == null) {
+            this.root = leaf;
+            leaf.parent = null;
+            return;
+        }
+        // descend towards the sibling whose enlargement costs the least
+        final BoundingBox box = leaf.box;
+        Node<T> sibling = this.root;
+        while (!sibling.isLeaf()) {
+            final double combined = sibling.box.union(box).perimeter();
+            final double cost = 2 * combined;
+            final double inheritance = 2 * (combined - sibling.box.perimeter());
+            final double leftCost = descentCost(sibling.left, box) + inheritance;
+            final double rightCost = descentCost(sibling.right, box) + inheritance;
+            if (cost < leftCost && cost < rightCost) {
+                break;
+            }
+            sibling = leftCost < rightCost ? sibling.left : sibling.right;
+        }
+
+        final Node<T> oldParent = sibling.parent;
+        final Node<T> parent = new Node<>();
+        parent.parent = oldParent;
+        parent.box = box.union(sibling.box);
+        parent.height = sibling.height + 1;
+        this.replaceChild(oldParent, sibling, parent);
+        parent.left = sibling;
+        parent.right = leaf;
+        sibling.parent = parent;
+        leaf.parent = parent;
+        this.refit(parent);
+    }
+
+    private static <T> double descentCost(final Node<T> child, final BoundingBox box) {
+        final double enlarged = child.box.union(box).perimeter();
+        return child.isLeaf() ? enlarged : enlarged - child.box.perimeter();
+    }
+
+    private void removeLeaf(final Node<T> leaf) {
+        if (leaf == this.root) {
+            this.root = null;
+            return;
+        }
+        final Node<T> parent = leaf.parent;
+        final Node<T> grandParent = parent.parent;
+        final Node<T> sibling = parent.left == leaf ? parent.right : parent.left;
+        this.replaceChild(grandParent, parent, sibling);
+        sibling.parent = grandParent;
+        leaf.parent = null;
+        if (grandParent != null) {
+            this.refit(grandParent);
+        }
+    }
+
+    private void replaceChild(final Node<T> parent, final Node<T> oldChild, final Node<T> newChild) {
+        if (parent == null) {
+            this.root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    /**
+     * Walks up to the root, balancing and recomputing every node on the way.
+     */
+    private void refit(final Node<T> start) {
+        Node<T> node = start;
+        while (node != null) {
+            node = this.balance(node);
+            node.height = 1 + Math.max(node.left.height, node.right.height);
+            node.box = node.left.box.union(node.right.box);
+            node = node.parent;
+        }
+    }
+
+    /**
+     * Rotates the taller child of a node up if the node is unbalanced.
+     *
+     * @return the node now standing where the given one was
+     */
+    private Node<T> balance(final Node<T> node) {
+        if (node.isLeaf() || node.height < 2) {
+            return node;
+        }
+        final int difference = node.right.height - node.left.height;
+        if (difference > 1) {
+            return this.rotateUp(node, node.right, node.left);
+        } else if (difference < -1) {
+            return this.rotateUp(node, node.left, node.right);
+        }
+        return node;
+    }
+
+    /**
+     * Puts {@code up} in place of its parent {@code node}, which keeps
+     * {@code other} and receives the shorter child of {@code up}.
+     */
+    private Node<T> rotateUp(final Node<T> node, final Node<T> up, final Node<T> other) {
+        final Node<T> tall = up.left.height > up.right.height ? up.left : up.right;
+        final Node<T> shortChild = tall == up.left ? up.right : up.left;
+
+        this.replaceChild(node.parent, node, up);
+        up.parent = node.parent;
+        up.left = node;
+        up.right = tall;
+        node.parent = up;
+
+        node.left = other;
+        node.right = shortChild;
+        other.parent = node;
+        shortChild.parent = node;
+
+        node.box = other.box.union(shortChild.box);
+        node.height = 1 + Math.max(other.height, shortChild.height);
+        up.box = node.box.union(tall.box);
+        up.height = 1 + Math.max(node.height, tall.height);
+        return up;
+    }
+
+    /**
+     * A node of the tree, a leaf holding an item or an inner node with two
+     * children.
+     */
+    private static final class Node<T> {
+        private BoundingBox box;
+        private BoundingBox tight;
+        private T item;
+        private Node<T> parent;
+        private Node<T> left;
+        private Node<T> right;
+        private int height;
+
+        boolean isLeaf() {
+            return this.left == null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * A {@link BroadPhase} backed by a {@link DynamicAabbTree}.
+ * <p>
+ * Unlike a grid, the tree adapts to objects of very different sizes, such as
+ * huge platforms next to small coins and saws, and answers queries in
+ * logarithmic time wherever the objects are.
+ * </p>
+ */
+public final class DynamicTreeBroadPhase implements BroadPhase {
+
+    /**
+     * The default margin by which the boxes in the tree are fattened, in world
+     * units.
+     */
+    public static final double DEFAULT_MARGIN = 4;
+
+    private final DynamicAabbTree<CollidableGameObject> tree;
+    private final Map<CollidableGameObject, Stamp> stamps;
+    private long generation;
+
+    /**
+     * Constructs a broad phase fattening boxes by the default margin.
+     */
+    public DynamicTreeBroadPhase() {
+        this(DEFAULT_MARGIN);
+    }
+
+    /**
+     * Constructs a broad phase fattening boxes by the given margin.
+     *
+     * @param margin how much the boxes are grown on every side, larger margins
+     *               make moves cheaper and queries less precise
+     */
+    public DynamicTreeBroadPhase(final double margin) {
+        this.tree = new DynamicAabbTree<>(margin);
+        this.stamps = new HashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Collection<? extends CollidableGameObject> objects) {
+        this.generation++;
+        int seen = 0;
+        for (final CollidableGameObject object : objects) {
+            final Stamp stamp = this.stamps.get(object);
+            if (stamp == null) {
+                this.tree.insert(object, BoundingBox.of(object));
+                this.stamps.put(object, new Stamp(this.generation));
+                seen++;
+            } else if (stamp.generation != this.generation) {
+                this.tree.move(object, BoundingBox.of(object));
+                stamp.generation = this.generation;
+                seen++;
+            }
+        }
+        if (seen != this.stamps.size()) {
+            this.stamps.entrySet().removeIf(e -> {
+                final boolean stale = e.getValue().generation != this.generation;
+                if (stale) {
+                    this.tree.remove(e.getKey());
+                }
+                return stale;
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CollidableGameObject> query(final BoundingBox box) {
+        final Set<CollidableGameObject> found = new HashSet<>();
+        this.tree.query(box, found::add);
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BoundingBox> bounds() {
+        return this.tree.bounds();
+    }
+
+    /**
+     * The last update an object was seen in.
+     */
+    private static final class Stamp {
+        private long generation;
+
+        Stamp(final long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * The first object a {@link Segment} runs into.
+ *
+ * @param object  the object hit
+ * @param time    the fraction of the segment travelled before the hit, from 0
+ *                to 1
+ * @param point   where the segment enters the object
+ * @param normalX the horizontal component of the normal of the side hit, -1, 0
+ *                or 1
+ * @param normalY the vertical component of the normal of the side hit, -1, 0 or
+ *                1
+ */
+public record RayHit(CollidableGameObject object, double time, Coord2D point, double normalX, double normalY) {
+}
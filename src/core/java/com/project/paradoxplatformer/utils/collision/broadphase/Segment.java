@@ -0,0 +1,108 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A segment cast through the world, from an origin along a displacement.
+ * <p>
+ * Boxes are crossed with the slab method. A box strictly containing the origin
+ * is never hit, so that a ray cast from within an object skips that object.
+ * </p>
+ *
+ * @param origin where the segment starts
+ * @param dx     the horizontal displacement to the end of the segment
+ * @param dy     the vertical displacement to the end of the segment
+ */
+public record Segment(Coord2D origin, double dx, double dy) {
+
+    /**
+     * Constructs the segment between two points.
+     *
+     * @param from the origin of the segment
+     * @param to   the end of the segment
+     * @return the segment going from one point to the other
+     */
+    public static Segment between(final Coord2D from, final Coord2D to) {
+        return new Segment(from, to.x() - from.x(), to.y() - from.y());
+    }
+
+    /**
+     * Returns the point at the given fraction of the segment.
+     *
+     * @param time the fraction of the segment, from 0 to 1
+     * @return the point reached
+     */
+    public Coord2D at(final double time) {
+        return new Coord2D(this.origin.x() + this.dx * time, this.origin.y() + this.dy * time);
+    }
+
+    /**
+     * Returns the smallest box holding the segment.
+     *
+     * @return the bounds of the segment
+     */
+    public BoundingBox bounds() {
+        final Coord2D end = this.at(1);
+        return new BoundingBox(Math.min(this.origin.x(), end.x()), Math.min(this.origin.y(), end.y()),
+                Math.max(this.origin.x(), end.x()), Math.max(this.origin.y(), end.y()));
+    }
+
+    /**
+     * Crosses the segment with an object.
+     *
+     * @param object the object to cross
+     * @return where the segment enters the object, if it does
+     */
+    public Optional<RayHit> cast(final CollidableGameObject object) {
+        final BoundingBox box = BoundingBox.of(object);
+        return this.cast(object, box.minX(), box.minY(), box.maxX(), box.maxY());
+    }
+
+    /**
+     * Crosses the segment with the box of an object.
+     */
+    Optional<RayHit> cast(final CollidableGameObject object, final double minX, final double minY,
+            final double maxX, final double maxY) {
+        final double[] enterX = slab(this.origin.x(), this.dx, minX, maxX);
+        final double[] enterY = slab(this.origin.y(), this.dy, minY, maxY);
+        final double enter = Math.max(enterX[0], enterY[0]);
+        final double exit = Math.min(enterX[1], enterY[1]);
+        if (enter >= exit || enter < 0 || enter > 1) {
+            return Optional.empty();
+        }
+        final boolean alongX = enterX[0] >= enterY[0];
+        return Optional.of(new RayHit(object, enter, this.at(enter),
+                alongX ? -Math.signum(this.dx) : 0, alongX ? 0 : -Math.signum(this.dy)));
+    }
+
+    /**
+     * Returns the fraction of the segment travelled before it may enter the
+     * given box, 0 if it starts inside, or infinity if it misses the box.
+     * Touching the box counts, as this is meant to prune boxes holding others.
+     */
+    double enter(final double minX, final double minY, final double maxX, final double maxY) {
+        final double[] enterX = slab(this.origin.x(), this.dx, minX, maxX);
+        final double[] enterY = slab(this.origin.y(), this.dy, minY, maxY);
+        final double enter = Math.max(0, Math.max(enterX[0], enterY[0]));
+        final double exit = Math.min(1, Math.min(enterX[1], enterY[1]));
+        return enter <= exit ? enter : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return when the segment enters and leaves the slab between min and max
+     */
+    private static double[] slab(final double start, final double delta, final double min, final double max) {
+        if (delta == 0) {
+            return start < min || start > max
+                    ? new double[] {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}
+                    : new double[] {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        }
+        final double first = (min - start) / delta;
+        final double second = (max - start) / delta;
+        return new double[] {Math.min(first, second), Math.max(first, second)};
+    }
+}
@@ -0,0 +1,187 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * A {@link BroadPhase} bucketing objects into the cells of a uniform grid.
+ * <p>
+ * Every object is registered in each cell its bounds touch, and only moves
+ * between buckets when the range of cells it covers changes, which for small
+ * movements is rarely the case. A query only visits the cells around the
+ * queried box, so its cost depends on how crowded that neighbourhood is, not
+ * on the size of the world. The grid works best with a cell size close to
+ * the size of the typical moving object.
+ * </p>
+ */
+public final class SpatialHashBroadPhase implements BroadPhase {
+
+    /**
+     * The default side of a cell, in world units.
+     */
+    public static final double DEFAULT_CELL_SIZE = 64;
+
+    private static final int INT_BITS = 32;
+    private static final long LOW_BITS = 0xFFFF_FFFFL;
+
+    private final double cellSize;
+    private final Map<Long, Set<CollidableGameObject>> cells;
+    private final Map<CollidableGameObject, Entry> entries;
+    private long generation;
+
+    /**
+     * Constructs a spatial hash with cells of the default size.
+     */
+    public SpatialHashBroadPhase() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a spatial hash with cells of the given size.
+     *
+     * @param cellSize the side of a cell, in world units
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public SpatialHashBroadPhase(final double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive, was " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.cells = new HashMap<>();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Collection<? extends CollidableGameObject> objects) {
+        this.generation++;
+        int seen = 0;
+        for (final CollidableGameObject object : objects) {
+            final BoundingBox box = BoundingBox.of(object);
+            final Entry entry = this.entries.get(object);
+            if (entry == null) {
+                final Entry added = new Entry(box, this.range(box));
+                this.entries.put(object, added);
+                this.register(object, added.range);
+                added.generation = this.generation;
+                seen++;
+            } else if (entry.generation != this.generation) {
+                if (!entry.box.equals(box)) {
+                    this.move(object, entry, box);
+                }
+                entry.generation = this.generation;
+                seen++;
+            }
+        }
+        if (seen != this.entries.size()) {
+            this.entries.entrySet().removeIf(e -> {
+                final boolean stale = e.getValue().generation != this.generation;
+                if (stale) {
+                    this.unregister(e.getKey(), e.getValue().range);
+                }
+                return stale;
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CollidableGameObject> query(final BoundingBox box) {
+        final Set<CollidableGameObject> found = new HashSet<>();
+        final CellRange range = this.range(box);
+        for (int x = range.minX(); x <= range.maxX(); x++) {
+            for (int y = range.minY(); y <= range.maxY(); y++) {
+                final Set<CollidableGameObject> cell = this.cells.get(key(x, y));
+                if (cell != null) {
+                    cell.stream()
+                            .filter(o -> this.entries.get(o).box.overlaps(box))
+                            .forEach(found::add);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BoundingBox> bounds() {
+        return this.entries.values().stream()
+                .map(entry -> entry.box)
+                .reduce(BoundingBox::union);
+    }
+
+    private void move(final CollidableGameObject object, final Entry entry, final BoundingBox box) {
+        final CellRange range = this.range(box);
+        if (!range.equals(entry.range)) {
+            this.unregister(object, entry.range);
+            this.register(object, range);
+            entry.range = range;
+        }
+        entry.box = box;
+    }
+
+    private void register(final CollidableGameObject object, final CellRange range) {
+        for (int x = range.minX(); x <= range.maxX(); x++) {
+            for (int y = range.minY(); y <= range.maxY(); y++) {
+                this.cells.computeIfAbsent(key(x, y), k -> new HashSet<>()).add(object);
+            }
+        }
+    }
+
+    private void unregister(final CollidableGameObject object, final CellRange range) {
+        for (int x = range.minX(); x <= range.maxX(); x++) {
+            for (int y = range.minY(); y <= range.maxY(); y++) {
+                final Long key = key(x, y);
+                final Set<CollidableGameObject> cell = this.cells.get(key);
+                if (cell != null && cell.remove(object) && cell.isEmpty()) {
+                    this.cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private CellRange range(final BoundingBox box) {
+        return new CellRange(this.cell(box.minX()), this.cell(box.minY()), this.cell(box.maxX()), this.cell(box.maxY()));
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate / this.cellSize);
+    }
+
+    private static Long key(final int x, final int y) {
+        return ((long) x << INT_BITS) | (y & LOW_BITS);
+    }
+
+    /**
+     * The cells covered by a box, bounds included.
+     */
+    private record CellRange(int minX, int minY, int maxX, int maxY) {
+    }
+
+    /**
+     * What the index knows of an object.
+     */
+    private static final class Entry {
+        private BoundingBox box;
+        private CellRange range;
+        private long generation;
+
+        Entry(final BoundingBox box, final CellRange range) {
+            this.box = box;
+            this.range = range;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CompoundCollidable;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * An immutable index of colliders that never move, built once when a level is
+ * loaded.
+ * <p>
+ * The boxes are captured at construction and packed into a bounding volume
+ * hierarchy laid out in flat arrays, depth first, so that the left child of a
+ * node always follows it. Since nothing changes afterwards, no refit or
+ * rebalancing is ever paid for: queries simply walk the arrays.
+ * </p>
+ */
+public final class StaticColliderIndex {
+
+    private static final int LEAF_SIZE = 4;
+    private static final int MIN_X = 0;
+    private static final int MIN_Y = 1;
+    private static final int MAX_X = 2;
+    private static final int MAX_Y = 3;
+    private static final int CORNERS = 4;
+    private static final StaticColliderIndex EMPTY = new StaticColliderIndex(Set.of());
+
+    private final CollidableGameObject[] items;
+    private final double[] itemBoxes;
+    private final double[] nodeBoxes;
+    // first item of a leaf, or the right child of an inner node
+    private final int[] nodeFirst;
+    // number of items of a leaf, 0 for inner nodes
+    private final int[] nodeCount;
+    private final int depth;
+    private final Set<CollidableGameObject> members;
+
+    private StaticColliderIndex(final Collection<? extends CollidableGameObject> colliders) {
+        final Entry[] entries = Set.copyOf(colliders).stream()
+                .map(c -> new Entry(c, BoundingBox.of(c)))
+                .toArray(Entry[]::new);
+        final int maxNodes = Math.max(0, 2 * entries.length - 1);
+        this.nodeBoxes = new double[maxNodes * CORNERS];
+        this.nodeFirst = new int[maxNodes];
+        this.nodeCount = new int[maxNodes];
+        final Builder builder = new Builder(entries);
+        this.depth = entries.length == 0 ? 0 : builder.build(0, entries.length, 1);
+
+        // the parts of a compound collider are indexed through it
+        final Set<CollidableGameObject> contained = new HashSet<>(colliders);
+        colliders.stream()
+                .filter(CompoundCollidable.class::isInstance)
+                .forEach(compound -> contained.addAll(((CompoundCollidable) compound).parts()));
+        this.members = Set.copyOf(contained);
+
+        this.items = new CollidableGameObject[entries.length];
+        this.itemBoxes = new double[entries.length * CORNERS];
+        for (int i = 0; i < entries.length; i++) {
+            this.items[i] = entries[i].collider();
+            write(this.itemBoxes, i, entries[i].box());
+        }
+    }
+
+    /**
+     * Builds an index of the given colliders, as they are now.
+     *
+     * @param colliders the colliders that will never move
+     * @return the index of the colliders
+     */
+    public static StaticColliderIndex of(final Collection<? extends CollidableGameObject> colliders) {
+        return colliders.isEmpty() ? EMPTY : new StaticColliderIndex(colliders);
+    }
+
+    /**
+     * Returns an index holding no colliders.
+     *
+     * @return the empty index
+     */
+    public static StaticColliderIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Visits every indexed collider overlapping the given box and accepted by
+     * the given filter. The filter is only tested on overlapping colliders,
+     * hence it can cheaply exclude the ones that left the game.
+     *
+     * @param box    the box to query
+     * @param filter which of the overlapping colliders to visit
+     * @param action what to do with each collider found
+     */
+    public void query(
+            final BoundingBox box,
+            final Predicate<? super CollidableGameObject> filter,
+            final Consumer<? super CollidableGameObject> action) {
+        if (this.items.length == 0) {
+            return;
+        }
+        final int[] stack = new int[this.depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (overlaps(this.nodeBoxes, node, box)) {
+                if (this.nodeCount[node] > 0) {
+                    final int end = this.nodeFirst[node] + this.nodeCount[node];
+                    for (int i = this.nodeFirst[node]; i < end; i++) {
+                        if (overlaps(this.itemBoxes, i, box) && filter.test(this.items[i])) {
+                            action.accept(this.items[i]);
+                        }
+                    }
+                } else {
+                    stack[top++] = this.nodeFirst[node];
+                    stack[top++] = node + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed colliders overlapping the given box.
+     *
+     * @param box the box to query
+     * @return a new set owned by the caller
+     */
+    public Set<CollidableGameObject> query(final BoundingBox box) {
+        final Set<CollidableGameObject> found = new HashSet<>();
+        this.query(box, c -> true, found::add);
+        return found;
+    }
+
+    /**
+     * Finds the first indexed collider accepted by the given filter that a
+     * segment runs into. Nodes the segment can only reach after the closest
+     * hit so far are skipped.
+     *
+     * @param segment the segment to cast
+     * @param filter  which of the colliders may be hit
+     * @return the closest hit, if any
+     */
+    public Optional<RayHit> raycast(final Segment segment, final Predicate<? super CollidableGameObject> filter) {
+        if (this.items.length == 0) {
+            return Optional.empty();
+        }
+        RayHit closest = null;
+        final int[] stack = new int[this.depth + 1];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            final int base = node * CORNERS;
+            final double enter = segment.enter(this.nodeBoxes[base + MIN_X], this.nodeBoxes[base + MIN_Y],
+                    this.nodeBoxes[base + MAX_X], this.nodeBoxes[base + MAX_Y]);
+            if (closest != null && enter >= closest.time() || enter == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            if (this.nodeCount[node] > 0) {
+                final int end = this.nodeFirst[node] + this.nodeCount[node];
+                for (int i = this.nodeFirst[node]; i < end; i++) {
+                    final int item = i * CORNERS;
+                    final Optional<RayHit> hit = segment.cast(this.items[i], this.itemBoxes[item + MIN_X],
+                            this.itemBoxes[item + MIN_Y], this.itemBoxes[item + MAX_X], this.itemBoxes[item + MAX_Y]);
+                    if (hit.isPresent() && (closest == null || hit.get().time() < closest.time())
+                            && filter.test(this.items[i])) {
+                        closest = hit.get();
+                    }
+                }
+            } else {
+                stack[top++] = this.nodeFirst[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return Optional.ofNullable(closest);
+    }
+
+    /**
+     * Finds the indexed collider accepted by the given filter whose box is the
+     * closest to a point, within the given distance. Nodes farther than the
+     * closest collider so far are skipped.
+     *
+     * @param point       the point to look around
+     * @param maxDistance how far to look
+     * @param filter      which of the colliders may be found
+     * @return the closest collider, if any is close enough
+     */
+    public Optional<CollidableGameObject> nearest(final Coord2D point, final double maxDistance,
+            final Predicate<? super CollidableGameObject> filter) {
+        CollidableGameObject closest = null;
+        double best = maxDistance * maxDistance;
+        final int[] stack = new int[this.depth + 1];
+        int top = 0;
+        if (this.items.length > 0) {
+            stack[top++] = 0;
+        }
+        while (top > 0) {
+            final int node = stack[--top];
+            if (squaredDistance(this.nodeBoxes, node, point) > best) {
+                continue;
+            }
+            if (this.nodeCount[node] > 0) {
+                final int end = this.nodeFirst[node] + this.nodeCount[node];
+                for (int i = this.nodeFirst[node]; i < end; i++) {
+                    final double distance = squaredDistance(this.itemBoxes, i, point);
+                    if ((distance < best || closest == null && distance == best) && filter.test(this.items[i])) {
+                        closest = this.items[i];
+                        best = distance;
+                    }
+                }
+            } else {
+                stack[top++] = this.nodeFirst[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return Optional.ofNullable(closest);
+    }
+
+    /**
+     * Tells whether a collider is in this index, either itself or as a part of
+     * a {@link CompoundCollidable}.
+     *
+     * @param collider the collider to look for
+     * @return true if the collider was indexed
+     */
+    public boolean contains(final CollidableGameObject collider) {
+        return this.members.contains(collider);
+    }
+
+    /**
+     * Returns the number of indexed colliders.
+     *
+     * @return the number of indexed colliders
+     */
+    public int size() {
+        return this.items.length;
+    }
+
+    private static void write(final double[] boxes, final int index, final BoundingBox box) {
+        final int base = index * CORNERS;
+        boxes[base + MIN_X] = box.minX();
+        boxes[base + MIN_Y] = box.minY();
+        boxes[base + MAX_X] = box.maxX();
+        boxes[base + MAX_Y] = box.maxY();
+    }
+
+    private static boolean overlaps(final double[] boxes, final int index, final BoundingBox box) {
+        final int base = index * CORNERS;
+        return boxes[base + MIN_X] <= box.maxX() && box.minX() <= boxes[base + MAX_X]
+                && boxes[base + MIN_Y] <= box.maxY() && box.minY() <= boxes[base + MAX_Y];
+    }
+
+    private static double squaredDistance(final double[] boxes, final int index, final Coord2D point) {
+        final int base = index * CORNERS;
+        final double dx = Math.max(0, Math.max(boxes[base + MIN_X] - point.x(), point.x() - boxes[base + MAX_X]));
+        final double dy = Math.max(0, Math.max(boxes[base + MIN_Y] - point.y(), point.y() - boxes[base + MAX_Y]));
+        return dx * dx + dy * dy;
+    }
+
+    private record Entry(CollidableGameObject collider, BoundingBox box) {
+        double center(final boolean alongX) {
+            return alongX ? this.box.minX() + this.box.maxX() : this.box.minY() + this.box.maxY();
+        }
+    }
+
+    /**
+     * Lays out the nodes by splitting the entries at the median of their
+     * centers, along the axis the centers spread the most.
+     */
+    private final class Builder {
+        private final Entry[] entries;
+        private int nodes;
+
+        Builder(final Entry[] entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * @return the depth of the built subtree, counting from the root
+         */
+        int build(final int from, final int to, final int level) {
+            final int node = this.nodes++;
+            BoundingBox bounds = this.entries[from].box();
+            double minCenterX = Double.POSITIVE_INFINITY;
+            double maxCenterX = Double.NEGATIVE_INFINITY;
+            double minCenterY = Double.POSITIVE_INFINITY;
+            double maxCenterY = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                bounds = bounds.union(this.entries[i].box());
+                minCenterX = Math.min(minCenterX, this.entries[i].center(true));
+                maxCenterX = Math.max(maxCenterX, this.entries[i].center(true));
+                minCenterY = Math.min(minCenterY, this.entries[i].center(false));
+                maxCenterY = Math.max(maxCenterY, this.entries[i].center(false));
+            }
+            write(nodeBoxes, node, bounds);
+
+            if (to - from <= LEAF_SIZE) {
+                nodeFirst[node] = from;
+                nodeCount[node] = to - from;
+                return level;
+            }
+            final boolean alongX = maxCenterX - minCenterX >= maxCenterY - minCenterY;
+            Arrays.sort(this.entries, from, to, Comparator.comparingDouble(e -> e.center(alongX)));
+            final int middle = (from + to) >>> 1;
+            final int leftDepth = this.build(from, middle, level + 1);
+            nodeFirst[node] = this.nodes;
+            nodeCount[node] = 0;
+            return Math.max(leftDepth, this.build(middle, to, level + 1));
+        }
+    }
+}
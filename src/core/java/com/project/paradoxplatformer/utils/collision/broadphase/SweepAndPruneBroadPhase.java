@@ -0,0 +1,209 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * A {@link BroadPhase} keeping the bounds of the objects sorted along the x
+ * axis, together with the pairs of objects overlapping on that axis.
+ * <p>
+ * Between two ticks objects barely move, so the sorted order is almost
+ * unchanged: it is restored by insertion sort, which is linear on nearly
+ * sorted input, and every swap of two bounds tells that a pair started or
+ * stopped overlapping. The cost of an update therefore depends on how much
+ * objects moved, and querying an indexed object only costs the pairs it is
+ * part of, which are then checked on the y axis.
+ * </p>
+ */
+public final class SweepAndPruneBroadPhase implements BroadPhase {
+
+    private final List<Endpoint> endpoints;
+    private final Map<CollidableGameObject, Entry> entries;
+    private long generation;
+
+    /**
+     * Constructs an empty sweep and prune.
+     */
+    public SweepAndPruneBroadPhase() {
+        this.endpoints = new ArrayList<>();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Collection<? extends CollidableGameObject> objects) {
+        this.generation++;
+        int seen = 0;
+        for (final CollidableGameObject object : objects) {
+            final BoundingBox box = BoundingBox.of(object);
+            Entry entry = this.entries.get(object);
+            if (entry == null) {
+                // new objects come from the far right, overlapping nothing yet
+                entry = new Entry(object, box);
+                this.entries.put(object, entry);
+                this.endpoints.add(entry.min);
+                this.endpoints.add(entry.max);
+            } else if (entry.generation == this.generation) {
+                continue;
+            } else {
+                entry.move(box);
+            }
+            entry.generation = this.generation;
+            seen++;
+        }
+        if (seen != this.entries.size()) {
+            this.removeStale();
+        }
+        this.sort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<CollidableGameObject> query(final BoundingBox box) {
+        final Set<CollidableGameObject> found = new HashSet<>();
+        for (final Endpoint endpoint : this.endpoints) {
+            if (endpoint.value > box.maxX()) {
+                break;
+            }
+            if (endpoint.isMin && endpoint.owner.box.overlaps(box)) {
+                found.add(endpoint.owner.object);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BoundingBox> bounds() {
+        return this.entries.values().stream()
+                .map(entry -> entry.box)
+                .reduce(BoundingBox::union);
+    }
+
+    /**
+     * Returns the objects overlapping the given one, read from the pairs kept
+     * between updates when the object is indexed.
+     *
+     * @param object the object to query
+     * @return the candidates, in a new set owned by the caller
+     */
+    @Override
+    public Set<CollidableGameObject> query(final CollidableGameObject object) {
+        final Entry entry = this.entries.get(object);
+        if (entry == null) {
+            return BroadPhase.super.query(object);
+        }
+        final Set<CollidableGameObject> found = new HashSet<>();
+        for (final Entry other : entry.overlaps) {
+            if (other.box.minY() <= entry.box.maxY() && entry.box.minY() <= other.box.maxY()) {
+                found.add(other.object);
+            }
+        }
+        return found;
+    }
+
+    private void removeStale() {
+        this.entries.values().removeIf(e -> {
+            final boolean stale = e.generation != this.generation;
+            if (stale) {
+                e.overlaps.forEach(o -> o.overlaps.remove(e));
+            }
+            return stale;
+        });
+        this.endpoints.removeIf(p -> p.owner.generation != this.generation);
+    }
+
+    private void sort() {
+        for (int i = 1; i < this.endpoints.size(); i++) {
+            final Endpoint moving = this.endpoints.get(i);
+            int j = i - 1;
+            while (j >= 0 && moving.precedes(this.endpoints.get(j))) {
+                final Endpoint passed = this.endpoints.get(j);
+                if (moving.isMin && !passed.isMin) {
+                    moving.owner.overlap(passed.owner);
+                } else if (!moving.isMin && passed.isMin) {
+                    moving.owner.separate(passed.owner);
+                }
+                this.endpoints.set(j + 1, passed);
+                j--;
+            }
+            this.endpoints.set(j + 1, moving);
+        }
+    }
+
+    /**
+     * One of the two bounds of an object along the x axis.
+     */
+    private static final class Endpoint {
+        private final Entry owner;
+        private final boolean isMin;
+        private double value;
+
+        Endpoint(final Entry owner, final boolean isMin, final double value) {
+            this.owner = owner;
+            this.isMin = isMin;
+            this.value = value;
+        }
+
+        /**
+         * Tells whether this endpoint must come before the other one. On ties
+         * minimums come first, so that touching objects overlap.
+         */
+        boolean precedes(final Endpoint other) {
+            return this.value < other.value || this.value == other.value && this.isMin && !other.isMin;
+        }
+    }
+
+    /**
+     * What the index knows of an object.
+     */
+    private static final class Entry {
+        private final CollidableGameObject object;
+        private final Endpoint min;
+        private final Endpoint max;
+        private final Set<Entry> overlaps;
+        private BoundingBox box;
+        private long generation;
+
+        Entry(final CollidableGameObject object, final BoundingBox box) {
+            this.object = object;
+            this.box = box;
+            this.min = new Endpoint(this, true, box.minX());
+            this.max = new Endpoint(this, false, box.maxX());
+            this.overlaps = new HashSet<>();
+        }
+
+        void move(final BoundingBox moved) {
+            this.box = moved;
+            this.min.value = moved.minX();
+            this.max.value = moved.maxX();
+        }
+
+        void overlap(final Entry other) {
+            if (other != this) {
+                this.overlaps.add(other);
+                other.overlaps.add(this);
+            }
+        }
+
+        void separate(final Entry other) {
+            this.overlaps.remove(other);
+            other.overlaps.remove(this);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.paradoxplatformer.utils.collision.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.broadphase.RayHit;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Answers spatial questions about the objects of a level, through the indexes
+ * already kept for collision detection rather than by scanning every object.
+ * <p>
+ * Every query only considers the objects of the given collision types, and
+ * reflects the objects as of the last collision detection.
+ * </p>
+ */
+public interface SpatialQuery {
+
+    /**
+     * Finds the objects overlapping a region, boxes touching it included.
+     *
+     * @param region the region to look into
+     * @param types  the collision types of the objects to find
+     * @return the objects found, sorted by identifier
+     */
+    List<CollidableGameObject> region(BoundingBox region, Set<CollisionType> types);
+
+    /**
+     * Finds the objects containing a point, their sides included.
+     *
+     * @param point the point to look at
+     * @param types the collision types of the objects to find
+     * @return the objects found, sorted by identifier
+     */
+    List<CollidableGameObject> containing(Coord2D point, Set<CollisionType> types);
+
+    /**
+     * Casts a ray from a point to another, finding the first object it runs
+     * into. Objects strictly containing the origin are not hit.
+     *
+     * @param from  the origin of the ray
+     * @param to    the end of the ray
+     * @param types the collision types of the objects that may be hit
+     * @return the first hit, if any
+     */
+    Optional<RayHit> raycast(Coord2D from, Coord2D to, Set<CollisionType> types);
+
+    /**
+     * Finds the object whose box is the closest to a point.
+     *
+     * @param point       the point to look around
+     * @param maxDistance how far to look
+     * @param types       the collision types of the objects to find
+     * @return the closest object, if any is close enough
+     * @throws IllegalArgumentException if the distance is negative or not
+     *                                  finite
+     */
+    Optional<CollidableGameObject> nearest(Coord2D point, double maxDistance, Set<CollisionType> types);
+}
@@ -0,0 +1,156 @@
+package com.project.paradoxplatformer.utils.collision.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.project.paradoxplatformer.utils.collision.PairwiseCollision;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.RayHit;
+import com.project.paradoxplatformer.utils.collision.broadphase.Segment;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A {@link SpatialQuery} over the index of the static colliders and the broad
+ * phase following the moving objects.
+ * <p>
+ * The static index answers every query itself. The broad phase is only asked
+ * for the candidates within a box, which are then tested exactly: along the
+ * bounds of a ray, or within a box growing around the point looked around
+ * until an object is found, never past the bounds of the moving objects. Broad phases are not thread-safe, so queries must
+ * not run while collisions are being detected.
+ * </p>
+ */
+public final class SpatialQueryImpl implements SpatialQuery {
+
+    private static final double INITIAL_RADIUS = 32;
+    private static final Comparator<CollidableGameObject> ORDER = PairwiseCollision.BY_ID;
+
+    private final StaticColliderIndex staticColliders;
+    private final BroadPhase broadPhase;
+    private final Predicate<? super CollidableGameObject> live;
+
+    /**
+     * Constructs a query over the given indexes.
+     *
+     * @param staticColliders the index of the objects that never move
+     * @param broadPhase      the broad phase indexing the objects that may move
+     * @param live            tells which static colliders are still in the game
+     */
+    public SpatialQueryImpl(final StaticColliderIndex staticColliders, final BroadPhase broadPhase,
+            final Predicate<? super CollidableGameObject> live) {
+        this.staticColliders = Objects.requireNonNull(staticColliders);
+        this.broadPhase = Objects.requireNonNull(broadPhase);
+        this.live = Objects.requireNonNull(live);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CollidableGameObject> region(final BoundingBox region, final Set<CollisionType> types) {
+        final List<CollidableGameObject> found = new ArrayList<>();
+        this.staticColliders.query(region, this.filter(types), found::add);
+        this.broadPhase.query(region).stream()
+                .filter(object -> types.contains(object.getCollisionType()))
+                .filter(object -> BoundingBox.of(object).overlaps(region))
+                .forEach(found::add);
+        found.sort(ORDER);
+        return found;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CollidableGameObject> containing(final Coord2D point, final Set<CollisionType> types) {
+        return this.region(new BoundingBox(point.x(), point.y(), point.x(), point.y()), types);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RayHit> raycast(final Coord2D from, final Coord2D to, final Set<CollisionType> types) {
+        final Segment segment = Segment.between(from, to);
+        Optional<RayHit> closest = this.staticColliders.raycast(segment, this.filter(types));
+        for (final CollidableGameObject object : this.broadPhase.query(segment.bounds())) {
+            if (types.contains(object.getCollisionType())) {
+                final Optional<RayHit> hit = segment.cast(object);
+                if (hit.isPresent() && (closest.isEmpty() || hit.get().time() < closest.get().time())) {
+                    closest = hit;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CollidableGameObject> nearest(final Coord2D point, final double maxDistance,
+            final Set<CollisionType> types) {
+        if (!Double.isFinite(maxDistance) || maxDistance < 0) {
+            throw new IllegalArgumentException("Invalid distance: " + maxDistance);
+        }
+        final Optional<CollidableGameObject> closestStatic = this.staticColliders.nearest(point, maxDistance,
+                this.filter(types));
+        final Optional<BoundingBox> extent = this.broadPhase.bounds();
+        if (extent.isEmpty()) {
+            return closestStatic;
+        }
+        final double staticDistance = closestStatic.map(object -> distance(object, point)).orElse(maxDistance);
+        // no moving object lies farther than the corner of their bounds farthest from the point
+        final double bound = Math.min(farthest(extent.get(), point), staticDistance);
+        double radius = Math.min(INITIAL_RADIUS, bound);
+        Optional<CollidableGameObject> closestDynamic = this.nearestDynamic(point, radius, types);
+        while (closestDynamic.isEmpty() && radius < bound) {
+            radius = Math.min(radius * 2, bound);
+            closestDynamic = this.nearestDynamic(point, radius, types);
+        }
+        return closestDynamic.isPresent()
+                && (closestStatic.isEmpty() || distance(closestDynamic.get(), point) < staticDistance)
+                        ? closestDynamic
+                        : closestStatic;
+    }
+
+    /**
+     * Finds the moving object closest to a point within a radius, all of them
+     * lying in the box of that radius.
+     */
+    private Optional<CollidableGameObject> nearestDynamic(final Coord2D point, final double radius,
+            final Set<CollisionType> types) {
+        return this.broadPhase
+                .query(new BoundingBox(point.x() - radius, point.y() - radius, point.x() + radius, point.y() + radius))
+                .stream()
+                .filter(object -> types.contains(object.getCollisionType()))
+                .filter(object -> distance(object, point) <= radius)
+                .min(Comparator.<CollidableGameObject>comparingDouble(object -> distance(object, point))
+                        .thenComparing(ORDER));
+    }
+
+    private Predicate<CollidableGameObject> filter(final Set<CollisionType> types) {
+        return object -> types.contains(object.getCollisionType()) && this.live.test(object);
+    }
+
+    private static double farthest(final BoundingBox box, final Coord2D point) {
+        return Math.hypot(Math.max(point.x() - box.minX(), box.maxX() - point.x()),
+                Math.max(point.y() - box.minY(), box.maxY() - point.y()));
+    }
+
+    private static double distance(final CollidableGameObject object, final Coord2D point) {
+        final BoundingBox box = BoundingBox.of(object);
+        final double dx = Math.max(0, Math.max(box.minX() - point.x(), point.x() - box.maxX()));
+        final double dy = Math.max(0, Math.max(box.minY() - point.y(), point.y() - box.maxY()));
+        return Math.hypot(dx, dy);
+    }
+}
@@ -0,0 +1,192 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The boxes of a set of colliders, laid out as a structure of arrays: one
+ * array per side, the box of the i-th collider being at index i of each.
+ * <p>
+ * Boxes are read from the colliders once, when they are synced, so that
+ * overlap tests afterwards only run over contiguous primitive arrays instead
+ * of calling the colliders back for their position and dimension.
+ * </p>
+ */
+public final class AabbBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CollidableGameObject[] objects;
+    private double[] minX;
+    private double[] minY;
+    private double[] maxX;
+    private double[] maxY;
+    private int[] shapes;
+    private int size;
+    private final Map<CollidableGameObject, Integer> indices;
+
+    /**
+     * Constructs an empty buffer.
+     */
+    public AabbBuffer() {
+        this.objects = new CollidableGameObject[INITIAL_CAPACITY];
+        this.minX = new double[INITIAL_CAPACITY];
+        this.minY = new double[INITIAL_CAPACITY];
+        this.maxX = new double[INITIAL_CAPACITY];
+        this.maxY = new double[INITIAL_CAPACITY];
+        this.shapes = new int[INITIAL_CAPACITY];
+        this.indices = new HashMap<>();
+    }
+
+    /**
+     * Replaces the content of the buffer with the current boxes of the given
+     * colliders, in their iteration order.
+     *
+     * @param colliders the colliders to read
+     */
+    public void sync(final Collection<? extends CollidableGameObject> colliders) {
+        this.clear();
+        this.ensureCapacity(colliders.size());
+        colliders.forEach(this::add);
+    }
+
+    /**
+     * Appends the current box of a collider.
+     *
+     * @param collider the collider to read
+     * @return the index of the collider
+     * @throws IllegalArgumentException if the collider is already in the buffer
+     */
+    public int add(final CollidableGameObject collider) {
+        if (this.indices.putIfAbsent(collider, this.size) != null) {
+            throw new IllegalArgumentException("Collider already in the buffer");
+        }
+        this.ensureCapacity(this.size + 1);
+        final BoundingBox box = BoundingBox.of(collider);
+        this.objects[this.size] = collider;
+        this.minX[this.size] = box.minX();
+        this.minY[this.size] = box.minY();
+        this.maxX[this.size] = box.maxX();
+        this.maxY[this.size] = box.maxY();
+        this.shapes[this.size] = collider.getCollisionShape().ordinal();
+        return this.size++;
+    }
+
+    /**
+     * Empties the buffer, keeping its arrays.
+     */
+    public void clear() {
+        Arrays.fill(this.objects, 0, this.size, null);
+        this.indices.clear();
+        this.size = 0;
+    }
+
+    /**
+     * Returns the index of a collider.
+     *
+     * @param collider the collider to look for
+     * @return the index of the collider, -1 if it is not in the buffer
+     */
+    public int indexOf(final CollidableGameObject collider) {
+        return this.indices.getOrDefault(collider, -1);
+    }
+
+    /**
+     * Returns the collider at the given index.
+     *
+     * @param index the index of the collider
+     * @return the collider
+     * @throws IndexOutOfBoundsException if there is no collider at that index
+     */
+    public CollidableGameObject get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.objects[index];
+    }
+
+    /**
+     * Returns the number of colliders in the buffer.
+     *
+     * @return the number of colliders
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the left sides of the boxes. Only the first {@link #size()}
+     * entries are meaningful.
+     *
+     * @return the backing array, to be read only
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Kernels read the backing arrays directly")
+    public double[] minX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the top sides of the boxes. Only the first {@link #size()}
+     * entries are meaningful.
+     *
+     * @return the backing array, to be read only
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Kernels read the backing arrays directly")
+    public double[] minY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the right sides of the boxes. Only the first {@link #size()}
+     * entries are meaningful.
+     *
+     * @return the backing array, to be read only
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Kernels read the backing arrays directly")
+    public double[] maxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the bottom sides of the boxes. Only the first {@link #size()}
+     * entries are meaningful.
+     *
+     * @return the backing array, to be read only
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Kernels read the backing arrays directly")
+    public double[] maxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the collision shapes of the colliders, as the ordinals of their
+     * {@link CollisionShape}. Only the first {@link #size()} entries are
+     * meaningful.
+     *
+     * @return the backing array, to be read only
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Kernels read the backing arrays directly")
+    public int[] shapes() {
+        return this.shapes;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.objects.length) {
+            final int grown = Math.max(capacity, this.objects.length * 2);
+            this.objects = Arrays.copyOf(this.objects, grown);
+            this.minX = Arrays.copyOf(this.minX, grown);
+            this.minY = Arrays.copyOf(this.minY, grown);
+            this.maxX = Arrays.copyOf(this.maxX, grown);
+            this.maxY = Arrays.copyOf(this.maxY, grown);
+            this.shapes = Arrays.copyOf(this.shapes, grown);
+        }
+    }
+}
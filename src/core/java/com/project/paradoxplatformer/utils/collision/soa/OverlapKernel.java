@@ -0,0 +1,27 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+/**
+ * Tests pairs of boxes for overlap, over {@link AabbBuffer}s.
+ * <p>
+ * Boxes overlap with the rule
+ * {@link com.project.paradoxplatformer.utils.collision.CollisionDetector#isColliding}
+ * uses for two boxes: boxes merely touching do not.
+ * </p>
+ */
+public interface OverlapKernel {
+
+    /**
+     * Tests the pairs of boxes from {@code from} included to {@code to}
+     * excluded, the k-th pair being made of box {@code first[k]} of {@code a}
+     * and box {@code second[k]} of {@code b}.
+     *
+     * @param a         the buffer of the first boxes
+     * @param first     the indices of the first boxes in {@code a}
+     * @param b         the buffer of the second boxes
+     * @param second    the indices of the second boxes in {@code b}
+     * @param from      the first pair to test
+     * @param to        the pair after the last one to test
+     * @param colliding set, for each pair tested, to whether its boxes overlap
+     */
+    void overlap(AabbBuffer a, int[] first, AabbBuffer b, int[] second, int from, int to, boolean[] colliding);
+}
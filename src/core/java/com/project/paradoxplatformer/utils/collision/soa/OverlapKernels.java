@@ -0,0 +1,61 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import java.util.Optional;
+
+import com.project.paradoxplatformer.utils.logging.GlobalLogger;
+
+/**
+ * Picks the fastest {@link OverlapKernel} the runtime supports.
+ * <p>
+ * The kernel using the Vector API is compiled apart, as the API is still
+ * incubating: it is only loaded when the {@code jdk.incubator.vector} module
+ * has been added to the runtime, e.g. with
+ * {@code --add-modules jdk.incubator.vector}, and the scalar kernel is used
+ * otherwise.
+ * </p>
+ */
+public final class OverlapKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = OverlapKernels.class.getPackageName() + ".VectorOverlapKernel";
+
+    private OverlapKernels() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the fastest kernel available, loaded once.
+     *
+     * @return the kernel to use
+     */
+    public static OverlapKernel best() {
+        return Holder.BEST;
+    }
+
+    /**
+     * Returns the kernel using the Vector API, if the runtime supports it.
+     *
+     * @return the vector kernel, if available
+     */
+    public static Optional<OverlapKernel> vector() {
+        return Holder.VECTOR;
+    }
+
+    private static Optional<OverlapKernel> loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((OverlapKernel) Class.forName(VECTOR_KERNEL).getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            GlobalLogger.getLogger(OverlapKernels.class).warn("Vector overlap kernel unavailable", e);
+            return Optional.empty();
+        }
+    }
+
+    // Loads the kernels lazily, the first time they are needed
+    private static final class Holder {
+        private static final Optional<OverlapKernel> VECTOR = loadVector();
+        private static final OverlapKernel BEST = VECTOR.orElseGet(ScalarOverlapKernel::new);
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+/**
+ * An {@link OverlapKernel} testing one pair at a time, available on every
+ * runtime.
+ */
+public final class ScalarOverlapKernel implements OverlapKernel {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void overlap(final AabbBuffer a, final int[] first, final AabbBuffer b, final int[] second,
+            final int from, final int to, final boolean[] colliding) {
+        final double[] aMinX = a.minX();
+        final double[] aMinY = a.minY();
+        final double[] aMaxX = a.maxX();
+        final double[] aMaxY = a.maxY();
+        final double[] bMinX = b.minX();
+        final double[] bMinY = b.minY();
+        final double[] bMaxX = b.maxX();
+        final double[] bMaxY = b.maxY();
+        for (int k = from; k < to; k++) {
+            final int i = first[k];
+            final int j = second[k];
+            colliding[k] = aMinX[i] < bMaxX[j] && bMinX[j] < aMaxX[i]
+                    && aMinY[i] < bMaxY[j] && bMinY[j] < aMaxY[i];
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+
+/**
+ * An {@link OverlapKernel} testing the collision shapes inscribed in the
+ * boxes rather than the boxes themselves.
+ * <p>
+ * Every shape is handled as a rounded box, as in
+ * {@link CollisionShape#inscribe}: a core box, possibly flat or a point,
+ * grown by a radius. The kind of shape only selects two coefficients from
+ * tables, so that the same arithmetic runs for any pair, with no branch but
+ * the loop. Since a shape always lies inside its box, this kernel only needs
+ * to run on the pairs whose boxes overlap and at least one of which is not a
+ * plain box.
+ * </p>
+ */
+public final class ShapeOverlapKernel implements OverlapKernel {
+
+    // 1 if the shape has rounded ends, the radius being half its shorter side
+    private static final double[] ROUNDED = table(CollisionShape.CIRCLE, CollisionShape.CAPSULE);
+    // 1 if the core of the shape spans its longer side, 0 if it is a point
+    private static final double[] ELONGATED = table(CollisionShape.AABB, CollisionShape.CAPSULE);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void overlap(final AabbBuffer a, final int[] first, final AabbBuffer b, final int[] second,
+            final int from, final int to, final boolean[] colliding) {
+        final double[] aMinX = a.minX();
+        final double[] aMinY = a.minY();
+        final double[] aMaxX = a.maxX();
+        final double[] aMaxY = a.maxY();
+        final int[] aShapes = a.shapes();
+        final double[] bMinX = b.minX();
+        final double[] bMinY = b.minY();
+        final double[] bMaxX = b.maxX();
+        final double[] bMaxY = b.maxY();
+        final int[] bShapes = b.shapes();
+        for (int k = from; k < to; k++) {
+            final int i = first[k];
+            final int j = second[k];
+            final double aWidth = aMaxX[i] - aMinX[i];
+            final double aHeight = aMaxY[i] - aMinY[i];
+            final double bWidth = bMaxX[j] - bMinX[j];
+            final double bHeight = bMaxY[j] - bMinY[j];
+            final double aRadius = ROUNDED[aShapes[i]] * Math.min(aWidth, aHeight) / 2;
+            final double bRadius = ROUNDED[bShapes[j]] * Math.min(bWidth, bHeight) / 2;
+            // half sides of the cores, around the centers of the boxes
+            final double aHalfX = ELONGATED[aShapes[i]] * Math.max(0, aWidth / 2 - aRadius);
+            final double aHalfY = ELONGATED[aShapes[i]] * Math.max(0, aHeight / 2 - aRadius);
+            final double bHalfX = ELONGATED[bShapes[j]] * Math.max(0, bWidth / 2 - bRadius);
+            final double bHalfY = ELONGATED[bShapes[j]] * Math.max(0, bHeight / 2 - bRadius);
+            // how far apart the cores are along each axis, negative if they overlap
+            final double gapX = Math.abs(aMinX[i] + aMaxX[i] - bMinX[j] - bMaxX[j]) / 2 - aHalfX - bHalfX;
+            final double gapY = Math.abs(aMinY[i] + aMaxY[i] - bMinY[j] - bMaxY[j]) / 2 - aHalfY - bHalfY;
+            final double dx = Math.max(gapX, 0);
+            final double dy = Math.max(gapY, 0);
+            final double reach = aRadius + bRadius;
+            colliding[k] = Math.max(gapX, gapY) < 0 | dx * dx + dy * dy < reach * reach;
+        }
+    }
+
+    private static double[] table(final CollisionShape... set) {
+        final double[] table = new double[CollisionShape.values().length];
+        for (final CollisionShape shape : set) {
+            table[shape.ordinal()] = 1;
+        }
+        return table;
+    }
+}
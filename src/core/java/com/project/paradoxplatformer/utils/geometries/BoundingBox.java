@@ -0,0 +1,128 @@
+package com.project.paradoxplatformer.utils.geometries;
+
+import com.project.paradoxplatformer.model.entity.GameObject;
+
+/**
+ * An axis aligned rectangle, given by its lowest and highest corners.
+ * <p>
+ * Boxes are closed: two boxes sharing an edge overlap, which makes them a
+ * conservative test for structures that must never miss a collision.
+ * </p>
+ *
+ * @param minX the lowest x coordinate
+ * @param minY the lowest y coordinate
+ * @param maxX the highest x coordinate
+ * @param maxY the highest y coordinate
+ */
+public record BoundingBox(double minX, double minY, double maxX, double maxY) {
+
+    /**
+     * Constructs a box, checking that its corners are ordered.
+     *
+     * @param minX the lowest x coordinate
+     * @param minY the lowest y coordinate
+     * @param maxX the highest x coordinate
+     * @param maxY the highest y coordinate
+     * @throws IllegalArgumentException if a maximum is below its minimum
+     */
+    public BoundingBox {
+        if (maxX < minX || maxY < minY) {
+            throw new IllegalArgumentException("Invalid box, max corner below min corner");
+        }
+    }
+
+    /**
+     * Returns the box covering the given object.
+     *
+     * @param object the object to bound
+     * @return the {@link BoundingBox} of the object
+     */
+    public static BoundingBox of(final GameObject object) {
+        final double x = object.getPosition().x();
+        final double y = object.getPosition().y();
+        final Dimension dimension = object.getDimension();
+        return new BoundingBox(x, y, x + dimension.width(), y + dimension.height());
+    }
+
+    /**
+     * Returns the width of the box.
+     *
+     * @return the width
+     */
+    public double width() {
+        return this.maxX - this.minX;
+    }
+
+    /**
+     * Returns the height of the box.
+     *
+     * @return the height
+     */
+    public double height() {
+        return this.maxY - this.minY;
+    }
+
+    /**
+     * Tells whether this box and the given one overlap, touching included.
+     *
+     * @param other the other box
+     * @return true if the boxes share at least a point
+     */
+    public boolean overlaps(final BoundingBox other) {
+        return this.minX <= other.maxX && other.minX <= this.maxX
+                && this.minY <= other.maxY && other.minY <= this.maxY;
+    }
+
+    /**
+     * Tells whether this box contains the given one.
+     *
+     * @param other the other box
+     * @return true if every point of the other box is in this box
+     */
+    public boolean contains(final BoundingBox other) {
+        return this.minX <= other.minX && other.maxX <= this.maxX
+                && this.minY <= other.minY && other.maxY <= this.maxY;
+    }
+
+    /**
+     * Returns the smallest box containing both this box and the given one.
+     *
+     * @param other the other box
+     * @return the union of the two boxes
+     */
+    public BoundingBox union(final BoundingBox other) {
+        return new BoundingBox(
+                Math.min(this.minX, other.minX), Math.min(this.minY, other.minY),
+                Math.max(this.maxX, other.maxX), Math.max(this.maxY, other.maxY));
+    }
+
+    /**
+     * Returns this box grown by the given margin on every side.
+     *
+     * @param margin how much to grow each side
+     * @return the grown box
+     */
+    public BoundingBox fatten(final double margin) {
+        return new BoundingBox(this.minX - margin, this.minY - margin, this.maxX + margin, this.maxY + margin);
+    }
+
+    /**
+     * Returns this box moved by the given offsets.
+     *
+     * @param dx the horizontal offset
+     * @param dy the vertical offset
+     * @return the moved box
+     */
+    public BoundingBox translate(final double dx, final double dy) {
+        return new BoundingBox(this.minX + dx, this.minY + dy, this.maxX + dx, this.maxY + dy);
+    }
+
+    /**
+     * Returns the perimeter of the box, a cheap measure of its size.
+     *
+     * @return the perimeter
+     */
+    public double perimeter() {
+        return 2 * (this.width() + this.height());
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.paradoxplatformer.utils.geometries;
+
+/**
+ * The points within a given radius of an axis aligned core box, which may be
+ * flat or reduced to a single point.
+ * <p>
+ * A box is a rounded box of radius 0, a circle one whose core is its center
+ * and a capsule one whose core is the segment between the centers of its
+ * half circles, which makes the overlap test the same for any of them.
+ * </p>
+ *
+ * @param core   the box every point is within the radius of
+ * @param radius how far from the core the shape goes
+ */
+public record RoundedBox(BoundingBox core, double radius) {
+
+    /**
+     * Constructs a rounded box, checking its radius.
+     *
+     * @param core   the box every point is within the radius of
+     * @param radius how far from the core the shape goes
+     * @throws IllegalArgumentException if the radius is negative
+     */
+    public RoundedBox {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Invalid rounded box, negative radius");
+        }
+    }
+
+    /**
+     * Tells whether this shape and the given one overlap, touching excluded
+     * as for two boxes.
+     *
+     * @param other the other shape
+     * @return true if the shapes share an inner point
+     */
+    public boolean overlaps(final RoundedBox other) {
+        // how far apart the cores are along each axis, negative if they overlap
+        final double gapX = Math.max(other.core.minX() - this.core.maxX(), this.core.minX() - other.core.maxX());
+        final double gapY = Math.max(other.core.minY() - this.core.maxY(), this.core.minY() - other.core.maxY());
+        final double dx = Math.max(gapX, 0);
+        final double dy = Math.max(gapY, 0);
+        final double reach = this.radius + other.radius;
+        return Math.max(gapX, gapY) < 0 || dx * dx + dy * dy < reach * reach;
+    }
+}
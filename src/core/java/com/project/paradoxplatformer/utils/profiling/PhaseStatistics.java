@@ -0,0 +1,18 @@
+package com.project.paradoxplatformer.utils.profiling;
+
+/**
+ * Duration statistics of a profiled phase over the most recent samples, all
+ * times are in nanoseconds.
+ *
+ * @param samples the number of samples the statistics are computed on
+ * @param p50     the median duration
+ * @param p99     the 99th percentile duration
+ * @param max     the longest duration
+ */
+public record PhaseStatistics(int samples, long p50, long p99, long max) {
+
+    /**
+     * Statistics of a phase that has never been recorded.
+     */
+    public static final PhaseStatistics EMPTY = new PhaseStatistics(0, 0, 0, 0);
+}
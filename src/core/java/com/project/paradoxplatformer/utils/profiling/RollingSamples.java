@@ -0,0 +1,63 @@
+package com.project.paradoxplatformer.utils.profiling;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size ring of the most recent duration samples.
+ * <p>
+ * Recording only stores a value, sorting is left to the rare queries, so
+ * that the profiled code pays as little as possible.
+ * </p>
+ */
+final class RollingSamples {
+
+    private static final double MEDIAN = 0.5;
+    private static final double P99 = 0.99;
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    /**
+     * Constructs a ring holding up to the given number of samples.
+     *
+     * @param capacity the number of samples kept
+     */
+    RollingSamples(final int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * Records a sample, replacing the oldest one if the ring is full.
+     *
+     * @param sample the sample to record
+     */
+    synchronized void add(final long sample) {
+        this.samples[this.next] = sample;
+        this.next = (this.next + 1) % this.samples.length;
+        this.size = Math.min(this.size + 1, this.samples.length);
+    }
+
+    /**
+     * Computes the statistics of the samples currently held.
+     *
+     * @return the {@link PhaseStatistics} of the samples
+     */
+    PhaseStatistics statistics() {
+        final long[] sorted;
+        synchronized (this) {
+            if (this.size == 0) {
+                return PhaseStatistics.EMPTY;
+            }
+            sorted = Arrays.copyOf(this.samples, this.size);
+        }
+        Arrays.sort(sorted);
+        return new PhaseStatistics(sorted.length, rank(sorted, MEDIAN), rank(sorted, P99), sorted[sorted.length - 1]);
+    }
+
+    private static long rank(final long[] sorted, final double percentile) {
+        // nearest rank method
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
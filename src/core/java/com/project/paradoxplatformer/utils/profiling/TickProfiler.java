@@ -0,0 +1,68 @@
+package com.project.paradoxplatformer.utils.profiling;
+
+import java.util.Map;
+
+/**
+ * Times the phases a tick is made of.
+ * <p>
+ * A tick is opened with {@link #begin()}, then {@link #mark(Enum)} is called
+ * at the end of every phase, charging it the time elapsed since the previous
+ * mark, and finally {@link #end()} closes the tick. Phases running
+ * concurrently cannot be marked, they are timed on their own and reported with
+ * {@link #record(Enum, long)}. Statistics are rolling, they only account for
+ * the most recent ticks.
+ * </p>
+ *
+ * @param <P> the enumeration of the phases
+ */
+public interface TickProfiler<P extends Enum<P>> {
+
+    /**
+     * Starts timing a new tick.
+     */
+    void begin();
+
+    /**
+     * Ends the given phase, charging it the time since the last mark or the
+     * beginning of the tick.
+     *
+     * @param phase the phase just completed
+     */
+    void mark(P phase);
+
+    /**
+     * Charges a phase with a duration measured by the caller. Unlike
+     * {@link #mark(Enum)}, this may be called by any thread.
+     *
+     * @param phase the phase just completed
+     * @param nanos how long the phase took, in nanoseconds
+     */
+    void record(P phase, long nanos);
+
+    /**
+     * Ends the current tick.
+     */
+    void end();
+
+    /**
+     * Returns the statistics of the given phase.
+     *
+     * @param phase the phase to query
+     * @return the {@link PhaseStatistics} of the phase
+     */
+    PhaseStatistics phase(P phase);
+
+    /**
+     * Returns the statistics of every phase.
+     *
+     * @return an unmodifiable map from each phase to its statistics
+     */
+    Map<P, PhaseStatistics> phases();
+
+    /**
+     * Returns the statistics of whole ticks.
+     *
+     * @return the {@link PhaseStatistics} of the ticks
+     */
+    PhaseStatistics tick();
+}
@@ -0,0 +1,121 @@
+package com.project.paradoxplatformer.utils.profiling;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of {@link TickProfiler} keeping a window of the most recent
+ * samples for every phase.
+ * <p>
+ * Probes only read the clock and store a value, so the profiler can stay on in
+ * production builds. Ticks are meant to be driven by a single thread, while
+ * phases can be recorded and statistics queried from any thread.
+ * </p>
+ *
+ * @param <P> the enumeration of the phases
+ */
+public final class TickProfilerImpl<P extends Enum<P>> implements TickProfiler<P> {
+
+    private static final int DEFAULT_WINDOW = 1024;
+
+    private final Class<P> phaseType;
+    private final LongSupplier clock;
+    private final Map<P, RollingSamples> phases;
+    private final RollingSamples ticks;
+    private long tickStart;
+    private long lastMark;
+
+    /**
+     * Constructs a profiler over the given phases, keeping the last 1024
+     * samples and reading {@link System#nanoTime()}.
+     *
+     * @param phaseType the class of the phases enumeration
+     */
+    public TickProfilerImpl(final Class<P> phaseType) {
+        this(phaseType, DEFAULT_WINDOW, System::nanoTime);
+    }
+
+    /**
+     * Constructs a profiler over the given phases.
+     *
+     * @param phaseType the class of the phases enumeration
+     * @param window    how many recent samples the statistics account for
+     * @param clock     the clock to read, in nanoseconds
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public TickProfilerImpl(final Class<P> phaseType, final int window, final LongSupplier clock) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive, was " + window);
+        }
+        this.phaseType = phaseType;
+        this.clock = clock;
+        this.phases = new EnumMap<>(phaseType);
+        for (final P phase : phaseType.getEnumConstants()) {
+            this.phases.put(phase, new RollingSamples(window));
+        }
+        this.ticks = new RollingSamples(window);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void begin() {
+        this.tickStart = this.clock.getAsLong();
+        this.lastMark = this.tickStart;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mark(final P phase) {
+        final long now = this.clock.getAsLong();
+        this.phases.get(phase).add(now - this.lastMark);
+        this.lastMark = now;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(final P phase, final long nanos) {
+        this.phases.get(phase).add(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void end() {
+        this.ticks.add(this.clock.getAsLong() - this.tickStart);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PhaseStatistics phase(final P phase) {
+        return this.phases.get(phase).statistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<P, PhaseStatistics> phases() {
+        final Map<P, PhaseStatistics> statistics = new EnumMap<>(this.phaseType);
+        this.phases.forEach((p, s) -> statistics.put(p, s.statistics()));
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PhaseStatistics tick() {
+        return this.ticks.statistics();
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.paradoxplatformer.utils.scheduling;
+
+import java.util.List;
+
+/**
+ * Runs the stages a tick is made of, in parallel whenever their declared
+ * resources allow it.
+ * <p>
+ * Stages keep the order they are declared in: a stage always runs after
+ * every previously declared stage it {@link TickStage#conflicts conflicts}
+ * with, hence a tick has the same outcome it would have running the stages
+ * sequentially. Stages that do not conflict are run concurrently.
+ * </p>
+ *
+ * @param <P> the enumeration identifying the stages
+ * @param <R> the enumeration of the resources shared by the stages
+ */
+public interface TickScheduler<P extends Enum<P>, R extends Enum<R>> {
+
+    /**
+     * Declares a stage after all the existing ones.
+     *
+     * @param stage the stage to add
+     * @throws IllegalArgumentException if a stage with the same phase exists
+     */
+    void add(TickStage<P, R> stage);
+
+    /**
+     * Declares a stage right before an existing one.
+     *
+     * @param next  the phase of the stage that must follow the new one
+     * @param stage the stage to add
+     * @throws IllegalArgumentException if a stage with the same phase exists,
+     *                                  or if there is no stage for
+     *                                  {@code next}
+     */
+    void addBefore(P next, TickStage<P, R> stage);
+
+    /**
+     * Returns how the stages are currently scheduled.
+     *
+     * @return the phases grouped in the batches they run in, batches run one
+     *         after the other while the stages of a batch run in parallel
+     */
+    List<List<P>> plan();
+
+    /**
+     * Runs a tick, returning once every stage has completed.
+     * <p>
+     * If a stage fails, the stages of its batch are still waited for, then
+     * the exception is propagated and the following batches are skipped.
+     * </p>
+     */
+    void run();
+}
@@ -0,0 +1,148 @@
+package com.project.paradoxplatformer.utils.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.project.paradoxplatformer.utils.profiling.TickProfiler;
+
+/**
+ * Implementation of {@link TickScheduler} running parallel stages on a
+ * {@link ForkJoinPool}.
+ * <p>
+ * The batches are computed when stages are declared, not at every tick: each
+ * stage is placed in the batch following the last one holding a stage it
+ * conflicts with. While a batch runs, its first stage is executed by the
+ * calling thread and the others by the pool. Every stage is timed by the
+ * given {@link TickProfiler}, which also times the whole tick.
+ * </p>
+ *
+ * @param <P> the enumeration identifying the stages
+ * @param <R> the enumeration of the resources shared by the stages
+ */
+public final class TickSchedulerImpl<P extends Enum<P>, R extends Enum<R>> implements TickScheduler<P, R> {
+
+    private final TickProfiler<P> profiler;
+    private final Consumer<Runnable> context;
+    private final ForkJoinPool pool;
+    private final List<TickStage<P, R>> stages;
+    private volatile List<List<TickStage<P, R>>> batches;
+
+    /**
+     * Constructs a scheduler running parallel stages on the common pool.
+     *
+     * @param profiler the profiler timing the stages
+     * @param context  runs a stage in the context it needs, e.g. binding the
+     *                 state of the game to the executing thread, since stages
+     *                 may run on any thread of the pool
+     */
+    public TickSchedulerImpl(final TickProfiler<P> profiler, final Consumer<Runnable> context) {
+        this(profiler, context, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a scheduler running parallel stages on the given pool.
+     *
+     * @param profiler the profiler timing the stages
+     * @param context  runs a stage in the context it needs, e.g. binding the
+     *                 state of the game to the executing thread, since stages
+     *                 may run on any thread of the pool
+     * @param pool     the pool running parallel stages
+     */
+    public TickSchedulerImpl(
+            final TickProfiler<P> profiler,
+            final Consumer<Runnable> context,
+            final ForkJoinPool pool) {
+        this.profiler = Objects.requireNonNull(profiler);
+        this.context = Objects.requireNonNull(context);
+        this.pool = Objects.requireNonNull(pool);
+        this.stages = new ArrayList<>();
+        this.batches = List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void add(final TickStage<P, R> stage) {
+        this.insert(this.stages.size(), stage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addBefore(final P next, final TickStage<P, R> stage) {
+        this.insert(IntStream.range(0, this.stages.size())
+                .filter(i -> this.stages.get(i).phase() == next)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No stage for phase " + next)), stage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<P>> plan() {
+        return this.batches.stream()
+                .map(b -> b.stream().map(TickStage::phase).toList())
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        this.profiler.begin();
+        this.batches.forEach(this::runBatch);
+        this.profiler.end();
+    }
+
+    private void insert(final int index, final TickStage<P, R> stage) {
+        if (this.stages.stream().anyMatch(s -> s.phase() == stage.phase())) {
+            throw new IllegalArgumentException("A stage for phase " + stage.phase() + " already exists");
+        }
+        this.stages.add(index, stage);
+        this.batches = this.schedule();
+    }
+
+    private List<List<TickStage<P, R>>> schedule() {
+        final List<List<TickStage<P, R>>> scheduled = new ArrayList<>();
+        final int[] batchOf = new int[this.stages.size()];
+        for (int i = 0; i < batchOf.length; i++) {
+            final TickStage<P, R> stage = this.stages.get(i);
+            batchOf[i] = IntStream.range(0, i)
+                    .filter(j -> this.stages.get(j).conflicts(stage))
+                    .map(j -> batchOf[j] + 1)
+                    .max()
+                    .orElse(0);
+            if (batchOf[i] == scheduled.size()) {
+                scheduled.add(new ArrayList<>());
+            }
+            scheduled.get(batchOf[i]).add(stage);
+        }
+        return scheduled.stream().map(List::copyOf).toList();
+    }
+
+    private void runBatch(final List<TickStage<P, R>> batch) {
+        final List<ForkJoinTask<?>> forked = batch.subList(1, batch.size()).stream()
+                .<ForkJoinTask<?>>map(s -> this.pool.submit(() -> this.runStage(s)))
+                .toList();
+        try {
+            this.runStage(batch.get(0));
+        } finally {
+            forked.forEach(ForkJoinTask::join);
+        }
+    }
+
+    private void runStage(final TickStage<P, R> stage) {
+        final long start = System.nanoTime();
+        this.context.accept(stage.action());
+        this.profiler.record(stage.phase(), System.nanoTime() - start);
+    }
+}
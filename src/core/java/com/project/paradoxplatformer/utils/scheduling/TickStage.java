@@ -0,0 +1,56 @@
+package com.project.paradoxplatformer.utils.scheduling;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A stage of a tick, together with the resources it reads and writes.
+ * <p>
+ * Declared resources are what lets a {@link TickScheduler} order the stages:
+ * two stages conflict if one of them writes a resource the other one reads or
+ * writes, otherwise they may run in parallel. A stage declaring no resource
+ * is considered independent from every other.
+ * </p>
+ *
+ * @param <P>    the enumeration identifying the stages
+ * @param <R>    the enumeration of the resources shared by the stages
+ * @param phase  the identifier of the stage, also used to profile it
+ * @param reads  the resources the stage only reads
+ * @param writes the resources the stage modifies
+ * @param action the work of the stage
+ */
+public record TickStage<P extends Enum<P>, R extends Enum<R>>(
+        P phase,
+        Set<R> reads,
+        Set<R> writes,
+        Runnable action) {
+
+    /**
+     * Constructs a stage, copying the given resources.
+     *
+     * @param phase  the identifier of the stage, also used to profile it
+     * @param reads  the resources the stage only reads
+     * @param writes the resources the stage modifies
+     * @param action the work of the stage
+     */
+    public TickStage {
+        Objects.requireNonNull(phase);
+        Objects.requireNonNull(action);
+        reads = Set.copyOf(reads);
+        writes = Set.copyOf(writes);
+    }
+
+    /**
+     * Tells whether this stage and the given one cannot run at the same time.
+     *
+     * @param other the stage to compare with
+     * @return true if one of the two stages writes a resource the other one
+     *         uses
+     */
+    public boolean conflicts(final TickStage<P, R> other) {
+        return !Collections.disjoint(this.writes, other.reads())
+                || !Collections.disjoint(this.writes, other.writes())
+                || !Collections.disjoint(this.reads, other.writes());
+    }
+}
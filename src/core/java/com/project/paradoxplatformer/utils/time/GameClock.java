@@ -0,0 +1,85 @@
+package com.project.paradoxplatformer.utils.time;
+
+/**
+ * The time of a game, as opposed to wall clock time.
+ * <p>
+ * Game time is monotonic and in nanoseconds. It only moves forward through
+ * {@link #advance(long)}, which the simulation calls once per step with the
+ * step duration, so it is frozen whenever the simulation is not stepping,
+ * e.g. when its loop is stopped, and a simulation stepping as fast as it can
+ * makes it run faster than wall clock time.
+ * </p>
+ * <p>
+ * Loops pacing the simulation on wall clock time convert elapsed wall time
+ * with {@link #scale(long)}, which takes pause and rate into account, so that
+ * pausing or changing the rate slows, speeds up or halts the game without
+ * changing the duration of its steps.
+ * </p>
+ */
+public interface GameClock {
+
+    /**
+     * Returns the current game time.
+     *
+     * @return the game time, in nanoseconds
+     */
+    long now();
+
+    /**
+     * Returns the current game time in milliseconds.
+     *
+     * @return the game time, in milliseconds
+     */
+    default long millis() {
+        return this.now() / 1_000_000L;
+    }
+
+    /**
+     * Advances game time, unless paused.
+     *
+     * @param nanos the time to advance by, in nanoseconds
+     * @throws IllegalArgumentException if nanos is negative
+     */
+    void advance(long nanos);
+
+    /**
+     * Converts elapsed wall clock time into the game time it accounts for.
+     *
+     * @param wallNanos the elapsed wall clock time, in nanoseconds
+     * @return the elapsed game time, 0 if paused
+     */
+    long scale(long wallNanos);
+
+    /**
+     * Pauses game time.
+     */
+    void pause();
+
+    /**
+     * Resumes game time.
+     */
+    void resume();
+
+    /**
+     * Tells whether game time is paused.
+     *
+     * @return true if paused
+     */
+    boolean isPaused();
+
+    /**
+     * Returns how fast game time flows compared to wall clock time.
+     *
+     * @return the rate, 1 for real time
+     */
+    double rate();
+
+    /**
+     * Sets how fast game time flows compared to wall clock time, e.g. 0.5 for
+     * slow motion or 2 for fast forward.
+     *
+     * @param rate the new rate
+     * @throws IllegalArgumentException if the rate is negative or not finite
+     */
+    void setRate(double rate);
+}
@@ -0,0 +1,94 @@
+package com.project.paradoxplatformer.utils.time;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe implementation of {@link GameClock}, starting at 0 at real
+ * time rate.
+ */
+public final class GameClockImpl implements GameClock {
+
+    private final AtomicLong now;
+    private volatile double rate;
+    private volatile boolean paused;
+
+    /**
+     * Constructs a clock starting at 0, running at real time rate.
+     */
+    public GameClockImpl() {
+        this.now = new AtomicLong();
+        this.rate = 1.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long now() {
+        return this.now.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance(final long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Game time cannot go backwards");
+        }
+        if (!this.paused) {
+            this.now.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long scale(final long wallNanos) {
+        return this.paused ? 0 : (long) (wallNanos * this.rate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        this.paused = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        this.paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPaused() {
+        return this.paused;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double rate() {
+        return this.rate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRate(final double rate) {
+        if (!Double.isFinite(rate) || rate < 0) {
+            throw new IllegalArgumentException("Invalid clock rate " + rate);
+        }
+        this.rate = rate;
+    }
+}
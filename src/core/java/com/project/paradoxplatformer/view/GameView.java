@@ -1,5 +1,6 @@
 package com.project.paradoxplatformer.view;
 
+import com.project.paradoxplatformer.controller.gameloop.DegradationLevel;
 import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
@@ -74,4 +75,16 @@ public interface GameView<C> {
      * @param node the {@link ReadOnlyGraphicDecorator} to be removed from the view
      */
     void removeGraphic(ReadOnlyGraphicDecorator<C> node);
+
+    /**
+     * Tells the view how much presentation work it may give up, e.g. updating
+     * sprite animations less often. May be called from any thread.
+     * <p>
+     * By default nothing is given up.
+     * </p>
+     *
+     * @param level the current {@link DegradationLevel} of the game
+     */
+    default void setDegradationLevel(final DegradationLevel level) {
+    }
 }
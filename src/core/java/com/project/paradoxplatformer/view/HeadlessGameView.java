@@ -0,0 +1,101 @@
+package com.project.paradoxplatformer.view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.project.paradoxplatformer.controller.deserialization.dtos.GameDTO;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A {@link GameView} with nothing to display, letting a game run where there
+ * is no screen, e.g. on a server or in tests.
+ * <p>
+ * It provides the same graphics a displayed view would, one for every object
+ * of the level having an image or a color, so that the game simulates the
+ * same objects. Graphics only keep track of the bounds of their objects.
+ * </p>
+ */
+public final class HeadlessGameView implements GameView<Void> {
+
+    private final LevelDTO level;
+    private final Map<Integer, GraphicAdapter<Void>> graphics;
+
+    /**
+     * Constructs a view of the given level.
+     *
+     * @param level the level whose objects the view stands for
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The level data is only read.")
+    public HeadlessGameView(final LevelDTO level) {
+        this.level = level;
+        this.graphics = new LinkedHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void init() {
+        this.graphics.clear();
+        for (final GameDTO g : this.level.getGameDTOs()) {
+            if (Objects.nonNull(g.getImage()) || Objects.nonNull(g.getColor())) {
+                this.graphics.put(g.getID(), new HeadlessGraphic(
+                        g.getID(),
+                        new Dimension(g.getWidth(), g.getHeight()),
+                        new Coord2D(g.getX(), g.getY())));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GraphicAdapter<Void>> getUnmodifiableControls() {
+        return Collections.unmodifiableList(new ArrayList<>(this.graphics.values()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension dimension() {
+        return new Dimension(this.level.getWidth(), this.level.getHeight());
+    }
+
+    /**
+     * Moves the graphic to the bounds of its object.
+     *
+     * @param readOnlyMutable the object the graphic stands for
+     * @param readOnlyGraphic the graphic to update
+     */
+    @Override
+    public void updateControlState(
+            final ReadOnlyMutableObjectWrapper readOnlyMutable,
+            final ReadOnlyGraphicDecorator<Void> readOnlyGraphic) {
+        Optional.ofNullable(this.graphics.get(readOnlyGraphic.getID())).ifPresent(g -> {
+            g.setPosition(readOnlyMutable.getPosition().x(), readOnlyMutable.getPosition().y());
+            g.setDimension(readOnlyMutable.getDimension().width(), readOnlyMutable.getDimension().height());
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeGraphic(final ReadOnlyGraphicDecorator<Void> node) {
+        this.graphics.remove(node.getID());
+    }
+}
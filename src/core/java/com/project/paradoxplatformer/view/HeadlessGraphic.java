@@ -0,0 +1,103 @@
+package com.project.paradoxplatformer.view;
+
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+
+/**
+ * A graphic with no representation, only keeping the bounds of the object it
+ * stands for.
+ */
+final class HeadlessGraphic implements GraphicAdapter<Void> {
+
+    private final int id;
+    private Dimension dimension;
+    private Coord2D position;
+
+    /**
+     * Constructs a graphic with the given bounds.
+     *
+     * @param id        the identifier of the object it stands for
+     * @param dimension the dimension of the graphic
+     * @param position  the position of the graphic
+     */
+    HeadlessGraphic(final int id, final Dimension dimension, final Coord2D position) {
+        this.id = id;
+        this.dimension = dimension;
+        this.position = position;
+    }
+
+    /**
+     * There is no component behind a headless graphic.
+     *
+     * @return always null
+     */
+    @Override
+    public Void unwrap() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension dimension() {
+        return this.dimension;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D absolutePosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord2D relativePosition() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDimension(final double width, final double height) {
+        this.dimension = new Dimension(width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double x, final double y) {
+        this.position = new Coord2D(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void translate(final double x, final double y) {
+        this.position = new Coord2D(this.position.x() + x, this.position.y() + y);
+    }
+
+    /**
+     * Does nothing, a headless graphic has no orientation.
+     */
+    @Override
+    public void flip() {
+        // No-op implementation
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getID() {
+        return this.id;
+    }
+}
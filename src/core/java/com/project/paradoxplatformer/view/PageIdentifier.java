@@ -1,7 +1,7 @@
-package com.project.paradoxplatformer.view.javafx;
+package com.project.paradoxplatformer.view;
 
 /**
- * Enum representing different pages or views in the JavaFX application.
+ * Enum representing different pages or views in the application.
  * Each enum constant corresponds to a specific page or view.
  */
 public enum PageIdentifier {
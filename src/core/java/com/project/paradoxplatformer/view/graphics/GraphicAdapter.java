@@ -4,8 +4,6 @@ import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.view.renders.ViewComponent;
 
-import javafx.beans.value.ObservableDoubleValue;
-
 /**
  * Interface for graphical adapters that manage graphical representations of
  * objects.
@@ -59,15 +57,6 @@ public interface GraphicAdapter<C> extends ViewComponent<C> {
      */
     void translate(double x, double y);
 
-    /**
-     * Binds the width and height properties of the graphical component to the
-     * specified ratios.
-     *
-     * @param wRatio The observable ratio for the width.
-     * @param hRatio The observable ratio for the height.
-     */
-    void bindProperties(ObservableDoubleValue wRatio, ObservableDoubleValue hRatio);
-
     /**
      * Flips the graphical component.
      */
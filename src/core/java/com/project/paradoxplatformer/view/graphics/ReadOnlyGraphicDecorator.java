@@ -6,8 +6,6 @@ import com.google.common.base.Optional;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 
-import javafx.beans.value.ObservableDoubleValue;
-
 /**
  * A read-only decorator for {@link GraphicAdapter}. This class wraps an
  * existing
@@ -143,19 +141,6 @@ public final class ReadOnlyGraphicDecorator<C> implements GraphicAdapter<C> {
         throw new UnsupportedOperationException("Unable to execute 'translate'");
     }
 
-    /**
-     * Throws an {@link UnsupportedOperationException} because binding properties is
-     * not supported.
-     *
-     * @param wRatio The observable ratio for the width.
-     * @param hRatio The observable ratio for the height.
-     * @throws UnsupportedOperationException Always thrown.
-     */
-    @Override
-    public void bindProperties(final ObservableDoubleValue wRatio, final ObservableDoubleValue hRatio) {
-        throw new UnsupportedOperationException("Unable to execute 'bindProperties'");
-    }
-
     /**
      * Throws an {@link UnsupportedOperationException} because flipping the graphic
      * is not supported.
@@ -0,0 +1,41 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.function.Supplier;
+
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.DynamicTreeBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.SpatialHashBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.SweepAndPruneBroadPhase;
+
+/**
+ * The broad phases the benchmarks compare, as a parameter JMH can set.
+ */
+public enum BroadPhases {
+    /**
+     * A {@link SpatialHashBroadPhase}.
+     */
+    SPATIAL_HASH(SpatialHashBroadPhase::new),
+    /**
+     * A {@link SweepAndPruneBroadPhase}.
+     */
+    SWEEP_AND_PRUNE(SweepAndPruneBroadPhase::new),
+    /**
+     * A {@link DynamicTreeBroadPhase}.
+     */
+    DYNAMIC_TREE(DynamicTreeBroadPhase::new);
+
+    private final Supplier<BroadPhase> factory;
+
+    BroadPhases(final Supplier<BroadPhase> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new, empty broad phase of this kind.
+     *
+     * @return the broad phase
+     */
+    public BroadPhase create() {
+        return this.factory.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+
+/**
+ * Measures {@link CollisionDetector#detect} on {@link SyntheticWorld}s, the
+ * broad phase being brought up to date with the moved objects first, as the
+ * collision manager does every tick.
+ * <p>
+ * Throughput and latency are both reported; running with
+ * {@code -prof gc}, as the {@code jmh} task does, adds the allocation rate.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class CollisionDetectorBenchmark {
+
+    /**
+     * The seed of the worlds, fixed so that every run measures the same ones.
+     */
+    public static final long SEED = 42;
+
+    /**
+     * How many objects the world holds, the player aside.
+     */
+    @Param({ "100", "1000", "10000", "100000", "1000000" })
+    public int count;
+
+    /**
+     * The fraction of the objects that never move.
+     */
+    @Param({ "0.5", "0.9" })
+    public double staticRatio;
+
+    /**
+     * The fraction of the world covered by objects.
+     */
+    @Param({ "0.05", "0.2" })
+    public double density;
+
+    /**
+     * The broad phase finding the candidate collisions.
+     */
+    @Param({ "SPATIAL_HASH", "SWEEP_AND_PRUNE", "DYNAMIC_TREE" })
+    public BroadPhases broadPhase;
+
+    private SyntheticWorld world;
+    private BroadPhase phase;
+    private Random random;
+
+    /**
+     * Generates the world and fills the broad phase once, so that the
+     * measurement starts from a warm index.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        this.world = SyntheticWorld.generate(this.count, this.staticRatio, this.density, SEED);
+        this.phase = this.broadPhase.create();
+        this.phase.update(this.world.dynamicObjects());
+        this.random = new Random(SEED);
+    }
+
+    /**
+     * Moves the dynamic objects, outside of the measurement.
+     */
+    @Setup(Level.Invocation)
+    public void step() {
+        this.world.step(this.random);
+    }
+
+    /**
+     * Updates the broad phase and detects the collisions of the player.
+     *
+     * @return the objects colliding with the player
+     */
+    @Benchmark
+    public Set<CollidableGameObject> detect() {
+        this.phase.update(this.world.dynamicObjects());
+        return CollisionDetector.detect(this.world.staticColliders(), object -> true, this.world.player(),
+                this.phase);
+    }
+}
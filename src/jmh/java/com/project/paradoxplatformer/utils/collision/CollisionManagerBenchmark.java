@@ -0,0 +1,104 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.paradoxplatformer.controller.games.Level;
+import com.project.paradoxplatformer.model.effect.impl.EffectHandlerFactoryImpl;
+
+/**
+ * Measures a whole {@link CollisionManager#handleCollisions} tick on
+ * {@link SyntheticWorld}s: broad phase update, continuous detection, narrow
+ * phase, contact resolution and effects, in either collision mode.
+ * <p>
+ * Throughput and latency are both reported; running with
+ * {@code -prof gc}, as the {@code jmh} task does, adds the allocation rate.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class CollisionManagerBenchmark {
+
+    /**
+     * How many objects the world holds, the player aside.
+     */
+    @Param({ "100", "1000", "10000", "100000", "1000000" })
+    public int count;
+
+    /**
+     * The fraction of the objects that never move.
+     */
+    @Param({ "0.5", "0.9" })
+    public double staticRatio;
+
+    /**
+     * The fraction of the world covered by objects.
+     */
+    @Param({ "0.05", "0.2" })
+    public double density;
+
+    /**
+     * The broad phase finding the candidate collisions.
+     */
+    @Param({ "SPATIAL_HASH", "SWEEP_AND_PRUNE", "DYNAMIC_TREE" })
+    public BroadPhases broadPhase;
+
+    /**
+     * Which collisions to look for.
+     */
+    @Param({ "PLAYER", "PAIRWISE" })
+    public CollisionMode mode;
+
+    private SyntheticWorld world;
+    private CollisionManager manager;
+    private Random random;
+
+    /**
+     * Generates the world and runs a first tick, so that the measurement starts
+     * from warm indexes and contacts.
+     */
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void generate() {
+        this.world = SyntheticWorld.generate(this.count, this.staticRatio, this.density,
+                CollisionDetectorBenchmark.SEED);
+        this.manager = new CollisionManager(
+                new EffectHandlerFactoryImpl().getEffectHandlerForLevel(Level.EMPTY_LEVEL),
+                this.broadPhase.create(), new SweptCollision(), this.mode);
+        this.manager.setCollisionFilter(CollisionFilter.all());
+        this.random = new Random(CollisionDetectorBenchmark.SEED);
+        this.tick();
+    }
+
+    /**
+     * Moves the dynamic objects, outside of the measurement.
+     */
+    @Setup(org.openjdk.jmh.annotations.Level.Invocation)
+    public void step() {
+        this.world.step(this.random);
+    }
+
+    /**
+     * Handles the collisions of one tick.
+     */
+    @Benchmark
+    public void tick() {
+        this.manager.handleCollisions(this.world.dynamicObjects(), this.world.staticColliders(), object -> true,
+                this.world.player());
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * A randomly generated world of collidable game objects, the same for the same
+ * seed, used to measure how collision handling scales.
+ * <p>
+ * Objects are squares-ish boxes spread uniformly over a square world whose
+ * side is chosen so that they cover the requested fraction of it: doubling
+ * the count doubles the area, keeping the crowding of each neighbourhood the
+ * same. The static objects are floors, indexed once like a loaded level
+ * would, and the dynamic ones are platforms, which {@link #step(Random)}
+ * moves by a few units in random directions, as in a game tick. The player
+ * stands in the middle of the world and is one of the dynamic objects.
+ * </p>
+ */
+public final class SyntheticWorld {
+
+    private static final double MIN_SIZE = 8;
+    private static final double MAX_SIZE = 64;
+    private static final double PLAYER_SIZE = 32;
+    private static final double MAX_STEP = 4;
+
+    private final double side;
+    private final List<CollidableGameObject> dynamicObjects;
+    private final StaticColliderIndex staticColliders;
+    private final CollidableGameObject player;
+
+    private SyntheticWorld(final double side, final List<CollidableGameObject> dynamicObjects,
+            final StaticColliderIndex staticColliders, final CollidableGameObject player) {
+        this.side = side;
+        this.dynamicObjects = dynamicObjects;
+        this.staticColliders = staticColliders;
+        this.player = player;
+    }
+
+    /**
+     * Generates a world.
+     *
+     * @param count       how many objects, the player aside
+     * @param staticRatio the fraction of the objects that never move, between 0
+     *                    and 1
+     * @param density     the fraction of the world covered by objects, greater
+     *                    than 0
+     * @param seed        the seed of the generator, the same seed giving the same
+     *                    world
+     * @return a new world
+     * @throws IllegalArgumentException if any of the arguments is out of range
+     */
+    public static SyntheticWorld generate(final int count, final double staticRatio, final double density,
+            final long seed) {
+        if (count < 0 || staticRatio < 0 || staticRatio > 1 || density <= 0) {
+            throw new IllegalArgumentException("Invalid synthetic world: count " + count + ", static ratio "
+                    + staticRatio + ", density " + density);
+        }
+        final Random random = new Random(seed);
+        final double meanSize = (MIN_SIZE + MAX_SIZE) / 2;
+        final double side = Math.sqrt(Math.max(1, count) * meanSize * meanSize / density);
+        final int statics = (int) Math.round(count * staticRatio);
+
+        final List<CollidableGameObject> staticObjects = new ArrayList<>(statics);
+        final List<CollidableGameObject> dynamicObjects = new ArrayList<>(count - statics + 1);
+        for (int id = 1; id <= count; id++) {
+            final Dimension dimension = new Dimension(size(random), size(random));
+            final Coord2D position = new Coord2D(random.nextDouble() * (side - dimension.width()),
+                    random.nextDouble() * (side - dimension.height()));
+            if (id <= statics) {
+                staticObjects.add(new Floor(id, position, dimension));
+            } else {
+                dynamicObjects.add(new Platform(id, position, dimension, new LinkedList<>()));
+            }
+        }
+        final CollidableGameObject player = new PlayerModel(0, new Coord2D(side / 2, side / 2),
+                new Dimension(PLAYER_SIZE, PLAYER_SIZE));
+        dynamicObjects.add(player);
+        return new SyntheticWorld(side, Collections.unmodifiableList(dynamicObjects),
+                StaticColliderIndex.of(staticObjects), player);
+    }
+
+    /**
+     * Moves every dynamic object but the player by a few units, staying inside
+     * the world, and puts the player back in the middle.
+     *
+     * @param random the generator of the steps
+     */
+    public void step(final Random random) {
+        this.dynamicObjects.stream()
+                .filter(object -> object != this.player)
+                .forEach(object -> object.setPosition(new Coord2D(
+                        this.clamp(object.getPosition().x() + offset(random), object.getDimension().width()),
+                        this.clamp(object.getPosition().y() + offset(random), object.getDimension().height()))));
+        this.player.setPosition(new Coord2D(this.side / 2, this.side / 2));
+    }
+
+    /**
+     * Returns the objects that may move, the player included.
+     *
+     * @return an unmodifiable list of the dynamic objects
+     */
+    public List<CollidableGameObject> dynamicObjects() {
+        return this.dynamicObjects;
+    }
+
+    /**
+     * Returns the index of the objects that never move.
+     *
+     * @return the static collider index
+     */
+    public StaticColliderIndex staticColliders() {
+        return this.staticColliders;
+    }
+
+    /**
+     * Returns the player.
+     *
+     * @return the player, in the middle of the world
+     */
+    public CollidableGameObject player() {
+        return this.player;
+    }
+
+    private double clamp(final double value, final double size) {
+        return Math.max(0, Math.min(this.side - size, value));
+    }
+
+    private static double size(final Random random) {
+        return MIN_SIZE + random.nextDouble() * (MAX_SIZE - MIN_SIZE);
+    }
+
+    private static double offset(final Random random) {
+        return (random.nextDouble() * 2 - 1) * MAX_STEP;
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Compares the {@link ShapeOverlapKernel} with the plain box kernels on the
+ * same candidate pairs, a given fraction of the objects being round.
+ * <p>
+ * {@link #boxes()} is the box test alone, {@link #shapes()} the shape test on
+ * every pair and {@link #refined()} what the pairwise collision does: the box
+ * test, then the shape test on the overlapping pairs involving a round
+ * object.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class ShapeOverlapBenchmark {
+
+    private static final long SEED = 42;
+    private static final int OBJECTS = 1024;
+    private static final int PAIRS = 4096;
+    private static final double WORLD = 512;
+    private static final double MAX_SIZE = 64;
+    private static final int BOX = CollisionShape.AABB.ordinal();
+
+    /**
+     * The fraction of the objects that are circles or capsules.
+     */
+    @Param({ "0", "0.1", "1" })
+    public double roundRatio;
+
+    private final OverlapKernel boxKernel = OverlapKernels.best();
+    private final OverlapKernel shapeKernel = new ShapeOverlapKernel();
+    private final AabbBuffer buffer = new AabbBuffer();
+    private final boolean[] colliding = new boolean[PAIRS];
+    private int[] first;
+    private int[] second;
+
+    /**
+     * Generates the objects and the candidate pairs.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        final Random random = new Random(SEED);
+        final List<CollidableGameObject> objects = new ArrayList<>(OBJECTS);
+        for (int i = 0; i < OBJECTS; i++) {
+            final Floor floor = new Floor(i,
+                    new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE));
+            if (random.nextDouble() < this.roundRatio) {
+                floor.setCollisionShape(random.nextBoolean() ? CollisionShape.CIRCLE : CollisionShape.CAPSULE);
+            }
+            objects.add(floor);
+        }
+        this.buffer.sync(objects);
+        this.first = random.ints(PAIRS, 0, OBJECTS).toArray();
+        this.second = random.ints(PAIRS, 0, OBJECTS).toArray();
+    }
+
+    /**
+     * Tests the boxes of every pair.
+     *
+     * @return the results, for the benchmark not to be optimized away
+     */
+    @Benchmark
+    public boolean[] boxes() {
+        this.boxKernel.overlap(this.buffer, this.first, this.buffer, this.second, 0, PAIRS, this.colliding);
+        return this.colliding;
+    }
+
+    /**
+     * Tests the shapes of every pair.
+     *
+     * @return the results, for the benchmark not to be optimized away
+     */
+    @Benchmark
+    public boolean[] shapes() {
+        this.shapeKernel.overlap(this.buffer, this.first, this.buffer, this.second, 0, PAIRS, this.colliding);
+        return this.colliding;
+    }
+
+    /**
+     * Tests the boxes of every pair, then the shapes of the overlapping pairs
+     * involving a round object.
+     *
+     * @return the results, for the benchmark not to be optimized away
+     */
+    @Benchmark
+    public boolean[] refined() {
+        this.boxKernel.overlap(this.buffer, this.first, this.buffer, this.second, 0, PAIRS, this.colliding);
+        final int[] shapes = this.buffer.shapes();
+        for (int k = 0; k < PAIRS; k++) {
+            if (this.colliding[k] && (shapes[this.first[k]] != BOX || shapes[this.second[k]] != BOX)) {
+                this.shapeKernel.overlap(this.buffer, this.first, this.buffer, this.second, k, k + 1,
+                        this.colliding);
+            }
+        }
+        return this.colliding;
+    }
+}
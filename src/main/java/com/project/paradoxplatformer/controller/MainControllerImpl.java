@@ -6,7 +6,7 @@ import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
 import com.project.paradoxplatformer.utils.ExceptionUtils;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 import com.project.paradoxplatformer.view.legacy.ViewAdapterFactory;
 import com.project.paradoxplatformer.view.manager.ViewManager;
 
@@ -74,7 +74,8 @@ public final class MainControllerImpl<N, P, K> implements MainController {
      */
     private void handleViewSwitch(final PageIdentifier id, final Level param) {
         // System.out.println("NOW RECREATE THE VIEW.");
-        this.switchView(id, param);
+        // the switch may be requested by the game loop, which can run off the app thread
+        viewManager.runOnAppThread(() -> this.switchView(id, param));
     }
 
     /**
@@ -2,30 +2,101 @@ package com.project.paradoxplatformer.controller.gameloop;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
 
+import org.slf4j.Logger;
+
 import com.project.paradoxplatformer.utils.geometries.observer.Observer;
+import com.project.paradoxplatformer.utils.logging.GlobalLogger;
+import com.project.paradoxplatformer.utils.time.GameClock;
+import com.project.paradoxplatformer.utils.time.GameClockImpl;
 import com.project.paradoxplatformer.view.legacy.ViewFramework;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 
 /**
  * implrmentation.
  */
 public class GameLoopFactoryImpl implements TaskLoopFactory {
 
+    private static final int FPS = 40; // default in-game fps
+    private static final int MAX_CATCH_UP_STEPS = 5; // steps allowed in a single frame before dropping time
+
+    private final Logger logger = GlobalLogger.getLogger(GameLoopFactoryImpl.class);
     private final GameLoop loop;
-    private static final int SECONDS_TO_MILLIS = 1_000; // millis in a second
-    private static final int FPS = 40; // in-game fps
-    private static final long PERIOD = SECONDS_TO_MILLIS / FPS;
+    private final GameClock clock;
+    private final FramePacer pacer;
+    private final long stepNanos;
+    private final long period; // step in millis, as passed to the loop
 
     /**
-     * Constructor.
+     * Constructor, stepping at the default rate on a clock of its own.
      * 
      * @param loop the game loop
      */
     public GameLoopFactoryImpl(final GameLoop loop) {
+        this(loop, new GameClockImpl());
+    }
+
+    /**
+     * Constructor, stepping at the default rate.
+     * 
+     * @param loop  the game loop
+     * @param clock the game clock, whose rate and pause are honoured by the loops
+     */
+    public GameLoopFactoryImpl(final GameLoop loop, final GameClock clock) {
+        this(loop, FPS, clock);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param loop     the game loop
+     * @param tickRate the simulation steps per second, at clock rate 1
+     * @param clock    the game clock, whose rate and pause are honoured by the loops
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public GameLoopFactoryImpl(final GameLoop loop, final int tickRate, final GameClock clock) {
+        this(loop, tickRate, clock, new AdaptiveFramePacer());
+    }
+
+    /**
+     * Constructor, stepping at the default rate.
+     * 
+     * @param loop  the game loop
+     * @param clock the game clock, whose rate and pause are honoured by the loops
+     * @param pacer the pacer told the cost of steps and frames, deciding which
+     *              frames the fixed step loops render
+     */
+    public GameLoopFactoryImpl(final GameLoop loop, final GameClock clock, final FramePacer pacer) {
+        this(loop, FPS, clock, pacer);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param loop     the game loop
+     * @param tickRate the simulation steps per second, at clock rate 1
+     * @param clock    the game clock, whose rate and pause are honoured by the loops
+     * @param pacer    the pacer told the cost of steps and frames, deciding
+     *                 which frames the fixed step loops render
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public GameLoopFactoryImpl(
+            final GameLoop loop,
+            final int tickRate,
+            final GameClock clock,
+            final FramePacer pacer) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive, was " + tickRate);
+        }
         this.loop = loop;
+        this.clock = clock;
+        this.pacer = pacer;
+        this.stepNanos = TimeUnit.SECONDS.toNanos(1) / tickRate;
+        this.period = Math.round((double) this.stepNanos / TimeUnit.MILLISECONDS.toNanos(1));
     }
 
     /**
@@ -40,53 +111,41 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
      * {@inheritDoc}
      */
     @Override
-    public ObservableLoopManager threadLoop() {
-        return new ObservableLoopManager() {
-            private boolean isRunning;
-
-            @Override
-            public void start() {
-                this.isRunning = true;
-                new Thread(() -> {
-                    while (true) {
-                        final var now = System.currentTimeMillis();
-                        var residuo = System.currentTimeMillis() - now;
-                        loop.loop(PERIOD + residuo);
-                        residuo = System.currentTimeMillis() - now;
-                        GameLoopFactoryImpl.this.delay(residuo);
-                    }
-                }).start();
-            }
-
-            @Override
-            public void stop() {
-                if (this.isRunning) {
-                    this.isRunning = false;
-                }
-            }
+    public ObservableLoopManager fixedStepLoop() {
+        return new FixedStepLoopTimer();
+    }
 
-            @Override
-            public boolean isRunning() {
-                return this.isRunning;
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ObservableLoopManager dualThreadLoop() {
+        return new DualThreadLoopManager();
+    }
 
-            @Override
-            public void addObserver(final Observer observer) {
-                throw new UnsupportedOperationException("Unimplemented method 'addObserver'");
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PreciseLoopManager threadLoop() {
+        final FixedStepper stepper = this.stepper();
+        return new PreciseLoopManager(() -> stepper.advance(this.stepNanos), this.stepNanos, MAX_CATCH_UP_STEPS);
+    }
 
-            @Override
-            public void notifyObservers() {
-                throw new UnsupportedOperationException("Unimplemented method 'notifyObservers'");
-            }
+    private FixedStepper stepper() {
+        return new FixedStepper(this::timedStep, this.stepNanos, MAX_CATCH_UP_STEPS, this.clock);
+    }
 
-        };
+    private void timedStep() {
+        final long start = System.nanoTime();
+        loop.loop(this.period);
+        this.pacer.recordStep(System.nanoTime() - start, this.stepNanos);
     }
 
     private void delay(final long dt) {
-        if (dt < PERIOD) {
+        if (dt < this.period) {
             try {
-                Thread.sleep(PERIOD - dt);
+                Thread.sleep(this.period - dt);
             } catch (final InterruptedException e) {
                 throw new IllegalStateException(e);
             }
@@ -110,11 +169,9 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             this.isRunning = true;
             final long delta = lastFrame != 0 ? now - lastFrame : 0;
             this.lastFrame = now;
-            final long dt = TimeUnit.NANOSECONDS.toMillis(delta);
 
             try {
-                loop.loop(dt);
-                GameLoopFactoryImpl.this.delay(dt);
+                this.tick(delta);
             } catch (Exception e) { //NOPMD
                 this.stop();
                 // System.err.println(ExceptionUtils.advancedDisplay(e));
@@ -122,6 +179,17 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             }
         }
 
+        /**
+         * Runs the loop for the given pulse, scaling its duration by the clock.
+         * @param delta nanoseconds elapsed since the previous pulse
+         */
+        protected void tick(final long delta) {
+            final long dt = TimeUnit.NANOSECONDS.toMillis(delta);
+            loop.loop(TimeUnit.NANOSECONDS.toMillis(clock.scale(delta)));
+            loop.render(1.0);
+            GameLoopFactoryImpl.this.delay(dt);
+        }
+
         @Override
         public boolean isRunning() {
             return this.isRunning;
@@ -133,6 +201,7 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             if (this.isRunning) {
                 super.stop();
                 this.isRunning = false;
+                this.lastFrame = 0; // time spent stopped must not count on restart
             }
         }
 
@@ -146,4 +215,126 @@ public class GameLoopFactoryImpl implements TaskLoopFactory {
             this.observers.forEach(Observer::update);
         }
     }
+
+    /**
+     * Fixed timestep variant of the timer: pulse time is handed to a
+     * {@link FixedStepper}, so the simulation speed no longer depends on the
+     * frame rate. Steps and rendering share the JavaFX thread, so the whole
+     * pulse is reported to the pacer and frames it skips leave their time to
+     * the steps.
+     */
+    private final class FixedStepLoopTimer extends LoopManagerTimer {
+
+        private final FixedStepper stepper = GameLoopFactoryImpl.this.stepper();
+
+        @Override
+        protected void tick(final long delta) {
+            final long start = System.nanoTime();
+            this.stepper.advance(delta);
+            if (pacer.shouldRender()) {
+                loop.render(this.stepper.alpha(0));
+            }
+            pacer.recordFrame(System.nanoTime() - start, delta);
+        }
+    }
+
+    /**
+     * Runs the simulation steps on a {@link PreciseLoopManager}, while an
+     * {@link AnimationTimer} renders on every JavaFX pulse, interpolating by
+     * the time elapsed since the last step. The two sides only share what
+     * {@link GameLoop#render(double)} reads, the JavaFX thread never sleeps.
+     * Pulses the pacer skips render nothing, while every step is run.
+     */
+    private final class DualThreadLoopManager implements ObservableLoopManager {
+
+        private final Set<Observer> observers;
+        private final FixedStepper stepper;
+        private final PreciseLoopManager simulation;
+        private final AnimationTimer renderer;
+        private long lastPulse;
+
+        DualThreadLoopManager() {
+            this.observers = new CopyOnWriteArraySet<>();
+            this.stepper = GameLoopFactoryImpl.this.stepper();
+            this.simulation = new PreciseLoopManager(this::step, stepNanos, MAX_CATCH_UP_STEPS, r -> {
+                final Thread t = new Thread(r, "simulation");
+                t.setDaemon(true);
+                t.setPriority(Thread.MAX_PRIORITY);
+                return t;
+            });
+            this.renderer = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    final long start = System.nanoTime();
+                    try {
+                        if (pacer.shouldRender()) {
+                            loop.render(DualThreadLoopManager.this.stepper.alpha(
+                                    start - DualThreadLoopManager.this.simulation.lastTick()));
+                        }
+                    } catch (Exception e) { //NOPMD
+                        DualThreadLoopManager.this.fail(e);
+                    }
+                    DualThreadLoopManager.this.pulse(now, System.nanoTime() - start);
+                }
+            };
+        }
+
+        private void step() {
+            try {
+                this.stepper.advance(stepNanos);
+            } catch (Exception e) { //NOPMD
+                this.fail(e);
+            }
+        }
+
+        private void pulse(final long now, final long cost) {
+            if (this.lastPulse != 0) {
+                pacer.recordFrame(cost, now - this.lastPulse);
+            }
+            this.lastPulse = now;
+        }
+
+        private void fail(final Exception e) {
+            logger.error("The game loop failed on the {} thread.", Thread.currentThread().getName(), e);
+            this.stop();
+            ViewFramework.javaFxFactory().mainAppManager().get().safeError();
+        }
+
+        @Override
+        public synchronized void start() {
+            if (!this.simulation.isRunning()) {
+                this.lastPulse = 0;
+                this.simulation.start();
+                this.renderer.start();
+            }
+        }
+
+        @Override
+        public synchronized void stop() {
+            this.notifyObservers();
+            if (this.simulation.isRunning()) {
+                this.simulation.stop();
+                if (Platform.isFxApplicationThread()) {
+                    this.renderer.stop();
+                } else {
+                    Platform.runLater(this.renderer::stop);
+                }
+            }
+        }
+
+        @Override
+        public boolean isRunning() {
+            return this.simulation.isRunning();
+        }
+
+        @Override
+        public void addObserver(final Observer observer) {
+            this.observers.add(observer);
+        }
+
+        @Override
+        public void notifyObservers() {
+            this.observers.forEach(Observer::update);
+        }
+    }
 }
@@ -11,7 +11,28 @@ public interface TaskLoopFactory {
     ObservableLoopManager animationLoop();
 
     /**
-     * Common thread for every view, a bit slower then the animationLoop.
+     * To use only if view is on a JavaFX Thread.
+     * Unlike {@link #animationLoop()}, the simulation is advanced in constant
+     * steps regardless of the display refresh rate, while rendering happens once
+     * per frame and is interpolated between the last two steps.
+     * @return {@link ObservableLoopManager}
+     */
+    ObservableLoopManager fixedStepLoop();
+
+    /**
+     * To use only if view is on a JavaFX Thread.
+     * Like {@link #fixedStepLoop()}, but the simulation steps run on a dedicated
+     * thread, while the JavaFX pulse only renders, so that neither a slow tick
+     * stalls the view nor a slow frame stalls the simulation.
+     * {@link GameLoop#loop(long)} must therefore never touch the view and
+     * {@link GameLoop#render(double)} must never touch the model.
+     * @return {@link ObservableLoopManager}
+     */
+    ObservableLoopManager dualThreadLoop();
+
+    /**
+     * Common thread for every view, paced on its own thread independently from
+     * the view refresh rate.
      * @return {@link LoopManager}
      */
     LoopManager threadLoop();
@@ -12,6 +12,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.DegradationLevel;
 import com.project.paradoxplatformer.model.entity.ReadOnlyMutableObjectWrapper;
 import com.project.paradoxplatformer.utils.collision.api.CollisionType;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
@@ -21,6 +22,7 @@ import com.project.paradoxplatformer.utils.geometries.orientations.factory.Offse
 import com.project.paradoxplatformer.utils.geometries.orientations.factory.OffsetFactoryImpl;
 import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.Scalable;
 import com.project.paradoxplatformer.view.graphics.GraphicContainer;
 import com.project.paradoxplatformer.view.graphics.ReadOnlyGraphicDecorator;
 import com.project.paradoxplatformer.view.graphics.sprites.SpriteStatus;
@@ -46,6 +48,7 @@ public final class GameViewImpl<C, K> implements GameView<C> {
     private final ViewMappingFactory<C> viewMappingFactory;
     private OffsetCorrector offsetCorrector;
     private boolean isFlipped;
+    private volatile DegradationLevel degradation;
 
     /**
      * Constructs a {@link GameViewImpl} with the specified level data, graphic
@@ -65,6 +68,7 @@ public final class GameViewImpl<C, K> implements GameView<C> {
         this.offsetCorrector = null;
         this.setComponents = new ArrayList<>();
         this.isFlipped = false;
+        this.degradation = DegradationLevel.NOMINAL;
     }
 
     /**
@@ -91,6 +95,8 @@ public final class GameViewImpl<C, K> implements GameView<C> {
 
         this.setComponents.stream()
                 .filter(this.container::render)
+                .filter(Scalable.class::isInstance)
+                .map(Scalable.class::cast)
                 .forEach(o -> o.bindProperties(
                         dimScalingProperties.getKey().divide(this.packedData.getWidth()),
                         dimScalingProperties.getValue().divide(this.packedData.getHeight())));
@@ -148,7 +154,7 @@ public final class GameViewImpl<C, K> implements GameView<C> {
             graph.setDimension(mutEntity.getDimension().width(), mutEntity.getDimension().height());
 
             if (graph instanceof FXSpriteAdapter spriAdapter && !spriAdapter.isSpecial()) {
-                spriAdapter.animate(SpriteStatus.IDLE);
+                spriAdapter.animate(SpriteStatus.IDLE, this.degradation.animationInterval());
             }
 
             if (mutEntity.getCollisionType().equals(CollisionType.PLAYER)) {
@@ -166,7 +172,7 @@ public final class GameViewImpl<C, K> implements GameView<C> {
                 if (graph instanceof FXSpriteAdapter spriAdapter) {
                     spriAdapter
                             .animate(mutEntity.getSpeed().magnitude() > mutEntity.getBaseDelta() ? SpriteStatus.RUNNING
-                                    : SpriteStatus.IDLE);
+                                    : SpriteStatus.IDLE, this.degradation.animationInterval());
                 }
             }
         });
@@ -197,6 +203,14 @@ public final class GameViewImpl<C, K> implements GameView<C> {
         // System.out.println("DELETED? ");
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDegradationLevel(final DegradationLevel level) {
+        this.degradation = level;
+    }
+
     /**
      * Initializes properties for binding width and height dimensions to the graphic
      * container.
@@ -0,0 +1,18 @@
+package com.project.paradoxplatformer.view.graphics;
+
+import javafx.beans.value.ObservableDoubleValue;
+
+/**
+ * A graphic whose size follows the scaling of the window it is shown in.
+ */
+public interface Scalable {
+
+    /**
+     * Binds the width and height properties of the graphical component to the
+     * specified ratios.
+     *
+     * @param wRatio The observable ratio for the width.
+     * @param hRatio The observable ratio for the height.
+     */
+    void bindProperties(ObservableDoubleValue wRatio, ObservableDoubleValue hRatio);
+}
@@ -3,26 +3,35 @@ package com.project.paradoxplatformer.view.graphics.sprites;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.utils.time.GameClock;
+
 /**
  * Manages the animation of sprites by selecting the appropriate frame based on
  * the current status.
- * It handles frame indexing and updates based on the number of frames and the
- * minimum frames required for a change.
+ * It handles frame indexing and updates based on the game time elapsed and the
+ * minimum frames required for a change, so that animations follow the
+ * {@link GameClock} rather than the display refresh rate.
  *
  * @param <T> The type of sprite image.
  */
 public class SpriteAnimator<T> {
 
+    // game time of a frame, minimum frames were tuned on a 40 fps loop
+    private static final long FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(25);
+
     private final Map<SpriteStatus, List<T>> mapSprite;
-    private final int minFrames;
+    private final long imageNanos;
+    private final GameClock clock;
     private SpriteStatus prev;
-    private int index, frames;
+    private long statusStart;
 
     /**
      * Constructs a new {@code SpriteAnimator} with the given {@code Spriter} and
-     * minimum frames.
+     * minimum frames, reading the clock of the current {@link GameSession}.
      *
      * @param spriterSetter The {@code Spriter} providing the sprite images for
      *                      different statuses.
@@ -30,45 +39,70 @@ public class SpriteAnimator<T> {
      *                      the next frame.
      */
     public SpriteAnimator(final Spriter<T> spriterSetter, final int minFrames) {
+        this(spriterSetter, minFrames, GameSession.current().clock());
+    }
+
+    /**
+     * Constructs a new {@code SpriteAnimator} with the given {@code Spriter},
+     * minimum frames and clock.
+     *
+     * @param spriterSetter The {@code Spriter} providing the sprite images for
+     *                      different statuses.
+     * @param minFrames     The minimum number of frames required before changing to
+     *                      the next frame.
+     * @param clock         The clock driving the animation.
+     */
+    public SpriteAnimator(final Spriter<T> spriterSetter, final int minFrames, final GameClock clock) {
         mapSprite = new EnumMap<>(Map.of(
                 SpriteStatus.IDLE, spriterSetter.getIdleImage(),
                 SpriteStatus.RUNNING, spriterSetter.runningImages(),
                 SpriteStatus.JUMPING, spriterSetter.jumpingImages(),
                 SpriteStatus.FALLING, spriterSetter.fallingImages()));
-        this.minFrames = minFrames;
-        this.index = 0;
-        this.frames = 0;
+        this.imageNanos = Math.max(1, minFrames) * FRAME_NANOS;
+        this.clock = clock;
+        this.statusStart = clock.now();
         this.prev = SpriteStatus.IDLE; // Default to IDLE status
     }
 
     /**
      * Selects the appropriate frame for the given {@code SpriteStatus} and applies
      * the action on the selected frame.
-     * Updates the frame index based on the number of frames elapsed and the minimum
-     * frames required.
+     * Updates the frame index based on the game time elapsed in the current status
+     * and the minimum frames required.
      *
      * @param current     The current {@code SpriteStatus} to determine the frame.
      * @param imageAction A {@code Consumer} that accepts the selected sprite image
      *                    for further processing.
      */
     public void selectFrame(final SpriteStatus current, final Consumer<T> imageAction) {
-        // Update frame index if the status has not changed
-        if (this.prev == current) {
-            frames += 1;
-            if (frames % minFrames == 0) {
-                this.index += 1;
-            }
-        } else {
-            // Reset frame index if the status has changed
-            this.index = 0;
-            this.frames = 0;
+        this.selectFrame(current, 1, imageAction);
+    }
+
+    /**
+     * Selects the appropriate frame for the given {@code SpriteStatus} like
+     * {@link #selectFrame(SpriteStatus, Consumer)}, but only goes through one
+     * image every given number of them. The images shown stay in time, so the
+     * animation keeps its pace while changing less often.
+     *
+     * @param current     The current {@code SpriteStatus} to determine the frame.
+     * @param interval    The images between two shown ones, 1 for all of them.
+     * @param imageAction A {@code Consumer} that accepts the selected sprite image
+     *                    for further processing.
+     */
+    public void selectFrame(final SpriteStatus current, final int interval, final Consumer<T> imageAction) {
+        final long now = this.clock.now();
+        // Restart the animation if the status has changed
+        if (this.prev != current) {
+            this.statusStart = now;
         }
+        final int stride = Math.max(1, interval);
+        final long index = (now - this.statusStart) / (this.imageNanos * stride) * stride;
 
         // Get the sprite list for the current status
         final var inf = mapSprite.get(current);
 
         // Apply the action on the selected sprite image
-        imageAction.accept(inf.get(index % inf.size()));
+        imageAction.accept(inf.get((int) (index % inf.size())));
         this.prev = current;
     }
 }
@@ -19,6 +19,22 @@ public interface Spriteable<S extends Enum<S>> {
      */
     void animate(S status);
 
+    /**
+     * Animates the entity based on the provided status, going through only
+     * one image every given number of them while keeping the pace of the
+     * animation.
+     * <p>
+     * By default every call animates.
+     * </p>
+     *
+     * @param status   The status representing the current animation or state of
+     *                 the entity.
+     * @param interval The images between two shown ones, 1 for all of them.
+     */
+    default void animate(final S status, final int interval) {
+        this.animate(status);
+    }
+
     /**
      * Checks if the entity is considered special (player usually).
      * Special entities might have unique properties or behaviors that differentiate
@@ -11,6 +11,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.utils.ResourcesFinder;
+import com.project.paradoxplatformer.view.PageIdentifier;
 import com.project.paradoxplatformer.view.manager.api.FXMLView;
 
 import javafx.fxml.FXMLLoader;
@@ -10,6 +10,7 @@ import com.project.paradoxplatformer.controller.games.Level;
 import com.project.paradoxplatformer.utils.ExceptionUtils;
 import com.project.paradoxplatformer.utils.InvalidResourceException;
 import com.project.paradoxplatformer.utils.ResourcesFinder;
+import com.project.paradoxplatformer.view.PageIdentifier;
 import com.project.paradoxplatformer.view.legacy.ViewFramework;
 import com.project.paradoxplatformer.view.manager.ViewManager;
 import com.project.paradoxplatformer.view.manager.api.FXMLView;
@@ -62,6 +62,14 @@ public final class FXSpriteAdapter extends FXImageAdapter implements Spriteable<
         this.spriteAnimator.selectFrame(status, getImageView()::setImage);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void animate(final SpriteStatus status, final int interval) {
+        this.spriteAnimator.selectFrame(status, interval, getImageView()::setImage);
+    }
+
     /**
      * Checks if this sprite is considered special.
      *
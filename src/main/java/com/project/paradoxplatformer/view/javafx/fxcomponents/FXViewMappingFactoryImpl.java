@@ -14,6 +14,7 @@ import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
 import com.project.paradoxplatformer.view.javafx.ViewMappingFactory;
 
 import javafx.scene.Node;
+import javafx.scene.paint.Color;
 
 /**
  * An implementation of the {@link ViewMappingFactory} interface for mapping
@@ -50,7 +51,8 @@ public class FXViewMappingFactoryImpl implements ViewMappingFactory<Node> {
                 g.getID(),
                 new Dimension(g.getWidth(), g.getHeight()),
                 new Coord2D(g.getX(), g.getY()),
-                g.getColor().toFXColor());
+                Color.rgb(g.getColor().getRed(), g.getColor().getGreen(), g.getColor().getBlu(),
+                        g.getColor().getAlpha()));
     }
 
     /**
@@ -5,6 +5,7 @@ import java.util.Optional;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+import com.project.paradoxplatformer.view.graphics.Scalable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import javafx.beans.property.DoubleProperty;
@@ -16,7 +17,7 @@ import javafx.scene.Node;
  * Abstract base class for FX graphical adapters, providing common functionality
  * for handling graphical components in a JavaFX application.
  */
-public abstract class AbstractFXGraphicAdapter implements GraphicAdapter<Node> {
+public abstract class AbstractFXGraphicAdapter implements GraphicAdapter<Node>, Scalable {
 
     private static final double INVERTED_FACTOR = -1.0;
 
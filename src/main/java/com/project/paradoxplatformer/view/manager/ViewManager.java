@@ -3,7 +3,7 @@ package com.project.paradoxplatformer.view.manager;
 import java.util.concurrent.CountDownLatch;
 
 import com.project.paradoxplatformer.controller.games.Level;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 import com.project.paradoxplatformer.view.page.Page;
 
 /**
@@ -3,7 +3,7 @@ package com.project.paradoxplatformer.view.manager;
 import com.project.paradoxplatformer.controller.event.EventManager;
 import com.project.paradoxplatformer.controller.event.GameEventType;
 import com.project.paradoxplatformer.controller.games.Level;
-import com.project.paradoxplatformer.view.javafx.PageIdentifier;
+import com.project.paradoxplatformer.view.PageIdentifier;
 
 /**
  * ViewNavigator handles the navigation between different views in the
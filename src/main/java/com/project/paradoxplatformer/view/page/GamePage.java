@@ -6,10 +6,12 @@ import java.util.ResourceBundle;
 
 import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
 import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.GameLoopFactoryImpl;
 import com.project.paradoxplatformer.controller.games.GameControllerImpl;
 import com.project.paradoxplatformer.controller.games.Level;
 import com.project.paradoxplatformer.controller.games.GameController;
 import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.session.GameSession;
 import com.project.paradoxplatformer.model.GameModel;
 import com.project.paradoxplatformer.model.GameModelImpl;
 import com.project.paradoxplatformer.model.entity.dynamics.ControllableObject;
@@ -21,6 +23,7 @@ import com.project.paradoxplatformer.view.GameViewImpl;
 import com.project.paradoxplatformer.view.GameView;
 import com.project.paradoxplatformer.view.graphics.GraphicContainer;
 import com.project.paradoxplatformer.view.legacy.ViewFramework;
+import com.project.paradoxplatformer.view.manager.ViewNavigator;
 import com.project.paradoxplatformer.view.settings.GameSettings;
 import com.project.paradoxplatformer.view.settings.SimpleGameSettings;
 
@@ -83,7 +86,12 @@ public final class GamePage extends AbstractThreadedPage {
                                 .apply(this.gamePane);
                 final GameView<Node> gameView = new GameViewImpl<>(level, gameGraphContainer, mappingFactory);
 
-                final GameController<Node> gameController = new GameControllerImpl<>(gameModel, gameView, param);
+                final GameController<Node> gameController = new GameControllerImpl<>(
+                                gameModel,
+                                gameView,
+                                param,
+                                new GameSession(ViewNavigator.getInstance()::openView),
+                                (loop, clock, pacer) -> new GameLoopFactoryImpl(loop, clock, pacer).dualThreadLoop());
                 final InputController<ControllableObject> inputController = new InputController<>(
                                 new InputMovesFactoryImpl().advancedModel());
 
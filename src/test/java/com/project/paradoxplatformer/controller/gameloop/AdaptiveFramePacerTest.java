@@ -0,0 +1,104 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptiveFramePacer}.
+ */
+class AdaptiveFramePacerTest {
+
+    private static final long BUDGET = 1000;
+    private static final int WINDOW = 40;
+    private static final DegradationLevel HALF = new DegradationLevel("half", 2, 1, 1);
+    private static final DegradationLevel THIRD = new DegradationLevel("third", 3, 2, 2);
+
+    private List<DegradationChange> changes;
+    private AdaptiveFramePacer pacer;
+
+    /**
+     * Sets up a pacer on three levels, recording its changes.
+     */
+    @BeforeEach
+    void setUp() {
+        changes = new ArrayList<>();
+        pacer = new AdaptiveFramePacer(List.of(DegradationLevel.NOMINAL, HALF, THIRD), changes::add);
+    }
+
+    private void steps(final int count, final long cost) {
+        for (int i = 0; i < count; i++) {
+            pacer.recordStep(cost, BUDGET);
+        }
+    }
+
+    /**
+     * Tests that an overloaded game is degraded one level per window, never
+     * past the last one, and that every change is notified.
+     */
+    @Test
+    void testDegradation() {
+        assertEquals(DegradationLevel.NOMINAL, pacer.level());
+        steps(WINDOW, 2 * BUDGET);
+        assertEquals(HALF, pacer.level());
+        steps(3 * WINDOW, 2 * BUDGET);
+        assertEquals(THIRD, pacer.level());
+        assertEquals(2, changes.size());
+        assertEquals(DegradationLevel.NOMINAL, changes.get(0).previous());
+        assertEquals(THIRD, changes.get(1).current());
+    }
+
+    /**
+     * Tests that frames are skipped as the level asks, steps never being.
+     */
+    @Test
+    void testFrameSkipping() {
+        assertTrue(pacer.shouldRender());
+        assertTrue(pacer.shouldRender());
+        steps(WINDOW, 2 * BUDGET);
+        assertTrue(pacer.shouldRender());
+        assertFalse(pacer.shouldRender());
+        assertTrue(pacer.shouldRender());
+    }
+
+    /**
+     * Tests that slow pulses degrade the game as well as slow steps.
+     */
+    @Test
+    void testFrameLoad() {
+        for (int i = 0; i < WINDOW; i++) {
+            pacer.recordFrame(2 * BUDGET, BUDGET);
+        }
+        steps(WINDOW, 0);
+        assertEquals(HALF, pacer.level());
+    }
+
+    /**
+     * Tests that a level is only left for a lighter one after the load has
+     * stayed low for a while.
+     */
+    @Test
+    void testRecovery() {
+        steps(WINDOW, 2 * BUDGET);
+        steps(WINDOW, 0);
+        assertEquals(HALF, pacer.level());
+        steps(20 * WINDOW, 0);
+        assertEquals(DegradationLevel.NOMINAL, pacer.level());
+        assertEquals(HALF, changes.get(changes.size() - 1).previous());
+    }
+
+    /**
+     * Tests that invalid levels are rejected.
+     */
+    @Test
+    void testInvalidLevels() {
+        assertThrows(IllegalArgumentException.class, () -> new DegradationLevel("none", 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveFramePacer(List.of(), c -> { }));
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.time.GameClock;
+import com.project.paradoxplatformer.utils.time.GameClockImpl;
+
+/**
+ * Unit tests for {@link FixedStepper}.
+ */
+class FixedStepperTest {
+
+    private static final long STEP = 100;
+    private static final int MAX_STEPS = 5;
+
+    private AtomicInteger steps;
+    private GameClock clock;
+    private FixedStepper stepper;
+
+    /**
+     * Sets up a stepper counting its steps.
+     */
+    @BeforeEach
+    void setUp() {
+        steps = new AtomicInteger();
+        clock = new GameClockImpl();
+        stepper = new FixedStepper(steps::incrementAndGet, STEP, MAX_STEPS, clock);
+    }
+
+    /**
+     * Tests that partial steps are accumulated and reported as alpha.
+     */
+    @Test
+    void testAccumulation() {
+        assertEquals(0, stepper.advance(STEP / 2));
+        assertEquals(0.5, stepper.alpha(0));
+        assertEquals(1, stepper.advance(STEP / 2));
+        assertEquals(0.0, stepper.alpha(0));
+        assertEquals(1.0, stepper.alpha(2 * STEP));
+    }
+
+    /**
+     * Tests that excess time past the catch up limit is dropped.
+     */
+    @Test
+    void testCatchUpLimit() {
+        assertEquals(MAX_STEPS, stepper.advance(10 * STEP));
+        assertEquals(0, stepper.advance(0));
+    }
+
+    /**
+     * Tests that the clock rate and pause drive the number of steps.
+     */
+    @Test
+    void testClockRate() {
+        clock.setRate(2);
+        assertEquals(2, stepper.advance(STEP));
+        clock.setRate(0.5);
+        assertEquals(0, stepper.advance(STEP));
+        assertEquals(1, stepper.advance(STEP));
+        clock.pause();
+        assertEquals(0, stepper.advance(STEP));
+        assertEquals(MAX_STEPS, steps.get() + 2);
+    }
+}
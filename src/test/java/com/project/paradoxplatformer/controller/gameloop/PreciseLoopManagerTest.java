@@ -0,0 +1,96 @@
+package com.project.paradoxplatformer.controller.gameloop;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PreciseLoopManager}, checking that it ticks, that it
+ * can be stopped and that it reports its statistics.
+ */
+class PreciseLoopManagerTest {
+
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(1) / 120;
+    private static final int CATCH_UP = 5;
+    private static final int TICKS = 10;
+    private static final long TIMEOUT = 5;
+
+    /**
+     * Tests that the loop ticks, and that once stopped its thread exits and no
+     * further tick happens.
+     */
+    @Test
+    void testTicksAndStops() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TICKS);
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final PreciseLoopManager manager = new PreciseLoopManager(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        }, PERIOD, CATCH_UP, r -> {
+            thread.set(new Thread(r));
+            return thread.get();
+        });
+
+        manager.start();
+        assertTrue(manager.isRunning());
+        assertTrue(latch.await(TIMEOUT, TimeUnit.SECONDS));
+
+        manager.stop();
+        thread.get().join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+        assertFalse(thread.get().isAlive());
+        assertFalse(manager.isRunning());
+
+        final int ticked = count.get();
+        assertTrue(manager.statistics().ticks() > 0);
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(PERIOD * CATCH_UP));
+        assertEquals(ticked, count.get());
+    }
+
+    /**
+     * Tests that the task can stop its own loop.
+     */
+    @Test
+    void testStopFromTask() throws InterruptedException {
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        final AtomicReference<PreciseLoopManager> manager = new AtomicReference<>();
+        final AtomicInteger count = new AtomicInteger();
+        manager.set(new PreciseLoopManager(() -> {
+            if (count.incrementAndGet() == TICKS) {
+                manager.get().stop();
+            }
+        }, PERIOD, CATCH_UP, r -> {
+            thread.set(new Thread(r));
+            return thread.get();
+        }));
+
+        manager.get().start();
+        thread.get().join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+        assertFalse(thread.get().isAlive());
+        assertEquals(TICKS, count.get());
+    }
+
+    /**
+     * Tests that statistics are empty before the loop starts.
+     */
+    @Test
+    void testEmptyStatistics() {
+        final PreciseLoopManager manager = new PreciseLoopManager(() -> { }, PERIOD, CATCH_UP);
+        assertEquals(LoopStatistics.EMPTY, manager.statistics());
+    }
+
+    /**
+     * Tests that invalid periods are rejected.
+     */
+    @Test
+    void testInvalidPeriod() {
+        assertThrows(IllegalArgumentException.class, () -> new PreciseLoopManager(() -> { }, 0, CATCH_UP));
+    }
+}
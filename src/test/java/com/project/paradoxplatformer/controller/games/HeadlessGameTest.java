@@ -0,0 +1,159 @@
+package com.project.paradoxplatformer.controller.games;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.deserialization.DeserializerFactoryImpl;
+import com.project.paradoxplatformer.controller.deserialization.dtos.LevelDTO;
+import com.project.paradoxplatformer.controller.gameloop.HeadlessLoopManager;
+import com.project.paradoxplatformer.controller.input.InputController;
+import com.project.paradoxplatformer.controller.input.KeyAssetterImpl;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+import com.project.paradoxplatformer.controller.session.GameSession;
+import com.project.paradoxplatformer.model.GameModel;
+import com.project.paradoxplatformer.model.GameModelImpl;
+import com.project.paradoxplatformer.model.entity.MutableObject;
+import com.project.paradoxplatformer.model.inputmodel.InputMovesFactoryImpl;
+import com.project.paradoxplatformer.model.world.api.World;
+import com.project.paradoxplatformer.utils.InvalidResourceException;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.view.HeadlessGameView;
+import com.project.paradoxplatformer.view.PageIdentifier;
+import com.project.paradoxplatformer.view.graphics.GraphicAdapter;
+
+/**
+ * Runs a real level with no display, checking that the simulation core works
+ * on its own.
+ */
+class HeadlessGameTest {
+
+    private static final long STEP = 25;
+    private static final long STEPS = 2000;
+
+    private static LevelDTO loadLevel() throws IOException, InvalidResourceException {
+        return new DeserializerFactoryImpl()
+                .levelDeserialzer()
+                .deserialize(Level.LEVEL_ONE.getResourceFile());
+    }
+
+    /**
+     * Runs the first level with no input until it ends or the steps are over.
+     */
+    @Test
+    void testRunLevel() throws IOException, InvalidResourceException {
+        final LevelDTO level = loadLevel();
+        final List<Level> requested = new ArrayList<>();
+        final GameSession session = new GameSession((id, l) -> requested.add(l));
+        final AtomicReference<HeadlessLoopManager> manager = new AtomicReference<>();
+        final GameController<Void> controller = new GameControllerImpl<>(
+                new GameModelImpl(level),
+                new HeadlessGameView(level),
+                Level.LEVEL_ONE,
+                session,
+                (loop, clock, pacer) -> {
+                    manager.set(new HeadlessLoopManager(loop, STEP, STEPS));
+                    return manager.get();
+                });
+        final KeyAssetter<String> keys = new KeyAssetterImpl<>(InputType::getString);
+
+        controller.loadModel();
+        controller.syncView();
+        controller.startGame(new InputController<>(new InputMovesFactoryImpl().advancedModel()),
+                new KeyInputer<String>() {
+                    @Override
+                    public KeyAssetter<String> getKeyAssetter() {
+                        return keys;
+                    }
+
+                    @Override
+                    public void activateKeyInput(final Runnable activateInput) {
+                        // No-op implementation
+                    }
+                }, level.getType());
+
+        final long steps = manager.get().steps();
+        assertFalse(manager.get().isRunning());
+        assertTrue(steps > 0);
+        assertTrue(steps == STEPS || !requested.isEmpty());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(steps * STEP), session.clock().now());
+        assertTrue(controller.profiler().tick().samples() > 0);
+    }
+
+    /**
+     * Tests that rendering drops from the view the graphics of the objects
+     * removed by the last update, and only reads the published snapshot:
+     * the model is never called while rendering.
+     */
+    @Test
+    void testRenderFlushesRemovedGraphics() throws IOException, InvalidResourceException {
+        final LevelDTO level = loadLevel();
+        final GameModel model = new GameModelImpl(level);
+        final AtomicBoolean rendering = new AtomicBoolean();
+        final GameModel guarded = new GameModel() {
+            @Override
+            public void init() {
+                model.init();
+            }
+
+            @Override
+            public World getWorld() {
+                assertFalse(rendering.get(), "the model was read while rendering");
+                return model.getWorld();
+            }
+
+            @Override
+            public void rebuild() {
+                assertFalse(rendering.get(), "the model was rebuilt while rendering");
+                model.rebuild();
+            }
+
+            @Override
+            public void actionOnWorld(final Consumer<World> action) {
+                assertFalse(rendering.get(), "the world was changed while rendering");
+                model.actionOnWorld(action);
+            }
+        };
+        final HeadlessGameView view = new HeadlessGameView(level);
+        final GameControllerImpl<Void> controller = new GameControllerImpl<>(guarded, view, Level.LEVEL_ONE,
+                new GameSession((id, l) -> { }),
+                (loop, clock, pacer) -> new HeadlessLoopManager(loop, STEP, STEPS));
+        controller.loadModel();
+        controller.syncView();
+
+        final World world = model.getWorld();
+        final List<Integer> graphics = view.getUnmodifiableControls().stream().map(GraphicAdapter::getID).toList();
+        final MutableObject removed = world.gameObjects().stream()
+                .filter(CollidableGameObject.class::isInstance)
+                .filter(o -> !o.equals(world.player()) && graphics.contains(o.getID()))
+                .findFirst()
+                .orElseThrow();
+        controller.handleRemoveObject(PageIdentifier.GAME, Optional.of((CollidableGameObject) removed));
+        controller.removeGameObjects();
+        assertFalse(model.getWorld().gameObjects().contains(removed));
+        assertEquals(graphics.size(), view.getUnmodifiableControls().size());
+
+        final List<MutableObject> objects = List.copyOf(model.getWorld().gameObjects());
+        final List<Coord2D> positions = objects.stream().map(MutableObject::getPosition).toList();
+        rendering.set(true);
+        controller.render(1);
+        rendering.set(false);
+        assertEquals(graphics.size() - 1, view.getUnmodifiableControls().size());
+        assertTrue(view.getUnmodifiableControls().stream().noneMatch(g -> g.getID() == removed.getID()));
+        assertEquals(objects, List.copyOf(model.getWorld().gameObjects()));
+        assertEquals(positions, objects.stream().map(MutableObject::getPosition).toList());
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.paradoxplatformer.controller.games;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.gameloop.DegradationLevel;
+import com.project.paradoxplatformer.model.entity.MutableObjectSnapshot;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+import com.project.paradoxplatformer.utils.geometries.vector.api.Simple2DVector;
+
+/**
+ * Unit tests for {@link RenderSnapshot}.
+ */
+class RenderSnapshotTest {
+
+    private static final int ID = 1;
+    private static final double[] ALPHAS = {0, 0.25, 0.5, 0.75, 1};
+
+    private static MutableObjectSnapshot at(final double x) {
+        return new MutableObjectSnapshot(ID, new Coord2D(x, 0), new Dimension(1, 1),
+                new Simple2DVector(0, 0), 1, CollisionType.PLATFORM);
+    }
+
+    private static double renderedX(final RenderSnapshot<Void> snapshot, final double alpha) {
+        final List<Double> xs = new ArrayList<>();
+        snapshot.forEachInterpolated(alpha, (state, graphic) -> xs.add(state.getPosition().x()));
+        return xs.get(0);
+    }
+
+    /**
+     * Tests that the ends of the blending show the previous and the current
+     * state of an object, and that an object first seen in a snapshot, whose
+     * previous state is its current one, is shown where it is rather than
+     * blended from a state it never had.
+     */
+    @Test
+    void testInterpolation() {
+        final RenderSnapshot<Void> snapshot = new RenderSnapshot<>(1, List.of(
+                new RenderSnapshot.Entry<>(at(10), at(20), null)));
+        assertEquals(10, renderedX(snapshot, 0));
+        assertEquals(15, renderedX(snapshot, 0.5));
+        assertEquals(20, renderedX(snapshot, 1));
+
+        final MutableObjectSnapshot spawned = at(30);
+        final RenderSnapshot<Void> added = new RenderSnapshot<>(2, List.of(
+                new RenderSnapshot.Entry<>(spawned, spawned, null)));
+        for (final double alpha : ALPHAS) {
+            assertEquals(30, renderedX(added, alpha));
+        }
+    }
+
+    /**
+     * Tests that an object moving forward every step is never rendered going
+     * back when the view is synchronized once every several steps, as the
+     * most degraded default level does: snapshots are published spanning the
+     * steps since the previous one and aged on the other steps, the way the
+     * controller does.
+     */
+    @Test
+    void testDegradedSyncNeverMovesBack() {
+        final List<DegradationLevel> levels = DegradationLevel.defaults();
+        final int interval = levels.get(levels.size() - 1).viewSyncInterval();
+        assertTrue(interval > 1);
+
+        RenderSnapshot<Void> snapshot = new RenderSnapshot<>(0, List.of(
+                new RenderSnapshot.Entry<>(at(0), at(0), null)));
+        double published = 0;
+        int unsynced = 0;
+        double last = Double.NEGATIVE_INFINITY;
+        for (int step = 1; step <= 10 * interval; step++) {
+            unsynced++;
+            if (unsynced >= interval) {
+                snapshot = new RenderSnapshot<>(step, unsynced, 0, List.of(
+                        new RenderSnapshot.Entry<>(at(published), at(step), null)));
+                published = step;
+                unsynced = 0;
+            } else {
+                snapshot = snapshot.aged();
+            }
+            for (final double alpha : ALPHAS) {
+                final double x = renderedX(snapshot, alpha);
+                assertTrue(x >= last, "moved back to " + x + " from " + last + " at step " + step);
+                last = x;
+            }
+        }
+    }
+}
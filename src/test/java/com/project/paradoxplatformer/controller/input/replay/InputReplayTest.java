@@ -0,0 +1,109 @@
+package com.project.paradoxplatformer.controller.input.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.input.KeyAssetterImpl;
+import com.project.paradoxplatformer.controller.input.api.InputType;
+import com.project.paradoxplatformer.controller.input.api.KeyAssetter;
+import com.project.paradoxplatformer.controller.input.api.KeyInputer;
+
+/**
+ * Tests that {@link InputReplayer} plays back exactly what
+ * {@link InputRecorder} recorded.
+ */
+class InputReplayTest {
+
+    private static final int HELD_TICKS = 300;
+
+    /**
+     * Records a session with held, combined and untranslated keys, then checks
+     * the replay tick by tick.
+     */
+    @Test
+    void testRoundTrip() throws IOException {
+        final KeyAssetter<String> keys = new KeyAssetterImpl<>(InputType::getString);
+        final KeyInputer<String> keyboard = new KeyInputer<>() {
+            @Override
+            public KeyAssetter<String> getKeyAssetter() {
+                return new KeyAssetterImpl<>(keys);
+            }
+
+            @Override
+            public void activateKeyInput(final Runnable activateInput) {
+                // No-op implementation
+            }
+        };
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        final List<Set<Optional<InputType>>> seen = new ArrayList<>();
+
+        try (InputRecorder<String> recorder = new InputRecorder<>(keyboard, log)) {
+            seen.add(recorder.getKeyAssetter().getUnmodifiablePool());
+            keys.add("D");
+            for (int i = 0; i < HELD_TICKS; i++) {
+                seen.add(recorder.getKeyAssetter().getUnmodifiablePool());
+            }
+            keys.add("W");
+            keys.add("unknown");
+            seen.add(recorder.getKeyAssetter().getUnmodifiablePool());
+            keys.remove("D");
+            keys.remove("W");
+            keys.remove("unknown");
+            seen.add(recorder.getKeyAssetter().getUnmodifiablePool());
+        }
+
+        final InputReplayer<String> replayer = new InputReplayer<>(new ByteArrayInputStream(log.toByteArray()));
+        assertEquals(seen.size(), replayer.length());
+        for (final Set<Optional<InputType>> expected : seen) {
+            assertFalse(replayer.isFinished());
+            assertEquals(Set.copyOf(expected), replayer.getKeyAssetter().getUnmodifiablePool());
+        }
+        assertTrue(replayer.isFinished());
+        assertTrue(replayer.getKeyAssetter().getUnmodifiablePool().isEmpty());
+    }
+
+    /**
+     * Tests that held keys are not written again on every tick.
+     */
+    @Test
+    void testCompactness() throws IOException {
+        final KeyAssetter<String> keys = new KeyAssetterImpl<>(InputType::getString);
+        keys.add("D");
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        try (InputRecorder<String> recorder = new InputRecorder<>(new KeyInputer<>() {
+            @Override
+            public KeyAssetter<String> getKeyAssetter() {
+                return keys;
+            }
+
+            @Override
+            public void activateKeyInput(final Runnable activateInput) {
+                // No-op implementation
+            }
+        }, log)) {
+            for (int i = 0; i < HELD_TICKS; i++) {
+                recorder.getKeyAssetter();
+            }
+        }
+        assertTrue(log.size() < 16, "A held key should be logged once");
+    }
+
+    /**
+     * Tests that streams not holding a log are rejected.
+     */
+    @Test
+    void testInvalidLog() {
+        assertThrows(IOException.class, () -> new InputReplayer<>(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+}
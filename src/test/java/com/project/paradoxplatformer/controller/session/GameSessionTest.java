@@ -0,0 +1,96 @@
+package com.project.paradoxplatformer.controller.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.controller.event.GameEventType;
+import com.project.paradoxplatformer.model.endgame.DeathCondition;
+import com.project.paradoxplatformer.model.endgame.condition.DeathObstacleCollisionCondition;
+
+/**
+ * Unit tests for {@link GameSession}, checking that sessions do not interfere
+ * with each other.
+ */
+class GameSessionTest {
+
+    private static final int SESSIONS = 8;
+    private static final int TICKS = 1000;
+
+    /**
+     * Tests that binding a session makes it current only while bound.
+     */
+    @Test
+    void testBinding() {
+        final GameSession global = GameSession.current();
+        final GameSession outer = new GameSession((id, level) -> { });
+        final GameSession inner = new GameSession((id, level) -> { });
+        outer.run(() -> {
+            assertSame(outer, GameSession.current());
+            inner.run(() -> assertSame(inner, GameSession.current()));
+            assertSame(outer, GameSession.current());
+        });
+        assertSame(global, GameSession.current());
+    }
+
+    /**
+     * Tests that the death of the player is only seen by its own session.
+     */
+    @Test
+    void testDeathIsScoped() {
+        final DeathCondition condition = new DeathObstacleCollisionCondition();
+        final GameSession dead = new GameSession((id, level) -> { });
+        final GameSession alive = new GameSession((id, level) -> { });
+        dead.setPlayerDead(true);
+        assertTrue(dead.call(condition::death));
+        assertFalse(alive.call(condition::death));
+    }
+
+    /**
+     * Tests that sessions ticking concurrently only receive their own events.
+     */
+    @Test
+    void testConcurrentSessions() throws Exception {
+        final List<GameSession> sessions = new ArrayList<>();
+        final List<AtomicInteger> received = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            final GameSession session = new GameSession((id, level) -> { });
+            final AtomicInteger count = new AtomicInteger();
+            session.events().subscribe(GameEventType.REMOVE_OBJECT, (id, o) -> count.incrementAndGet());
+            sessions.add(session);
+            received.add(count);
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(SESSIONS / 2);
+        try {
+            final List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                final GameSession session = sessions.get(i);
+                final int ticks = TICKS * (i + 1);
+                runs.add(pool.submit(() -> session.run(() -> {
+                    for (int t = 0; t < ticks; t++) {
+                        GameSession.current().events().publish(GameEventType.REMOVE_OBJECT, null, null);
+                        GameSession.current().clock().advance(1);
+                    }
+                })));
+            }
+            for (final Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < SESSIONS; i++) {
+            assertEquals(TICKS * (i + 1), received.get(i).get());
+            assertEquals(TICKS * (i + 1), sessions.get(i).clock().now());
+        }
+    }
+}
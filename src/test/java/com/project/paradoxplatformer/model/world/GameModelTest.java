@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -169,4 +171,18 @@ class GameModelTest {
         platformModelData.actionOnWorld(checkPlayerExists);
     }
 
+    /**
+     * Tests that obstacles and triggers without trajectory are indexed as static
+     * colliders, while the player is not.
+     */
+    @Test
+    void testStaticColliders() {
+        platformModelData.init();
+        final World world = platformModelData.getWorld();
+
+        assertEquals(2, world.staticColliders().size(), "Obstacle and trigger never move.");
+        assertTrue(world.staticColliders().contains(world.obstacles().iterator().next()));
+        assertTrue(world.staticColliders().contains(world.triggers().iterator().next()));
+        assertFalse(world.staticColliders().contains(world.player()));
+    }
 }
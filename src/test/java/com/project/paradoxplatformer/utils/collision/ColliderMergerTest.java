@@ -0,0 +1,82 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.obstacles.Wall;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link ColliderMerger}.
+ */
+class ColliderMergerTest {
+
+    private static final int TILES = 10;
+    private static final double TILE = 16;
+
+    /**
+     * Tests that a floor made of tiles becomes a single collider, indexed in
+     * place of its tiles.
+     */
+    @Test
+    void testMergeTiles() {
+        final List<CollidableGameObject> tiles = new ArrayList<>();
+        for (int row = 0; row < 2; row++) {
+            for (int i = 0; i < TILES; i++) {
+                tiles.add(platform(row * TILES + i, i * TILE, row * TILE, TILE, TILE));
+            }
+        }
+        final MergedColliders merged = ColliderMerger.merge(tiles);
+        assertEquals(1, merged.colliders().size());
+        assertEquals(1 - 1.0 / (2 * TILES), merged.reductionRatio(), 1e-9);
+        final MergedCollider floor = (MergedCollider) merged.colliders().get(0);
+        assertEquals(new BoundingBox(0, 0, TILES * TILE, 2 * TILE), BoundingBox.of(floor));
+        assertEquals(2 * TILES, floor.parts().size());
+
+        final StaticColliderIndex index = StaticColliderIndex.of(merged.colliders());
+        assertEquals(1, index.size());
+        assertTrue(tiles.stream().allMatch(index::contains));
+    }
+
+    /**
+     * Tests that only boxes whose union is a box, of the same type, are merged.
+     */
+    @Test
+    void testMergeKeepsShape() {
+        final List<CollidableGameObject> colliders = List.of(
+                // an L shape, two boxes at best
+                platform(0, 0, 0, 30, 10),
+                platform(1, 0, 10, 10, 20),
+                // inside the first box
+                platform(2, 5, 2, 5, 5),
+                // apart
+                platform(3, 100, 0, 10, 10),
+                // touching the first box, but a wall
+                new Wall(4, new Coord2D(30, 0), new Dimension(10, 10), new LinkedList<>()));
+        final MergedColliders merged = ColliderMerger.merge(colliders);
+        assertEquals(4, merged.colliders().size());
+        assertTrue(merged.colliders().contains(colliders.get(1)));
+        assertTrue(merged.colliders().contains(colliders.get(3)));
+        assertTrue(merged.colliders().contains(colliders.get(4)));
+        assertTrue(merged.colliders().stream()
+                .filter(MergedCollider.class::isInstance)
+                .map(BoundingBox::of)
+                .allMatch(new BoundingBox(0, 0, 30, 10)::equals));
+    }
+
+    private static Platform platform(final int id, final double x, final double y, final double width,
+            final double height) {
+        return new Platform(id, new Coord2D(x, y), new Dimension(width, height), new LinkedList<>());
+    }
+}
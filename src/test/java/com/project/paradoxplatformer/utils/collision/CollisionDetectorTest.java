@@ -1,14 +1,23 @@
 package com.project.paradoxplatformer.utils.collision;
 
 import com.project.paradoxplatformer.model.trigger.Button;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.collision.broadphase.SweepAndPruneBroadPhase;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
 import com.project.paradoxplatformer.utils.geometries.Dimension;
 import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -84,4 +93,38 @@ class CollisionDetectorTest {
 
         assertFalse(CollisionDetector.hasCollision(button1, buttons), "Button1 should not collide with Button3.");
     }
+
+    /**
+     * Tests that a player indexed by the broad phase is looked up as an object,
+     * reading the overlaps the broad phase keeps, rather than by its bounds.
+     */
+    @Test
+    void testDetectQueriesIndexedPlayer() {
+        final BroadPhase sweepAndPrune = new SweepAndPruneBroadPhase();
+        final BroadPhase broadPhase = new BroadPhase() {
+            @Override
+            public void update(final Collection<? extends CollidableGameObject> objects) {
+                sweepAndPrune.update(objects);
+            }
+
+            @Override
+            public Set<CollidableGameObject> query(final BoundingBox box) {
+                throw new AssertionError("the player was looked up by its bounds");
+            }
+
+            @Override
+            public Optional<BoundingBox> bounds() {
+                return sweepAndPrune.bounds();
+            }
+
+            @Override
+            public Set<CollidableGameObject> query(final CollidableGameObject object) {
+                return sweepAndPrune.query(object);
+            }
+        };
+        broadPhase.update(List.of(button1, button2, button3));
+
+        assertEquals(Set.of(button2), CollisionDetector.detect(StaticColliderIndex.empty(), object -> true,
+                button1, broadPhase));
+    }
 }
@@ -0,0 +1,79 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Coin;
+import com.project.paradoxplatformer.model.obstacles.Wall;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.broadphase.SpatialHashBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link CollisionFilter}.
+ */
+class CollisionFilterTest {
+
+    private static final Dimension SIZE = new Dimension(10, 10);
+
+    /**
+     * Tests that the default filter only keeps pairs with the player, and that
+     * the matrix stays symmetric.
+     */
+    @Test
+    void testPlayerOnly() {
+        final CollisionFilter filter = CollisionFilter.playerOnly();
+        for (final CollisionType type : CollisionType.values()) {
+            assertTrue(filter.canCollide(CollisionType.PLAYER, type));
+            assertTrue(filter.canCollide(type, CollisionType.PLAYER));
+        }
+        assertFalse(filter.canCollide(CollisionType.COLLECTING, CollisionType.WALLS));
+        assertFalse(filter.canCollide(CollisionType.WALLS, CollisionType.COLLECTING));
+
+        final CollisionFilter edited = filter.toBuilder()
+                .allow(CollisionType.COLLECTING, CollisionType.WALLS)
+                .deny(CollisionType.PLAYER, CollisionType.SAW)
+                .build();
+        assertTrue(edited.canCollide(CollisionType.WALLS, CollisionType.COLLECTING));
+        assertFalse(edited.canCollide(CollisionType.SAW, CollisionType.PLAYER));
+        assertTrue(filter.canCollide(CollisionType.SAW, CollisionType.PLAYER), "Filters are immutable.");
+    }
+
+    /**
+     * Tests that an object overriding its mask is only kept from colliding
+     * where its override says so, and that culled pairs are never reported.
+     */
+    @Test
+    void testOverride() {
+        final PlayerModel player = new PlayerModel(0, new Coord2D(0, 0), SIZE);
+        final Wall ghostWall = new Wall(1, new Coord2D(5, 0), SIZE, new LinkedList<>());
+        final Coin coin = new Coin(2, new Coord2D(0, 5), SIZE, new LinkedList<>());
+        final CollisionFilter filter = CollisionFilter.playerOnly().toBuilder()
+                .override(ghostWall, Set.of())
+                .build();
+
+        assertEquals(0, filter.mask(ghostWall));
+        assertFalse(filter.canCollide(player, ghostWall));
+        assertTrue(filter.canCollide(player, coin));
+
+        final List<CollidableGameObject> statics = List.of(ghostWall, coin);
+        final SpatialHashBroadPhase broadPhase = new SpatialHashBroadPhase();
+        broadPhase.update(List.of(player));
+        assertEquals(Set.of(coin), CollisionDetector.detect(StaticColliderIndex.of(statics), o -> true, player,
+                broadPhase, filter));
+        assertEquals(Set.of(ghostWall, coin), CollisionDetector.detect(StaticColliderIndex.of(statics), o -> true,
+                player, broadPhase, CollisionFilter.all()));
+        assertEquals(EnumSet.allOf(CollisionType.class).size(), Integer.bitCount(CollisionFilter.all().mask(coin)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.effect.api.Effect;
+import com.project.paradoxplatformer.model.effect.api.EffectHandler;
+import com.project.paradoxplatformer.model.effect.impl.EffectHandlerImpl;
+import com.project.paradoxplatformer.model.effect.impl.HorizontalBlockEffect;
+import com.project.paradoxplatformer.model.obstacles.Wall;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link CollisionObserver}.
+ */
+class CollisionObserverTest {
+
+    private static final int TICKS = 2;
+
+    private static EffectHandler recording(final CollidableGameObject object, final List<String> events) {
+        final EffectHandler effectHandler = new EffectHandlerImpl();
+        effectHandler.addCollisionEffectsForObject(object.getCollisionType(), object, () -> new Effect() {
+            @Override
+            public CompletableFuture<Void> apply(final Optional<? extends CollidableGameObject> target,
+                    final Optional<? extends CollidableGameObject> self) {
+                events.add("apply");
+                return Effect.empty();
+            }
+
+            @Override
+            public boolean isOneTimeEffect() {
+                return false;
+            }
+
+            @Override
+            public Effect recreate() {
+                events.add("reset");
+                return this;
+            }
+        });
+        return effectHandler;
+    }
+
+    /**
+     * Tests that an object only sharing a corner with the player, having no
+     * contact with it, still gets its effects applied on every tick they touch
+     * and is not seen as left, both for the player and for pairs of objects.
+     */
+    @Test
+    void testCornerContact() {
+        final PlayerModel player = new PlayerModel(0, new Coord2D(0, 0), new Dimension(10, 10));
+        final Wall wall = new Wall(1, new Coord2D(10, 10), new Dimension(10, 10), new LinkedList<>());
+        assertEquals(Optional.empty(), Manifold.between(player, wall));
+
+        final List<String> events = new ArrayList<>();
+        final CollisionObserver observer = new CollisionObserver(recording(wall, events));
+        for (int tick = 0; tick < TICKS; tick++) {
+            observer.observeCollisions(Set.of(wall), Map.of(), player);
+        }
+        assertEquals(List.of("apply", "apply"), events);
+
+        final List<String> pairEvents = new ArrayList<>();
+        final CollisionObserver pairObserver = new CollisionObserver(recording(wall, pairEvents));
+        final List<CollisionPair> pairs = List.of(CollisionPair.of(player, wall, PairwiseCollision.BY_ID));
+        for (int tick = 0; tick < TICKS; tick++) {
+            pairObserver.observeCollisions(pairs, Map.of());
+        }
+        assertEquals(List.of("apply", "apply"), pairEvents);
+    }
+
+    /**
+     * Tests that a player only touching a corner of a wall is not blocked by
+     * it, whichever way it faces.
+     */
+    @Test
+    void testCornerContactDoesNotBlock() {
+        final PlayerModel player = new PlayerModel(0, new Coord2D(0, 0), new Dimension(10, 10));
+        final Wall wall = new Wall(1, new Coord2D(10, 10), new Dimension(10, 10), new LinkedList<>());
+        final EffectHandler effectHandler = new EffectHandlerImpl();
+        effectHandler.addCollisionEffectsForType(CollisionType.WALLS, HorizontalBlockEffect::new);
+        final CollisionObserver observer = new CollisionObserver(effectHandler);
+
+        player.moveLeft();
+        for (int tick = 0; tick < TICKS; tick++) {
+            observer.observeCollisions(Set.of(wall), Map.of(), player);
+            assertEquals(new Coord2D(0, 0), player.getPosition());
+        }
+    }
+}
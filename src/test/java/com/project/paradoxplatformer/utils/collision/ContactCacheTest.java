@@ -0,0 +1,54 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ContactCache}.
+ */
+class ContactCacheTest {
+
+    /**
+     * Tests that contacts are reported as starting, going on and ending, ended
+     * ones first.
+     */
+    @Test
+    void testTransitions() {
+        final ContactCache<String> cache = new ContactCache<>();
+        final List<String> events = new ArrayList<>();
+        final ContactListener<String> listener = new ContactListener<>() {
+            @Override
+            public void onEnter(final String contact) {
+                events.add("enter " + contact);
+            }
+
+            @Override
+            public void onStay(final String contact) {
+                events.add("stay " + contact);
+            }
+
+            @Override
+            public void onExit(final String contact) {
+                events.add("exit " + contact);
+            }
+        };
+
+        cache.update(List.of("a", "b"), listener);
+        assertEquals(List.of("enter a", "enter b"), events);
+
+        events.clear();
+        cache.update(List.of("b", "c"), listener);
+        assertEquals(List.of("exit a", "stay b", "enter c"), events);
+        assertEquals(Set.of("b", "c"), cache.contacts());
+
+        events.clear();
+        cache.update(List.of(), listener);
+        assertEquals(List.of("exit b", "exit c"), events);
+        assertTrue(cache.contacts().isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link GroundContact} and the player keeping its support.
+ */
+class GroundContactTest {
+
+    private static final long DT = 16;
+
+    private final CollidableGameObject floor = new Floor(1, new Coord2D(-50, -10), new Dimension(100, 10));
+
+    /**
+     * Tests when a box stands on another one.
+     */
+    @Test
+    void testStandsOn() {
+        final BoundingBox support = BoundingBox.of(this.floor);
+        assertTrue(GroundContact.standsOn(new BoundingBox(0, 0, 10, 20), support));
+        assertFalse(GroundContact.standsOn(new BoundingBox(0, 1, 10, 21), support));
+        assertFalse(GroundContact.standsOn(new BoundingBox(0, -5, 10, 15), support));
+        // only sharing a corner is not standing
+        assertFalse(GroundContact.standsOn(new BoundingBox(50, 0, 60, 20), support));
+    }
+
+    /**
+     * Tests that the player keeps its support while standing still, and loses
+     * it when moved away or jumping.
+     */
+    @Test
+    void testPlayerSupport() {
+        final PlayerModel player = new PlayerModel();
+        player.land(this.floor);
+        assertEquals(Optional.of(this.floor), player.getSupport());
+
+        player.updateState(DT);
+        assertEquals(Optional.of(this.floor), player.getSupport());
+        assertEquals(0, player.getPosition().y());
+
+        player.clipStep(new Coord2D(200, 0));
+        player.updateState(DT);
+        assertTrue(player.getSupport().isEmpty());
+
+        player.clipStep(Coord2D.origin());
+        player.land(this.floor);
+        player.jump();
+        assertTrue(player.getSupport().isEmpty());
+    }
+}
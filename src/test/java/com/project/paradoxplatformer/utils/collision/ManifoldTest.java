@@ -0,0 +1,82 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Coin;
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.obstacles.Wall;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link Manifold} and {@link ContactResolver}.
+ */
+class ManifoldTest {
+
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests the normal, depth and edge of contacts along both axes.
+     */
+    @Test
+    void testOf() {
+        final BoundingBox ground = new BoundingBox(0, 0, 100, 10);
+        final Manifold landed = Manifold.of(new BoundingBox(20, 8, 30, 28), ground).orElseThrow();
+        assertTrue(landed.isGround());
+        assertFalse(landed.isHorizontal());
+        assertEquals(2, landed.depth(), DELTA);
+        assertEquals(new Coord2D(20, 10), landed.edgeStart());
+        assertEquals(new Coord2D(30, 10), landed.edgeEnd());
+
+        final Manifold side = Manifold.of(new BoundingBox(95, 2, 105, 22), ground).orElseThrow();
+        assertTrue(side.isHorizontal());
+        assertEquals(1, side.normalX(), DELTA);
+        assertEquals(5, side.depth(), DELTA);
+        assertEquals(-1, side.flip().normalX(), DELTA);
+
+        // resting exactly on top still is a contact, sharing a corner or being apart is not
+        final Manifold resting = Manifold.of(new BoundingBox(20, 10, 30, 30), ground).orElseThrow();
+        assertTrue(resting.isGround());
+        assertEquals(0, resting.depth(), DELTA);
+        assertEquals(Optional.empty(), Manifold.of(new BoundingBox(100, 10, 110, 30), ground));
+        assertEquals(Optional.empty(), Manifold.of(new BoundingBox(20, 11, 30, 31), ground));
+    }
+
+    /**
+     * Tests that the player is pushed out of the solids it overlaps in one
+     * step, the deepest overlap winning, while other objects are ignored.
+     */
+    @Test
+    void testResolve() {
+        final PlayerModel player = new PlayerModel(0, new Coord2D(20, 7), new Dimension(10, 20));
+        final Map<CollidableGameObject, Manifold> manifolds = new LinkedHashMap<>();
+        final Platform ground = new Platform(1, new Coord2D(0, 0), new Dimension(25, 10), new LinkedList<>());
+        final Platform step = new Platform(2, new Coord2D(25, 0), new Dimension(25, 9), new LinkedList<>());
+        final Wall wall = new Wall(3, new Coord2D(28, 15), new Dimension(10, 40), new LinkedList<>());
+        final Coin coin = new Coin(4, new Coord2D(15, 10), new Dimension(10, 10), new LinkedList<>());
+        for (final CollidableGameObject other : List.of(ground, step, wall, coin)) {
+            Manifold.between(player, other).ifPresent(manifold -> manifolds.put(other, manifold));
+        }
+
+        assertTrue(new ContactResolver().resolve(player, manifolds));
+        assertEquals(new Coord2D(18, 10), player.getPosition());
+
+        manifolds.clear();
+        for (final CollidableGameObject other : List.of(ground, step, wall, coin)) {
+            Manifold.between(player, other).ifPresent(manifold -> manifolds.put(other, manifold));
+        }
+        assertFalse(new ContactResolver().resolve(player, manifolds), "Already separated.");
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.SpatialHashBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.collision.soa.ScalarOverlapKernel;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link PairwiseCollision}, checked against testing every pair.
+ */
+class PairwiseCollisionTest {
+
+    private static final long SEED = 3;
+    private static final int DYNAMIC = 300;
+    private static final int STATIC = 100;
+    private static final double WORLD = 1000;
+    private static final double MAX_SIZE = 60;
+    private static final int PARALLELISM = 4;
+    private static final int SMALL_THRESHOLD = 8;
+
+    /**
+     * Tests that the pairs found, split across threads or not, are exactly the
+     * colliding ones with a moving object, in the same order.
+     */
+    @Test
+    void testMatchesBruteForce() {
+        final Random random = new Random(SEED);
+        final List<CollidableGameObject> dynamic = objects(random, 0, DYNAMIC);
+        final List<CollidableGameObject> statics = objects(random, DYNAMIC, STATIC);
+        final StaticColliderIndex index = StaticColliderIndex.of(statics);
+
+        final List<CollisionPair> expected = new ArrayList<>();
+        final List<CollidableGameObject> all = new ArrayList<>(dynamic);
+        all.addAll(statics);
+        for (int i = 0; i < DYNAMIC; i++) {
+            for (int j = i + 1; j < all.size(); j++) {
+                if (CollisionDetector.isColliding(all.get(i), all.get(j))) {
+                    expected.add(CollisionPair.of(all.get(i), all.get(j), PairwiseCollision.BY_ID));
+                }
+            }
+        }
+        expected.sort(CollisionPair.order(PairwiseCollision.BY_ID));
+        assertFalse(expected.isEmpty());
+
+        final ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            final List<PairwiseCollision> detectors = List.of(
+                    new PairwiseCollision(),
+                    new PairwiseCollision(pool, PairwiseCollision.BY_ID, SMALL_THRESHOLD),
+                    new PairwiseCollision(pool, PairwiseCollision.BY_ID, SMALL_THRESHOLD, new ScalarOverlapKernel()));
+            for (final PairwiseCollision detector : detectors) {
+                final List<CollidableGameObject> shuffled = new ArrayList<>(dynamic);
+                Collections.shuffle(shuffled, random);
+                final BroadPhase broadPhase = new SpatialHashBroadPhase();
+                broadPhase.update(shuffled);
+                assertEquals(expected, detector.detect(shuffled, index, o -> true, broadPhase));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<CollidableGameObject> objects(final Random random, final int firstId, final int count) {
+        final List<CollidableGameObject> objects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            objects.add(new Floor(firstId + i,
+                    new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE)));
+        }
+        return objects;
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.paradoxplatformer.utils.collision;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.obstacles.Wall;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link SweptCollision}.
+ */
+class SweptCollisionTest {
+
+    private static final double DELTA = 1e-9;
+    private static final Dimension PLAYER_SIZE = new Dimension(10, 20);
+
+    /**
+     * Tests the time of impact and the normal of a sweep.
+     */
+    @Test
+    void testSweep() {
+        final BoundingBox box = new BoundingBox(0, 0, 10, 10);
+        final Optional<Impact> impact = SweptCollision.sweep(box, 40, 0, new BoundingBox(20, 0, 22, 10));
+        assertTrue(impact.isPresent());
+        assertEquals(0.25, impact.get().time(), DELTA);
+        assertTrue(impact.get().isHorizontal());
+        assertEquals(-1, impact.get().normalX(), DELTA);
+
+        // grazing, moving away, too short and already overlapping never hit
+        assertTrue(SweptCollision.sweep(box, 40, 0, new BoundingBox(20, 10, 22, 20)).isEmpty());
+        assertTrue(SweptCollision.sweep(box, -40, 0, new BoundingBox(20, 0, 22, 10)).isEmpty());
+        assertTrue(SweptCollision.sweep(box, 5, 0, new BoundingBox(20, 0, 22, 10)).isEmpty());
+        assertTrue(SweptCollision.sweep(box, 40, 0, new BoundingBox(5, 5, 22, 10)).isEmpty());
+    }
+
+    /**
+     * Tests that a step crossing a thin wall entirely is cut at the wall.
+     */
+    @Test
+    void testNoTunneling() {
+        final Wall wall = new Wall(1, new Coord2D(50, 0), new Dimension(2, 100), new LinkedList<>());
+        final PlayerModel player = new PlayerModel(0, new Coord2D(0, 10), PLAYER_SIZE);
+        player.setPosition(new Coord2D(100, 10));
+
+        final Set<CollidableGameObject> contacts = new SweptCollision().resolve(player, box -> List.of(wall));
+        assertEquals(Set.of(wall), contacts);
+        assertEquals(new Coord2D(40, 10), player.getPosition());
+    }
+
+    /**
+     * Tests that a player falling onto adjacent platforms while running lands on
+     * the one below it, then slides over the seam without catching on the other.
+     */
+    @Test
+    void testSlidesAcrossSeams() {
+        final Platform left = new Platform(1, new Coord2D(0, 100), new Dimension(50, 10), new LinkedList<>());
+        final Platform right = new Platform(2, new Coord2D(50, 100), new Dimension(50, 10), new LinkedList<>());
+        final PlayerModel player = new PlayerModel(0, new Coord2D(30, 70), PLAYER_SIZE);
+        player.setPosition(new Coord2D(60, 130));
+
+        final Set<CollidableGameObject> contacts = new SweptCollision().resolve(player, box -> List.of(left, right));
+        assertEquals(Set.of(left), contacts);
+        assertEquals(new Coord2D(60, 80), player.getPosition());
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Checks every {@link BroadPhase} against a brute force search, while objects
+ * are added, moved and removed.
+ */
+class BroadPhaseTest {
+
+    private static final long SEED = 42;
+    private static final int OBJECTS = 200;
+    private static final int TICKS = 50;
+    private static final double WORLD = 2000;
+    private static final double MAX_SIZE = 120;
+    private static final double MAX_STEP = 15;
+
+    private static final List<Supplier<BroadPhase>> IMPLEMENTATIONS = List.of(
+            SpatialHashBroadPhase::new,
+            () -> new SpatialHashBroadPhase(7),
+            SweepAndPruneBroadPhase::new,
+            DynamicTreeBroadPhase::new,
+            () -> new DynamicTreeBroadPhase(0));
+
+    /**
+     * Tests that queries find exactly the objects overlapping the queried box.
+     */
+    @Test
+    void testMatchesBruteForce() {
+        IMPLEMENTATIONS.forEach(this::checkAgainstBruteForce);
+    }
+
+    /**
+     * Tests that objects no longer given to the update are dropped.
+     */
+    @Test
+    void testRemoval() {
+        IMPLEMENTATIONS.forEach(factory -> {
+            final BroadPhase broadPhase = factory.get();
+            final Floor a = new Floor(0, new Coord2D(0, 0), new Dimension(10, 10));
+            final Floor b = new Floor(1, new Coord2D(5, 5), new Dimension(10, 10));
+            broadPhase.update(List.of(a, b));
+            assertEquals(Set.of(b), broadPhase.query(a));
+            broadPhase.update(List.of(a));
+            assertTrue(broadPhase.query(a).isEmpty());
+        });
+    }
+
+    private void checkAgainstBruteForce(final Supplier<BroadPhase> factory) {
+        final Random random = new Random(SEED);
+        final BroadPhase broadPhase = factory.get();
+        final List<Floor> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            objects.add(new Floor(i, new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE)));
+        }
+        for (int tick = 0; tick < TICKS; tick++) {
+            objects.stream().filter(o -> random.nextBoolean()).forEach(o -> o.setPosition(new Coord2D(
+                    o.getPosition().x() + (random.nextDouble() - 0.5) * MAX_STEP,
+                    o.getPosition().y() + (random.nextDouble() - 0.5) * MAX_STEP)));
+            if (tick % 10 == 0) {
+                objects.remove(random.nextInt(objects.size()));
+            }
+            broadPhase.update(objects);
+            for (final Floor object : objects) {
+                final BoundingBox box = BoundingBox.of(object);
+                final Set<CollidableGameObject> expected = objects.stream()
+                        .filter(o -> o != object && BoundingBox.of(o).overlaps(box))
+                        .collect(Collectors.toSet());
+                assertEquals(expected, broadPhase.query(object));
+            }
+        }
+    }
+}
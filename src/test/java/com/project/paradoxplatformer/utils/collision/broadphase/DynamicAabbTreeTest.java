@@ -0,0 +1,63 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+
+/**
+ * Unit tests for {@link DynamicAabbTree}, checking that it stays balanced and
+ * that small moves are absorbed by the fattened boxes.
+ */
+class DynamicAabbTreeTest {
+
+    private static final int ITEMS = 1024;
+    private static final int MAX_HEIGHT = 20; // twice log2(ITEMS)
+    private static final double MARGIN = 2;
+
+    /**
+     * Tests that items inserted in order, the worst case for a naive tree, still
+     * give a logarithmic height, also after half of them are removed.
+     */
+    @Test
+    void testBalanced() {
+        final DynamicAabbTree<Integer> tree = new DynamicAabbTree<>(MARGIN);
+        for (int i = 0; i < ITEMS; i++) {
+            tree.insert(i, new BoundingBox(i, 0, i + 1, 1));
+        }
+        assertEquals(ITEMS, tree.size());
+        assertTrue(tree.height() <= MAX_HEIGHT, "Height was " + tree.height());
+
+        for (int i = 0; i < ITEMS; i += 2) {
+            tree.remove(i);
+        }
+        assertTrue(tree.height() <= MAX_HEIGHT, "Height was " + tree.height());
+
+        final List<Integer> found = new ArrayList<>();
+        tree.query(new BoundingBox(10.5, 0, 13.5, 1), found::add);
+        assertEquals(List.of(11, 13), found.stream().sorted().toList());
+    }
+
+    /**
+     * Tests that moves within the margin do not touch the tree.
+     */
+    @Test
+    void testFattening() {
+        final DynamicAabbTree<String> tree = new DynamicAabbTree<>(MARGIN);
+        tree.insert("a", new BoundingBox(0, 0, 1, 1));
+        assertFalse(tree.move("a", new BoundingBox(1, 1, 2, 2)));
+        assertTrue(tree.move("a", new BoundingBox(10, 10, 11, 11)));
+
+        final List<String> found = new ArrayList<>();
+        tree.query(new BoundingBox(0, 0, 1, 1), found::add);
+        assertTrue(found.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> tree.insert("a", new BoundingBox(0, 0, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> tree.remove("b"));
+    }
+}
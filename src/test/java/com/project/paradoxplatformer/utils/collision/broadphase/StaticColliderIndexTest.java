@@ -0,0 +1,73 @@
+package com.project.paradoxplatformer.utils.collision.broadphase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link StaticColliderIndex}, checked against a brute force
+ * search.
+ */
+class StaticColliderIndexTest {
+
+    private static final long SEED = 7;
+    private static final int OBJECTS = 300;
+    private static final int QUERIES = 200;
+    private static final double WORLD = 2000;
+    private static final double MAX_SIZE = 400;
+
+    /**
+     * Tests that queries find exactly the colliders overlapping the queried box,
+     * with platforms of very different sizes.
+     */
+    @Test
+    void testMatchesBruteForce() {
+        final Random random = new Random(SEED);
+        final List<CollidableGameObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            objects.add(new Floor(i,
+                    new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE / 10)));
+        }
+        final StaticColliderIndex index = StaticColliderIndex.of(objects);
+        assertEquals(OBJECTS, index.size());
+
+        for (int q = 0; q < QUERIES; q++) {
+            final double x = random.nextDouble() * WORLD;
+            final double y = random.nextDouble() * WORLD;
+            final BoundingBox box = new BoundingBox(x, y, x + random.nextDouble() * MAX_SIZE, y + 30);
+            final Set<CollidableGameObject> expected = objects.stream()
+                    .filter(o -> BoundingBox.of(o).overlaps(box))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.query(box));
+        }
+    }
+
+    /**
+     * Tests that the filter excludes colliders without changing the index.
+     */
+    @Test
+    void testFilter() {
+        final Floor a = new Floor(0, new Coord2D(0, 0), new Dimension(10, 10));
+        final Floor b = new Floor(1, new Coord2D(5, 5), new Dimension(10, 10));
+        final StaticColliderIndex index = StaticColliderIndex.of(List.of(a, b));
+        final Set<CollidableGameObject> found = new HashSet<>();
+        index.query(new BoundingBox(0, 0, 20, 20), c -> !c.equals(a), found::add);
+        assertEquals(Set.of(b), found);
+        assertEquals(Set.of(a, b), index.query(new BoundingBox(0, 0, 20, 20)));
+        assertTrue(StaticColliderIndex.empty().query(new BoundingBox(0, 0, 20, 20)).isEmpty());
+    }
+}
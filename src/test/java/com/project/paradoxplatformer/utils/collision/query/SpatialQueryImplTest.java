@@ -0,0 +1,187 @@
+package com.project.paradoxplatformer.utils.collision.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Platform;
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.PairwiseCollision;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionType;
+import com.project.paradoxplatformer.utils.collision.broadphase.BroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.RayHit;
+import com.project.paradoxplatformer.utils.collision.broadphase.Segment;
+import com.project.paradoxplatformer.utils.collision.broadphase.SpatialHashBroadPhase;
+import com.project.paradoxplatformer.utils.collision.broadphase.StaticColliderIndex;
+import com.project.paradoxplatformer.utils.geometries.BoundingBox;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for {@link SpatialQueryImpl}, checked against scanning every
+ * object.
+ */
+class SpatialQueryImplTest {
+
+    private static final long SEED = 11;
+    private static final int COUNT = 150;
+    private static final int QUERIES = 200;
+    private static final double WORLD = 1000;
+    private static final double MAX_SIZE = 50;
+    private static final double DELTA = 1e-9;
+    private static final Set<CollisionType> ALL = EnumSet.allOf(CollisionType.class);
+
+    private final Random random = new Random(SEED);
+    private final List<CollidableGameObject> statics = new ArrayList<>();
+    private final List<CollidableGameObject> dynamic = new ArrayList<>();
+    private final List<CollidableGameObject> all = new ArrayList<>();
+    private final SpatialQuery query;
+
+    SpatialQueryImplTest() {
+        for (int i = 0; i < COUNT; i++) {
+            this.statics.add(new Floor(i, this.point(), this.size()));
+            this.dynamic.add(new Platform(COUNT + i, this.point(), this.size(), new LinkedList<>()));
+        }
+        this.all.addAll(this.statics);
+        this.all.addAll(this.dynamic);
+        final BroadPhase broadPhase = new SpatialHashBroadPhase();
+        broadPhase.update(this.dynamic);
+        this.query = new SpatialQueryImpl(StaticColliderIndex.of(this.statics), broadPhase, o -> true);
+    }
+
+    /**
+     * Tests region and point queries, with and without a type filter.
+     */
+    @Test
+    void testRegion() {
+        for (int i = 0; i < QUERIES; i++) {
+            final Coord2D corner = this.point();
+            final BoundingBox region = new BoundingBox(corner.x(), corner.y(),
+                    corner.x() + this.random.nextDouble() * MAX_SIZE * 2, corner.y() + this.random.nextDouble() * MAX_SIZE);
+            assertEquals(this.scan(o -> BoundingBox.of(o).overlaps(region), ALL), this.query.region(region, ALL));
+            assertEquals(this.scan(o -> BoundingBox.of(o).overlaps(region), Set.of(CollisionType.FLOOR)),
+                    this.query.region(region, Set.of(CollisionType.FLOOR)));
+
+            final Coord2D point = this.point();
+            final BoundingBox at = new BoundingBox(point.x(), point.y(), point.x(), point.y());
+            assertEquals(this.scan(o -> BoundingBox.of(o).overlaps(at), ALL), this.query.containing(point, ALL));
+        }
+    }
+
+    /**
+     * Tests that ray casts hit the same object as the closest of all hits, at
+     * the same place.
+     */
+    @Test
+    void testRaycast() {
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            final Coord2D from = this.point();
+            final Coord2D to = this.point();
+            final Segment segment = Segment.between(from, to);
+            final Optional<RayHit> expected = this.all.stream()
+                    .map(segment::cast)
+                    .flatMap(Optional::stream)
+                    .min(Comparator.comparingDouble(RayHit::time));
+            final Optional<RayHit> actual = this.query.raycast(from, to, ALL);
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                hits++;
+                assertEquals(expected.get().time(), actual.get().time(), DELTA);
+            }
+        }
+        assertTrue(hits > 0);
+
+        // starting inside an object skips it, the ray leaves through the other side
+        final Floor box = new Floor(0, new Coord2D(0, 0), new Dimension(10, 10));
+        final Segment outwards = Segment.between(new Coord2D(5, 5), new Coord2D(20, 5));
+        assertFalse(outwards.cast(box).isPresent());
+        final RayHit inwards = Segment.between(new Coord2D(-10, 5), new Coord2D(10, 5)).cast(box).orElseThrow();
+        assertEquals(0.5, inwards.time(), DELTA);
+        assertEquals(new Coord2D(0, 5), inwards.point());
+        assertEquals(-1, inwards.normalX(), DELTA);
+    }
+
+    /**
+     * Tests that the nearest object is as close as the closest of all objects,
+     * within the distance looked at.
+     */
+    @Test
+    void testNearest() {
+        for (int i = 0; i < QUERIES; i++) {
+            final Coord2D point = this.point();
+            final double maxDistance = this.random.nextDouble() * MAX_SIZE * 3;
+            for (final Set<CollisionType> types : List.of(ALL, Set.of(CollisionType.PLATFORM))) {
+                final Optional<Double> expected = this.all.stream()
+                        .filter(o -> types.contains(o.getCollisionType()))
+                        .map(o -> distance(o, point))
+                        .filter(d -> d <= maxDistance)
+                        .min(Double::compare);
+                final Optional<CollidableGameObject> actual = this.query.nearest(point, maxDistance, types);
+                assertEquals(expected.isPresent(), actual.isPresent());
+                if (expected.isPresent()) {
+                    assertEquals(expected.get(), distance(actual.get(), point), DELTA);
+                    assertTrue(types.contains(actual.get().getCollisionType()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that looking for a type no moving object has, as far away as
+     * possible, only looks as far as the moving objects go, and that a
+     * distance that is not finite is rejected.
+     */
+    @Test
+    void testNearestStaticOnly() {
+        final Platform platform = new Platform(0, new Coord2D(WORLD, WORLD), this.size(), new LinkedList<>());
+        final BroadPhase broadPhase = new SpatialHashBroadPhase();
+        final SpatialQuery staticOnly = new SpatialQueryImpl(StaticColliderIndex.of(List.of(platform)),
+                broadPhase, o -> true);
+        final Set<CollisionType> platforms = Set.of(CollisionType.PLATFORM);
+
+        assertEquals(Optional.of(platform), staticOnly.nearest(new Coord2D(0, 0), Double.MAX_VALUE, platforms));
+        broadPhase.update(List.of(new Floor(1, new Coord2D(0, 0), this.size())));
+        assertEquals(Optional.of(platform), staticOnly.nearest(new Coord2D(0, 0), Double.MAX_VALUE, platforms));
+        assertThrows(IllegalArgumentException.class,
+                () -> staticOnly.nearest(new Coord2D(0, 0), Double.POSITIVE_INFINITY, platforms));
+        assertThrows(IllegalArgumentException.class,
+                () -> staticOnly.nearest(new Coord2D(0, 0), Double.NaN, platforms));
+    }
+
+    private List<CollidableGameObject> scan(final Predicate<CollidableGameObject> test,
+            final Set<CollisionType> types) {
+        return this.all.stream()
+                .filter(o -> types.contains(o.getCollisionType()))
+                .filter(test)
+                .sorted(PairwiseCollision.BY_ID)
+                .toList();
+    }
+
+    private static double distance(final CollidableGameObject object, final Coord2D point) {
+        final BoundingBox box = BoundingBox.of(object);
+        return Math.hypot(Math.max(0, Math.max(box.minX() - point.x(), point.x() - box.maxX())),
+                Math.max(0, Math.max(box.minY() - point.y(), point.y() - box.maxY())));
+    }
+
+    private Coord2D point() {
+        return new Coord2D(this.random.nextDouble() * WORLD, this.random.nextDouble() * WORLD);
+    }
+
+    private Dimension size() {
+        return new Dimension(1 + this.random.nextDouble() * MAX_SIZE, 1 + this.random.nextDouble() * MAX_SIZE);
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.CollisionDetector;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for the {@link OverlapKernel}s, checked against
+ * {@link CollisionDetector#isColliding}.
+ */
+class OverlapKernelTest {
+
+    private static final long SEED = 5;
+    private static final int COUNT = 200;
+    private static final int PAIRS = 1003;
+    private static final double WORLD = 300;
+    private static final double MAX_SIZE = 80;
+
+    /**
+     * Tests that every kernel agrees with the detector on random pairs, over a
+     * range whose length is not a multiple of any vector length.
+     */
+    @Test
+    void testMatchesDetector() {
+        final Random random = new Random(SEED);
+        final List<CollidableGameObject> objects = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            objects.add(new Floor(i,
+                    new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE)));
+        }
+        final AabbBuffer boxes = new AabbBuffer();
+        boxes.sync(objects);
+        final int[] first = random.ints(PAIRS, 0, COUNT).toArray();
+        final int[] second = random.ints(PAIRS, 0, COUNT).toArray();
+
+        for (final OverlapKernel kernel : kernels()) {
+            final boolean[] colliding = new boolean[PAIRS];
+            kernel.overlap(boxes, first, boxes, second, 1, PAIRS, colliding);
+            assertFalse(colliding[0]);
+            for (int k = 1; k < PAIRS; k++) {
+                assertEquals(CollisionDetector.isColliding(objects.get(first[k]), objects.get(second[k])),
+                        colliding[k]);
+            }
+        }
+    }
+
+    /**
+     * Tests that boxes sharing an edge do not overlap.
+     */
+    @Test
+    void testTouching() {
+        final AabbBuffer boxes = new AabbBuffer();
+        boxes.add(new Floor(0, new Coord2D(0, 0), new Dimension(10, 10)));
+        boxes.add(new Floor(1, new Coord2D(10, 0), new Dimension(10, 10)));
+        boxes.add(new Floor(2, new Coord2D(5, 5), new Dimension(10, 10)));
+        final int[] first = {0, 0, 1};
+        final int[] second = {1, 2, 2};
+        for (final OverlapKernel kernel : kernels()) {
+            final boolean[] colliding = new boolean[first.length];
+            kernel.overlap(boxes, first, boxes, second, 0, first.length, colliding);
+            assertFalse(colliding[0]);
+            assertTrue(colliding[1]);
+            assertTrue(colliding[2]);
+        }
+    }
+
+    private static List<OverlapKernel> kernels() {
+        final List<OverlapKernel> kernels = new ArrayList<>(List.of(new ScalarOverlapKernel(), OverlapKernels.best()));
+        OverlapKernels.vector().ifPresent(kernels::add);
+        return kernels;
+    }
+}
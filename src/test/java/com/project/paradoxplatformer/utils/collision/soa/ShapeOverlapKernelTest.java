@@ -0,0 +1,81 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.model.obstacles.Saw;
+import com.project.paradoxplatformer.model.player.PlayerModel;
+import com.project.paradoxplatformer.model.trigger.Floor;
+import com.project.paradoxplatformer.utils.collision.CollisionDetector;
+import com.project.paradoxplatformer.utils.collision.api.CollidableGameObject;
+import com.project.paradoxplatformer.utils.collision.api.CollisionShape;
+import com.project.paradoxplatformer.utils.geometries.Dimension;
+import com.project.paradoxplatformer.utils.geometries.coordinates.Coord2D;
+
+/**
+ * Unit tests for the {@link ShapeOverlapKernel}, checked against
+ * {@link CollisionDetector#isColliding}.
+ */
+class ShapeOverlapKernelTest {
+
+    private static final long SEED = 9;
+    private static final int COUNT = 200;
+    private static final int PAIRS = 2000;
+    private static final double WORLD = 200;
+    private static final double MAX_SIZE = 80;
+
+    /**
+     * Tests that the kernel agrees with the detector on random pairs of random
+     * shapes.
+     */
+    @Test
+    void testMatchesDetector() {
+        final Random random = new Random(SEED);
+        final CollisionShape[] shapes = CollisionShape.values();
+        final List<CollidableGameObject> objects = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            final Floor floor = new Floor(i,
+                    new Coord2D(random.nextDouble() * WORLD, random.nextDouble() * WORLD),
+                    new Dimension(1 + random.nextDouble() * MAX_SIZE, 1 + random.nextDouble() * MAX_SIZE));
+            floor.setCollisionShape(shapes[random.nextInt(shapes.length)]);
+            objects.add(floor);
+        }
+        final AabbBuffer boxes = new AabbBuffer();
+        boxes.sync(objects);
+        final int[] first = random.ints(PAIRS, 0, COUNT).toArray();
+        final int[] second = random.ints(PAIRS, 0, COUNT).toArray();
+
+        final boolean[] colliding = new boolean[PAIRS];
+        new ShapeOverlapKernel().overlap(boxes, first, boxes, second, 0, PAIRS, colliding);
+        int round = 0;
+        for (int k = 0; k < PAIRS; k++) {
+            final CollidableGameObject a = objects.get(first[k]);
+            final CollidableGameObject b = objects.get(second[k]);
+            assertEquals(CollisionDetector.isColliding(a, b), colliding[k]);
+            if (colliding[k] && a.getCollisionShape() != CollisionShape.AABB) {
+                round++;
+            }
+        }
+        assertTrue(round > 0);
+    }
+
+    /**
+     * Tests that a player grazing the corner of the box of a saw is not hit,
+     * while one reaching its blade is.
+     */
+    @Test
+    void testSawCorner() {
+        final Saw saw = new Saw(1, new Coord2D(0, 0), new Dimension(40, 40), new LinkedList<>());
+        final PlayerModel corner = new PlayerModel(0, new Coord2D(36, 36), new Dimension(10, 20));
+        final PlayerModel blade = new PlayerModel(0, new Coord2D(36, 15), new Dimension(10, 20));
+        assertFalse(CollisionDetector.isColliding(corner, saw));
+        assertTrue(CollisionDetector.isColliding(blade, saw));
+    }
+}
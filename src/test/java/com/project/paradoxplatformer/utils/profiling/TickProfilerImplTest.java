@@ -0,0 +1,73 @@
+package com.project.paradoxplatformer.utils.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TickProfilerImpl}, driven by a manual clock.
+ */
+class TickProfilerImplTest {
+
+    private static final int WINDOW = 100;
+
+    private enum Phase {
+        FIRST, SECOND
+    }
+
+    private AtomicLong clock;
+    private TickProfiler<Phase> profiler;
+
+    /**
+     * Sets up a profiler reading a manual clock.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        profiler = new TickProfilerImpl<>(Phase.class, WINDOW, clock::get);
+    }
+
+    private void tick(final long first, final long second) {
+        profiler.begin();
+        clock.addAndGet(first);
+        profiler.mark(Phase.FIRST);
+        clock.addAndGet(second);
+        profiler.mark(Phase.SECOND);
+        profiler.end();
+    }
+
+    /**
+     * Tests that phases are charged the time since the previous mark and ticks
+     * the time since they began.
+     */
+    @Test
+    void testPhaseDurations() {
+        tick(3, 7);
+        assertEquals(new PhaseStatistics(1, 3, 3, 3), profiler.phase(Phase.FIRST));
+        assertEquals(new PhaseStatistics(1, 7, 7, 7), profiler.phases().get(Phase.SECOND));
+        assertEquals(new PhaseStatistics(1, 10, 10, 10), profiler.tick());
+    }
+
+    /**
+     * Tests the percentiles and that only the most recent samples are kept.
+     */
+    @Test
+    void testRollingPercentiles() {
+        tick(1_000, 0); // pushed out of the window below
+        for (int i = 1; i <= WINDOW; i++) {
+            tick(i, 0);
+        }
+        assertEquals(new PhaseStatistics(WINDOW, 50, 99, 100), profiler.phase(Phase.FIRST));
+    }
+
+    /**
+     * Tests that phases never recorded have empty statistics.
+     */
+    @Test
+    void testEmpty() {
+        assertEquals(PhaseStatistics.EMPTY, profiler.phase(Phase.FIRST));
+        assertEquals(PhaseStatistics.EMPTY, profiler.tick());
+    }
+}
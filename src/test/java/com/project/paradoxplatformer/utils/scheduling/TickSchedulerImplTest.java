@@ -0,0 +1,128 @@
+package com.project.paradoxplatformer.utils.scheduling;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.paradoxplatformer.utils.profiling.TickProfiler;
+import com.project.paradoxplatformer.utils.profiling.TickProfilerImpl;
+
+/**
+ * Unit tests for {@link TickSchedulerImpl}, checking how stages are batched
+ * and that non conflicting stages actually run in parallel.
+ */
+class TickSchedulerImplTest {
+
+    private static final long TIMEOUT = 5;
+
+    private enum Phase { MOVE, CHECK, DRAW, CLEAN }
+
+    private enum Resource { STATE, FLAGS, IMAGE }
+
+    private ForkJoinPool pool;
+    private TickProfiler<Phase> profiler;
+    private TickScheduler<Phase, Resource> scheduler;
+    private Queue<Phase> executed;
+
+    /**
+     * Sets up a scheduler on a dedicated pool.
+     */
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        profiler = new TickProfilerImpl<>(Phase.class);
+        scheduler = new TickSchedulerImpl<>(profiler, Runnable::run, pool);
+        executed = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private TickStage<Phase, Resource> stage(
+            final Phase phase, final EnumSet<Resource> reads, final EnumSet<Resource> writes) {
+        return new TickStage<>(phase, reads, writes, () -> executed.add(phase));
+    }
+
+    /**
+     * Tests that stages only reading the same resources share a batch, while
+     * writers wait for the previous users of their resources.
+     */
+    @Test
+    void testPlan() {
+        scheduler.add(stage(Phase.MOVE, EnumSet.noneOf(Resource.class), EnumSet.of(Resource.STATE)));
+        scheduler.add(stage(Phase.CHECK, EnumSet.of(Resource.STATE), EnumSet.of(Resource.FLAGS)));
+        scheduler.add(stage(Phase.DRAW, EnumSet.of(Resource.STATE), EnumSet.of(Resource.IMAGE)));
+        scheduler.add(stage(Phase.CLEAN, EnumSet.noneOf(Resource.class), EnumSet.of(Resource.STATE)));
+        assertEquals(List.of(List.of(Phase.MOVE), List.of(Phase.CHECK, Phase.DRAW), List.of(Phase.CLEAN)),
+                scheduler.plan());
+
+        scheduler.run();
+        assertEquals(Phase.MOVE, executed.poll());
+        assertEquals(EnumSet.of(Phase.CHECK, Phase.DRAW), EnumSet.of(executed.poll(), executed.poll()));
+        assertEquals(Phase.CLEAN, executed.poll());
+        assertEquals(1, profiler.phase(Phase.DRAW).samples());
+        assertEquals(1, profiler.tick().samples());
+    }
+
+    /**
+     * Tests that a stage can be inserted before an existing one.
+     */
+    @Test
+    void testAddBefore() {
+        scheduler.add(stage(Phase.MOVE, EnumSet.noneOf(Resource.class), EnumSet.of(Resource.STATE)));
+        scheduler.add(stage(Phase.DRAW, EnumSet.of(Resource.STATE), EnumSet.of(Resource.IMAGE)));
+        scheduler.addBefore(Phase.MOVE, stage(Phase.CLEAN, EnumSet.noneOf(Resource.class),
+                EnumSet.of(Resource.STATE)));
+        assertEquals(List.of(List.of(Phase.CLEAN), List.of(Phase.MOVE), List.of(Phase.DRAW)), scheduler.plan());
+    }
+
+    /**
+     * Tests that stages of the same batch run at the same time.
+     */
+    @Test
+    void testParallel() {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Runnable meet = () -> {
+            latch.countDown();
+            try {
+                assertTrue(latch.await(TIMEOUT, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        scheduler.add(new TickStage<>(Phase.CHECK, EnumSet.of(Resource.STATE), EnumSet.noneOf(Resource.class), meet));
+        scheduler.add(new TickStage<>(Phase.DRAW, EnumSet.of(Resource.STATE), EnumSet.noneOf(Resource.class), meet));
+        scheduler.run();
+        assertEquals(0, latch.getCount());
+    }
+
+    /**
+     * Tests that phases cannot be declared twice, nor inserted before missing
+     * stages.
+     */
+    @Test
+    void testInvalidStages() {
+        scheduler.add(stage(Phase.MOVE, EnumSet.noneOf(Resource.class), EnumSet.of(Resource.STATE)));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.add(stage(Phase.MOVE, EnumSet.noneOf(Resource.class), EnumSet.noneOf(Resource.class))));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.addBefore(Phase.DRAW, stage(Phase.CHECK, EnumSet.noneOf(Resource.class),
+                        EnumSet.noneOf(Resource.class))));
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.paradoxplatformer.utils.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link GameClockImpl}.
+ */
+class GameClockImplTest {
+
+    private static final long STEP = 25_000_000L;
+
+    private GameClock clock;
+
+    /**
+     * Sets up a fresh clock.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = new GameClockImpl();
+    }
+
+    /**
+     * Tests that the clock only moves when advanced and is frozen while paused.
+     */
+    @Test
+    void testAdvanceAndPause() {
+        assertEquals(0, clock.now());
+        clock.advance(STEP);
+        assertEquals(STEP, clock.now());
+        assertEquals(STEP / 1_000_000L, clock.millis());
+
+        clock.pause();
+        clock.advance(STEP);
+        assertEquals(STEP, clock.now());
+        assertEquals(0, clock.scale(STEP));
+
+        clock.resume();
+        clock.advance(STEP);
+        assertEquals(2 * STEP, clock.now());
+    }
+
+    /**
+     * Tests that wall time is scaled by the rate.
+     */
+    @Test
+    void testRate() {
+        assertEquals(STEP, clock.scale(STEP));
+        clock.setRate(0.5);
+        assertEquals(STEP / 2, clock.scale(STEP));
+        clock.setRate(2);
+        assertEquals(2 * STEP, clock.scale(STEP));
+    }
+
+    /**
+     * Tests that invalid values are rejected.
+     */
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> clock.advance(-1));
+        assertThrows(IllegalArgumentException.class, () -> clock.setRate(-1));
+        assertThrows(IllegalArgumentException.class, () -> clock.setRate(Double.NaN));
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.paradoxplatformer.utils.collision.soa;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An {@link OverlapKernel} testing as many pairs at once as the preferred
+ * vector shape of the platform holds, using the incubating Vector API.
+ * <p>
+ * The sides of the boxes are gathered from the buffers through the index
+ * arrays, compared lane by lane, and the pairs left over at the end of the
+ * range are tested one at a time. It must only be loaded through
+ * {@link OverlapKernels}, which checks that the Vector API is available.
+ * </p>
+ */
+public final class VectorOverlapKernel implements OverlapKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final OverlapKernel tail = new ScalarOverlapKernel();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void overlap(final AabbBuffer a, final int[] first, final AabbBuffer b, final int[] second,
+            final int from, final int to, final boolean[] colliding) {
+        final int lanes = SPECIES.length();
+        int k = from;
+        for (; k + lanes <= to; k += lanes) {
+            final VectorMask<Double> overlapping = lessThan(a.minX(), first, b.maxX(), second, k)
+                    .and(lessThan(b.minX(), second, a.maxX(), first, k))
+                    .and(lessThan(a.minY(), first, b.maxY(), second, k))
+                    .and(lessThan(b.minY(), second, a.maxY(), first, k));
+            overlapping.intoArray(colliding, k);
+        }
+        this.tail.overlap(a, first, b, second, k, to, colliding);
+    }
+
+    private static VectorMask<Double> lessThan(final double[] left, final int[] leftIndices,
+            final double[] right, final int[] rightIndices, final int k) {
+        return DoubleVector.fromArray(SPECIES, left, 0, leftIndices, k)
+                .compare(VectorOperators.LT, DoubleVector.fromArray(SPECIES, right, 0, rightIndices, k));
+    }
+}